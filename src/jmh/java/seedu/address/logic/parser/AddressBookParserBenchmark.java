@@ -0,0 +1,114 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DIAGNOSIS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HEIGHT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEIGHT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.AddPatientCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.EditPatientCommand;
+import seedu.address.logic.commands.FindPatientCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.testutil.SyntheticAddressBooks;
+
+/**
+ * Measures parsing a batch of {@code size} user inputs with {@code AddressBookParser#parseCommand(String)}.
+ * The inputs cycle through adding, editing and finding patients. The average time per operation should grow
+ * linearly with {@code size}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private List<String> userInputs;
+
+    /**
+     * Builds {@code size} user inputs from synthetic patients.
+     */
+    @Setup
+    public void setUp() {
+        userInputs = new ArrayList<>(size);
+        List<Patient> patients = SyntheticAddressBooks.generatePatients(size);
+        for (int i = 0; i < size; i++) {
+            Patient patient = patients.get(i);
+            switch (i % 3) {
+            case 0:
+                userInputs.add(AddPatientCommand.COMMAND_WORD + getPatientDetails(patient));
+                break;
+            case 1:
+                userInputs.add(EditPatientCommand.COMMAND_WORD + " " + (i % 50 + 1) + " "
+                        + PREFIX_PHONE + patient.getPhone().getValue() + " "
+                        + PREFIX_REMARK + patient.getRemark().getValue());
+                break;
+            default:
+                userInputs.add(FindPatientCommand.COMMAND_WORD + " "
+                        + PREFIX_NAME + patient.getName().getValue().split(" ")[0] + " "
+                        + PREFIX_DIAGNOSIS + patient.getDiagnosis().getValue());
+                break;
+            }
+        }
+    }
+
+    /**
+     * Parses every user input.
+     */
+    @Benchmark
+    public int parseCommand() throws ParseException {
+        int parsed = 0;
+        for (String userInput : userInputs) {
+            Command command = parser.parseCommand(userInput);
+            if (command != null) {
+                parsed++;
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Returns the arguments of an {@code add-ptn} command for {@code patient}.
+     */
+    static String getPatientDetails(Patient patient) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(" ").append(PREFIX_NAME).append(patient.getName().getValue())
+                .append(" ").append(PREFIX_PHONE).append(patient.getPhone().getValue())
+                .append(" ").append(PREFIX_EMAIL).append(patient.getEmail().getValue())
+                .append(" ").append(PREFIX_HEIGHT).append(patient.getHeight().getValue())
+                .append(" ").append(PREFIX_WEIGHT).append(patient.getWeight().getValue())
+                .append(" ").append(PREFIX_DIAGNOSIS).append(patient.getDiagnosis().getValue())
+                .append(" ").append(PREFIX_STATUS).append(patient.getStatus().getValue())
+                .append(" ").append(PREFIX_REMARK).append(patient.getRemark().getValue());
+        patient.getTags().forEach(tag -> builder.append(" ").append(PREFIX_TAG).append(tag.getTagName()));
+        return builder.toString();
+    }
+}
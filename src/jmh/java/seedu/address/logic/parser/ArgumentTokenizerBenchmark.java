@@ -0,0 +1,75 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DIAGNOSIS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HEIGHT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEIGHT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.patient.Patient;
+import seedu.address.testutil.SyntheticAddressBooks;
+
+/**
+ * Measures tokenizing the arguments of {@code size} {@code add-ptn} commands with
+ * {@code ArgumentTokenizer#tokenize(String, Prefix...)}. The average time per operation should grow linearly
+ * with {@code size}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<String> argsStrings;
+
+    /**
+     * Builds the arguments of {@code size} {@code add-ptn} commands from synthetic patients.
+     */
+    @Setup
+    public void setUp() {
+        argsStrings = new ArrayList<>(size);
+        for (Patient patient : SyntheticAddressBooks.generatePatients(size)) {
+            argsStrings.add(AddressBookParserBenchmark.getPatientDetails(patient));
+        }
+    }
+
+    /**
+     * Tokenizes every arguments string with the prefixes of {@code add-ptn}.
+     */
+    @Benchmark
+    public int tokenize() {
+        int values = 0;
+        for (String argsString : argsStrings) {
+            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, PREFIX_NAME, PREFIX_PHONE,
+                    PREFIX_EMAIL, PREFIX_HEIGHT, PREFIX_WEIGHT, PREFIX_DIAGNOSIS, PREFIX_STATUS, PREFIX_REMARK,
+                    PREFIX_TAG);
+            values += argMultimap.getAllValues(PREFIX_TAG).size();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.testutil.SyntheticAddressBooks;
+
+/**
+ * Measures how {@code AddressBook#resetData(ReadOnlyAddressBook)} scales with the number of records.
+ * The average time per operation should grow linearly with {@code size}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AddressBookBenchmark {
+
+    @Param({"1000", "10000", "50000", "100000"})
+    private int size;
+
+    private AddressBook source;
+    private AddressBook target;
+
+    /**
+     * Builds an address book with {@code size} patients and a proportional number of doctors.
+     */
+    @Setup
+    public void setUp() {
+        source = SyntheticAddressBooks.generate(size);
+        target = new AddressBook();
+    }
+
+    /**
+     * Replaces the contents of an address book with {@code source}, as done on startup and by
+     * {@code Model#setAddressBook(ReadOnlyAddressBook)}.
+     */
+    @Benchmark
+    public AddressBook resetData() {
+        target.resetData(source);
+        return target;
+    }
+}
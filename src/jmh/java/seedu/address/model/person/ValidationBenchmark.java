@@ -0,0 +1,107 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.patient.Height;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.model.person.patient.Status;
+import seedu.address.model.person.patient.Weight;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.SyntheticAddressBooks;
+
+/**
+ * Compares validating the fields of {@code size} patients, as done for every record read from a data file,
+ * against the previous implementation, which called {@code String#matches} and so compiled each regex on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private static final String NAME_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final String PHONE_REGEX = "\\d{3,}";
+    private static final String HEIGHT_REGEX = "^\\s*\\d{1}\\.\\d{2}\\s*$";
+    private static final String WEIGHT_REGEX = "^\\s*\\d+(\\.\\d)?\\s*$";
+    private static final String STATUS_REGEX = "(?i)^(Inpatient|Outpatient|Observation|Emergency Department"
+            + "|Intensive Care Unit|Transitional Care)$";
+    private static final String TAG_REGEX = "\\p{Alnum}+";
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<String[]> records;
+
+    /**
+     * Builds {@code size} patients and keeps the strings of the fields to validate, as read from a data file.
+     */
+    @Setup
+    public void setUp() {
+        records = new ArrayList<>(size);
+        for (Patient patient : SyntheticAddressBooks.generatePatients(size)) {
+            List<String> fields = new ArrayList<>(List.of(patient.getName().getValue(),
+                    patient.getPhone().getValue(), patient.getEmail().getValue(), patient.getHeight().getValue(),
+                    patient.getWeight().getValue(), patient.getStatus().getValue()));
+            patient.getTags().forEach(tag -> fields.add(tag.getTagName()));
+            records.add(fields.toArray(new String[0]));
+        }
+    }
+
+    /**
+     * Validates every field of every record.
+     */
+    @Benchmark
+    public int isValid() {
+        int valid = 0;
+        for (String[] fields : records) {
+            boolean isValid = Name.isValidName(fields[0])
+                    && Phone.isValidPhone(fields[1])
+                    && Email.isValidEmail(fields[2])
+                    && Height.isValidHeight(fields[3])
+                    && Weight.isValidWeight(fields[4])
+                    && Status.isValidStatus(fields[5]);
+            for (int i = 6; i < fields.length; i++) {
+                isValid = isValid && Tag.isValidTagName(fields[i]);
+            }
+            valid += isValid ? 1 : 0;
+        }
+        return valid;
+    }
+
+    /**
+     * Validates every field of every record the way the value classes did before their patterns were precompiled.
+     */
+    @Benchmark
+    public int isValidWithStringMatches() {
+        int valid = 0;
+        for (String[] fields : records) {
+            boolean isValid = fields[0].matches(NAME_REGEX)
+                    && fields[1].matches(PHONE_REGEX)
+                    && fields[2].matches(Email.VALIDATION_REGEX)
+                    && fields[3].matches(HEIGHT_REGEX)
+                    && fields[4].matches(WEIGHT_REGEX) && !fields[4].equals("0") && !fields[4].equals("0.0")
+                    && fields[5].matches(STATUS_REGEX);
+            for (int i = 6; i < fields.length; i++) {
+                isValid = isValid && fields[i].matches(TAG_REGEX);
+            }
+            valid += isValid ? 1 : 0;
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.person.patient;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.testutil.SyntheticAddressBooks;
+
+/**
+ * Compares {@code PatientFilter#isMatch(Patient)} against the previous implementation, which lowercased the filter
+ * and the patient's fields and collected the tags into new sets on every call.
+ * Run with {@code -prof gc} to see that the current implementation does not allocate per patient.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PatientFilterBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    /** Filters on the name only, on several fields, and on several fields and a tag. */
+    @Param({"name", "fields", "fieldsAndTag"})
+    private String filterKind;
+
+    private List<Patient> patients;
+    private PatientFilter filter;
+
+    /**
+     * Builds {@code size} patients and the filter to match them against.
+     */
+    @Setup
+    public void setUp() {
+        patients = SyntheticAddressBooks.generatePatients(size);
+        switch (filterKind) {
+        case "name":
+            filter = new PatientFilter("yeoh", "", "", "", "", "", "", "", Set.of());
+            break;
+        case "fields":
+            filter = new PatientFilter("yeoh", "", "example", "", "", "ASTHMA", "", "", Set.of());
+            break;
+        default:
+            filter = new PatientFilter("yeoh", "", "example", "", "", "ASTHMA", "", "", Set.of("allergic"));
+            break;
+        }
+    }
+
+    /**
+     * Matches every patient against the filter.
+     */
+    @Benchmark
+    public int isMatch() {
+        int matches = 0;
+        for (Patient patient : patients) {
+            if (filter.isMatch(patient)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Matches every patient against the filter the way {@code isMatch} did before filters were compiled.
+     */
+    @Benchmark
+    public int isMatchUncompiled() {
+        List<String> substringFilters = filter.getSubstringFilters();
+        int matches = 0;
+        for (Patient patient : patients) {
+            if (isMatchUncompiled(patient, substringFilters)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private boolean isMatchUncompiled(Patient patient, List<String> substringFilters) {
+        boolean result = true;
+        for (int i = 0; i < substringFilters.size(); i++) {
+            result = result && StringUtil.containsSubstringIgnoreCase(
+                    PatientFilter.SUBSTRING_FIELDS.get(i).apply(patient), substringFilters.get(i));
+        }
+        if ("fieldsAndTag".equals(filterKind)) {
+            Set<String> tagStringSet = patient
+                    .getTags()
+                    .stream()
+                    .map(tag -> tag.getTagName().toLowerCase())
+                    .collect(Collectors.toSet());
+            result = result && tagStringSet.containsAll(Set.of("allergic")
+                    .stream()
+                    .map(String::toLowerCase)
+                    .collect(Collectors.toSet()));
+        }
+        return result;
+    }
+}
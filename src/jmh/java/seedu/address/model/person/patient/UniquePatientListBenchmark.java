@@ -0,0 +1,73 @@
+package seedu.address.model.person.patient;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.testutil.SyntheticAddressBooks;
+
+/**
+ * Measures adding patients to a {@code UniquePatientList} one at a time and checking if it contains them.
+ * The average time per operation should grow linearly with {@code size}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UniquePatientListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Patient> patients;
+    private UniquePatientList filledList;
+
+    /**
+     * Builds {@code size} patients and a list that contains them.
+     */
+    @Setup
+    public void setUp() {
+        patients = SyntheticAddressBooks.generatePatients(size);
+        filledList = new UniquePatientList();
+        filledList.setPatients(patients);
+    }
+
+    /**
+     * Adds every patient to an empty list, as done by repeated {@code add-ptn} commands.
+     */
+    @Benchmark
+    public UniquePatientList add() {
+        UniquePatientList list = new UniquePatientList();
+        for (Patient patient : patients) {
+            list.add(patient);
+        }
+        return list;
+    }
+
+    /**
+     * Checks that the list contains every patient, as done before adding or editing a patient.
+     */
+    @Benchmark
+    public int contains() {
+        int found = 0;
+        for (Patient patient : patients) {
+            if (filledList.contains(patient)) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+import seedu.address.testutil.SyntheticAddressBooks;
+
+/**
+ * Measures saving an address book of {@code size} patients to a data file and reading it back with
+ * {@code JsonAddressBookStorage}, as done when a command changes the data and on the next startup.
+ * The average time per operation should grow linearly with {@code size}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Path folder;
+    private JsonAddressBookStorage storage;
+    private AddressBook addressBook;
+    private int edits;
+
+    /**
+     * Builds an address book with {@code size} patients and a storage in a new temporary folder.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("docedex-benchmark");
+        storage = new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        addressBook = SyntheticAddressBooks.generate(size);
+    }
+
+    /**
+     * Deletes the temporary folder and the data file in it.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook saveAndRead() throws IOException, DataConversionException {
+        storage.saveAddressBook(addressBook);
+        return storage.readAddressBook().get();
+    }
+
+    /**
+     * Saves the address book after replacing one patient with an edited copy, as done after an edit command.
+     * Only the edited patient is serialized again, as the other patients are the same objects as in the last save.
+     */
+    @Benchmark
+    public void saveAfterEdit() throws IOException {
+        Patient patient = addressBook.getPatientList().get(0);
+        addressBook.setPatient(patient, new PatientBuilder(patient).withRemark("Edit " + edits++).build());
+        storage.saveAddressBook(addressBook);
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.SyntheticAddressBooks;
+
+/**
+ * Measures converting an address book of {@code size} patients, as read from a data file, into the model with
+ * {@code JsonSerializableAddressBook#toModelType()}. This includes validating every field and linking doctors
+ * to their patients. The average time per operation should grow linearly with {@code size}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JsonSerializableAddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private JsonSerializableAddressBook serializableAddressBook;
+
+    /**
+     * Builds the serializable form of an address book with {@code size} patients.
+     */
+    @Setup
+    public void setUp() {
+        serializableAddressBook = new JsonSerializableAddressBook(SyntheticAddressBooks.generate(size));
+    }
+
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return serializableAddressBook.toModelType();
+    }
+}
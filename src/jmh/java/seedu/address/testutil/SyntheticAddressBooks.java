@@ -0,0 +1,57 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+
+/**
+ * Generates address books of a given size for benchmarks.
+ * The same size always gives the same address book, so that results can be compared between runs.
+ */
+public class SyntheticAddressBooks {
+
+    /** One doctor is generated for every {@code PATIENTS_PER_DOCTOR} patients. */
+    public static final int PATIENTS_PER_DOCTOR = 10;
+
+    private static final long SEED = 2103;
+
+    /**
+     * Returns {@code count} unassigned patients.
+     */
+    public static List<Patient> generatePatients(int count) {
+        Random random = new Random(SEED);
+        List<Patient> patients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            patients.add(new SyntheticPatientBuilder(i, random).build());
+        }
+        return patients;
+    }
+
+    /**
+     * Returns an address book with {@code patientCount} patients and one doctor for every
+     * {@code PATIENTS_PER_DOCTOR} of them. Every patient is assigned one doctor, and some a second one.
+     */
+    public static AddressBook generate(int patientCount) {
+        Random random = new Random(SEED + 1);
+        List<Patient> patients = generatePatients(patientCount);
+        List<Doctor> doctors = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, patientCount / PATIENTS_PER_DOCTOR); i++) {
+            doctors.add(new SyntheticDoctorBuilder(i, random).build());
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPatients(patients);
+        addressBook.setDoctors(doctors);
+        for (int i = 0; i < patients.size(); i++) {
+            addressBook.assignPatient(doctors.get(i % doctors.size()), patients.get(i));
+            if (random.nextInt(4) == 0) {
+                addressBook.assignPatient(doctors.get(random.nextInt(doctors.size())), patients.get(i));
+            }
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.testutil;
+
+import static seedu.address.testutil.SyntheticPatientBuilder.FAMILY_NAMES;
+import static seedu.address.testutil.SyntheticPatientBuilder.GIVEN_NAMES;
+import static seedu.address.testutil.SyntheticPatientBuilder.pick;
+
+import java.util.Random;
+
+/**
+ * A {@code DoctorBuilder} that fills in varied but valid details for benchmarks.
+ */
+public class SyntheticDoctorBuilder extends DoctorBuilder {
+
+    public static final String[] SPECIALTIES = {"General Medicine", "Cardiology", "Orthopaedic", "Neurosurgery",
+        "Paediatrics", "Anaesthesia", "Dermatology"};
+    public static final String[] TAGS = {"HoD", "consultant", "resident", "oncall"};
+
+    /**
+     * Creates a {@code SyntheticDoctorBuilder} for the doctor numbered {@code id}, with details drawn
+     * from {@code random}. Doctors with different ids have different names.
+     */
+    public SyntheticDoctorBuilder(int id, Random random) {
+        String givenName = pick(random, GIVEN_NAMES);
+        withName("Dr " + givenName + " " + pick(random, FAMILY_NAMES) + " " + id);
+        withPhone(String.valueOf(60000000 + random.nextInt(20000000)));
+        withEmail(givenName.replace(" ", "").toLowerCase() + id + "@hospital.org");
+        withSpecialty(pick(random, SPECIALTIES));
+        withYoe(String.valueOf(random.nextInt(40)));
+        withTags(random.nextInt(4) == 0 ? new String[] {pick(random, TAGS)} : new String[0]);
+    }
+}
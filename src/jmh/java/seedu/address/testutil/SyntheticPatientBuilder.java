@@ -0,0 +1,44 @@
+package seedu.address.testutil;
+
+import java.util.Random;
+
+/**
+ * A {@code PatientBuilder} that fills in varied but valid details for benchmarks.
+ * The details are drawn from small vocabularies, so that searches match a realistic share of patients.
+ */
+public class SyntheticPatientBuilder extends PatientBuilder {
+
+    public static final String[] GIVEN_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling",
+        "Siti", "Rajesh", "Mei", "Ahmad", "Priya"};
+    public static final String[] FAMILY_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Wong", "Kumar", "Goh", "Ng"};
+    public static final String[] DIAGNOSES = {"Asthma", "Influenza", "Type 2 Diabetes", "Hypertension", "Pneumonia",
+        "Fractured Wrist", "Migraine", "Dengue Fever"};
+    public static final String[] STATUSES = {"Inpatient", "Outpatient", "Observation", "Emergency Department",
+        "Intensive Care Unit", "Transitional Care"};
+    public static final String[] TAGS = {"elderly", "diabetic", "allergic", "smoker", "pregnant", "paediatric"};
+
+    /**
+     * Creates a {@code SyntheticPatientBuilder} for the patient numbered {@code id}, with details drawn
+     * from {@code random}. Patients with different ids have different names.
+     */
+    public SyntheticPatientBuilder(int id, Random random) {
+        String givenName = pick(random, GIVEN_NAMES);
+        withName(givenName + " " + pick(random, FAMILY_NAMES) + " " + id);
+        withPhone(String.valueOf(80000000 + random.nextInt(20000000)));
+        withEmail(givenName.replace(" ", "").toLowerCase() + id + "@example.com");
+        withHeight("1." + (40 + random.nextInt(60)));
+        withWeight(String.valueOf(35 + random.nextInt(90)));
+        withDiagnosis(pick(random, DIAGNOSES));
+        withStatus(pick(random, STATUSES));
+        withRemark("Review in " + (1 + random.nextInt(12)) + " weeks");
+        withTags(random.nextInt(3) == 0 ? new String[] {pick(random, TAGS)} : new String[0]);
+    }
+
+    /**
+     * Returns a random element of {@code values}.
+     */
+    static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
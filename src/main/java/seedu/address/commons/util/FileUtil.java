@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 /**
  * Writes and reads files
@@ -80,4 +82,26 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Creates an empty temporary file in the directory of {@code file}, creating the directory if it is missing.
+     * Moving the temporary file over {@code file} then stays within one file system.
+     */
+    public static Path createTempFileBeside(Path file) throws IOException {
+        Path parentDir = file.toAbsolutePath().getParent();
+        Files.createDirectories(parentDir);
+        return Files.createTempFile(parentDir, file.getFileName().toString(), ".tmp");
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} if it exists.
+     * The move is atomic if the file system supports it, so {@code target} is never seen partially written.
+     */
+    public static void moveReplacingExisting(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
 }
@@ -0,0 +1,69 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of shared instances of an immutable value class, keyed by the string each instance is constructed from.
+ * Only values that are repeated across many records, such as tags, are worth pooling.
+ * Once the pool holds {@code capacity} instances, further values are constructed without being pooled,
+ * so that the pool cannot grow without bound.
+ *
+ * @param <T> the type of the pooled instances.
+ */
+public class InternPool<T> {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final Map<String, T> instances = new ConcurrentHashMap<>();
+    private final Function<String, T> constructor;
+    private final int capacity;
+
+    /**
+     * Constructs an empty {@code InternPool} that holds up to {@link #DEFAULT_CAPACITY} instances.
+     *
+     * @param constructor constructs an instance from a string, throwing an exception if the string is not valid.
+     */
+    public InternPool(Function<String, T> constructor) {
+        this(constructor, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty {@code InternPool} that holds up to {@code capacity} instances.
+     *
+     * @param constructor constructs an instance from a string, throwing an exception if the string is not valid.
+     */
+    public InternPool(Function<String, T> constructor, int capacity) {
+        requireNonNull(constructor);
+        this.constructor = constructor;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the pooled instance for {@code value}, constructing and pooling it if there is none.
+     * Any exception thrown by the constructor is passed on, and nothing is pooled for {@code value}.
+     */
+    public T intern(String value) {
+        requireNonNull(value);
+        T instance = instances.get(value);
+        if (instance != null) {
+            return instance;
+        }
+        if (instances.size() >= capacity) {
+            return constructor.apply(value);
+        }
+        return instances.computeIfAbsent(value, constructor);
+    }
+
+    /**
+     * Returns true if an instance has been pooled for {@code value}.
+     * Such a value was accepted by the constructor, so it need not be validated again.
+     */
+    public boolean contains(String value) {
+        requireNonNull(value);
+        return instances.containsKey(value);
+    }
+}
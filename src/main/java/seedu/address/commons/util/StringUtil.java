@@ -85,4 +85,26 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code c} is one of the ASCII digits, which are the characters {@code \d} matches in a regex.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is one of the whitespace characters {@code \s} matches in a regex.
+     */
+    public static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, which are the characters {@code \p{Alnum}} matches
+     * in a regex.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
 }
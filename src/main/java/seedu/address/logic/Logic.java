@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -26,6 +28,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Waits until the changes made by executed commands have been saved.
+     *
+     * @throws IOException if the last save failed.
+     */
+    void flushPendingSaves() throws IOException;
+
+    /**
+     * Sets {@code listener} to be called with an error message when saving the changes made by a command fails.
+     * Changes are saved in the background, so the listener may be called on another thread.
+     */
+    void setSaveFailureListener(Consumer<String> listener);
+
     /**
      * Returns the AddressBook.
      *
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -19,11 +20,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.doctor.Doctor;
-import seedu.address.model.person.doctor.DoctorContainsKeywordsPredicate;
-import seedu.address.model.person.doctor.DoctorFilter;
 import seedu.address.model.person.patient.Patient;
-import seedu.address.model.person.patient.PatientContainsKeywordsPredicate;
-import seedu.address.model.person.patient.PatientFilter;
+import seedu.address.storage.AddressBookSaveService;
 import seedu.address.storage.Storage;
 
 /**
@@ -34,7 +32,7 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AddressBookSaveService saveService;
     private final AddressBookParser addressBookParser;
 
     /**
@@ -42,7 +40,7 @@ public class LogicManager implements Logic {
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
+        this.saveService = new AddressBookSaveService(storage);
         addressBookParser = new AddressBookParser();
     }
 
@@ -52,17 +50,28 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            commandResult = command.execute(model);
+        } finally {
+            // The changes made by the command, if any, are undone together
+            model.commitAddressBook();
         }
 
+        saveService.requestSave(model.getAddressBook());
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureListener(Consumer<String> listener) {
+        requireNonNull(listener);
+        saveService.setFailureListener(ioe -> listener.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    @Override
+    public void flushPendingSaves() throws IOException {
+        saveService.flush();
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -98,22 +107,15 @@ public class LogicManager implements Logic {
     @Override
     public void updateFilteredPatientListBasedOnDoctor(Doctor doctor) {
         requireNonNull(doctor);
-        PatientFilter patientContainsDoctor =
-                new PatientFilter(doctor);
-        Predicate<Patient> patientsOfDoctorPredicate =
-                new PatientContainsKeywordsPredicate(patientContainsDoctor);
+        Predicate<Patient> patientsOfDoctorPredicate = patient -> model.isAssigned(doctor, patient);
         this.updateFilteredPatientList(patientsOfDoctorPredicate);
     }
 
     @Override
     public void updateFilteredDoctorListBasedOnPatient(Patient patient) {
         requireNonNull(patient);
-        DoctorFilter doctorContainsPatient =
-                new DoctorFilter(patient);
-        Predicate<Doctor> doctorsOfPatientPredicate =
-                new DoctorContainsKeywordsPredicate(doctorContainsPatient);
+        Predicate<Doctor> doctorsOfPatientPredicate = doctor -> model.isAssigned(doctor, patient);
         this.updateFilteredDoctorList(doctorsOfPatientPredicate);
-
     }
 
     @Override
@@ -5,7 +5,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT;
 
 import java.util.List;
-import java.util.Set;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -70,64 +69,14 @@ public class AssignPatientCommand extends Command implements CommandInterface {
         Patient patientToAssign = lastShownPatientList.get(patientIndex.getZeroBased());
         Doctor doctorToAssign = lastShownDoctorList.get(doctorIndex.getZeroBased());
 
-        Doctor doctorWithAssign = createDoctorWithAssign(doctorToAssign, patientToAssign);
-        Patient patientWithAssign = createPatientWithAssign(doctorToAssign, patientToAssign);
-
-        model.setDoctor(doctorToAssign, doctorWithAssign);
-        model.setPatient(patientToAssign, patientWithAssign);
-        return new CommandResult(String.format(MESSAGE_ASSIGN_PATIENT_SUCCESS,
-                patientToAssign.getName().getValue(),
-                doctorToAssign.getName().getValue()), patientWithAssign);
-    }
-
-    private static Doctor createDoctorWithAssign(Doctor doctorToAssign, Patient patientToAssign)
-            throws CommandException {
-        assert doctorToAssign != null;
-        assert patientToAssign != null;
-        Set<Patient> patientsSet = doctorToAssign.getPatients();
-
-        if (patientsSet.contains(patientToAssign)) {
+        if (!model.assignPatient(doctorToAssign, patientToAssign)) {
             throw new CommandException(String.format(MESSAGE_PATIENT_ALREADY_ASSIGNED,
                     patientToAssign.getName().getValue(),
                     doctorToAssign.getName().getValue()));
         }
-
-        patientsSet.add(patientToAssign);
-
-
-        return new Doctor(doctorToAssign.getName(),
-                doctorToAssign.getPhone(),
-                doctorToAssign.getEmail(),
-                doctorToAssign.getSpecialty(),
-                doctorToAssign.getYoe(),
-                doctorToAssign.getTags(),
-                patientsSet);
-    }
-
-    private static Patient createPatientWithAssign(Doctor doctorToAssign, Patient patientToAssign)
-            throws CommandException {
-        assert doctorToAssign != null;
-        assert patientToAssign != null;
-        Set<Doctor> doctorsSet = patientToAssign.getDoctors();
-
-        if (doctorsSet.contains(doctorToAssign)) {
-            throw new CommandException(String.format(MESSAGE_PATIENT_ALREADY_ASSIGNED,
-                    patientToAssign.getName().getValue(),
-                    doctorToAssign.getName().getValue()));
-        }
-
-        doctorsSet.add(doctorToAssign);
-
-        return new Patient(patientToAssign.getName(),
-                patientToAssign.getPhone(),
-                patientToAssign.getEmail(),
-                patientToAssign.getHeight(),
-                patientToAssign.getWeight(),
-                patientToAssign.getDiagnosis(),
-                patientToAssign.getStatus(),
-                patientToAssign.getRemark(),
-                patientToAssign.getTags(),
-                doctorsSet);
+        return new CommandResult(String.format(MESSAGE_ASSIGN_PATIENT_SUCCESS,
+                patientToAssign.getName().getValue(),
+                doctorToAssign.getName().getValue()), patientToAssign);
     }
 
     @Override
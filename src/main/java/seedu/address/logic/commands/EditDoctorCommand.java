@@ -26,7 +26,6 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.person.doctor.Doctor;
 import seedu.address.model.person.doctor.Specialty;
 import seedu.address.model.person.doctor.Yoe;
-import seedu.address.model.person.patient.Patient;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -106,7 +105,6 @@ public class EditDoctorCommand extends Command implements CommandInterface {
             throw new CommandException(MESSAGE_DUPLICATE_DOCTOR);
         }
 
-        changeAssignmentInPatients(doctorToEdit, editedDoctor);
         model.setDoctor(doctorToEdit, editedDoctor);
         model.updateFilteredDoctorList(PREDICATE_SHOW_ALL_DOCTORS);
         return new CommandResult(String.format(MESSAGE_EDIT_DOCTOR_SUCCESS, editedDoctor),
@@ -126,27 +124,8 @@ public class EditDoctorCommand extends Command implements CommandInterface {
         Specialty updatedSpecialty = editDoctorDescriptor.getSpecialty().orElse(doctorToEdit.getSpecialty());
         Yoe updatedYoe = editDoctorDescriptor.getYoe().orElse(doctorToEdit.getYoe());
         Set<Tag> updatedTags = editDoctorDescriptor.getTags().orElse(doctorToEdit.getTags());
-        Set<Patient> updatedPatients = editDoctorDescriptor.getPatients().orElse(doctorToEdit.getPatients());
 
-        return new Doctor(updatedName, updatedPhone, updatedEmail, updatedSpecialty, updatedYoe, updatedTags,
-                updatedPatients);
-    }
-
-    /**
-     * Assigns all patients of {@code doctorToEdit} to {@code editedPatient}.
-     *
-     * @param doctorToEdit a doctor to edit
-     * @param editedDoctor a new edited doctor
-     */
-    private static void changeAssignmentInPatients(Doctor doctorToEdit,
-                                                   Doctor editedDoctor) {
-        assert doctorToEdit != null;
-        assert editedDoctor != null;
-
-        for (Patient patient : doctorToEdit.getPatients()) {
-            patient.removeDoctorIfAssigned(doctorToEdit);
-            patient.assignDoctor(editedDoctor);
-        }
+        return new Doctor(updatedName, updatedPhone, updatedEmail, updatedSpecialty, updatedYoe, updatedTags);
     }
 
     @Override
@@ -178,7 +157,6 @@ public class EditDoctorCommand extends Command implements CommandInterface {
         private Specialty specialty;
         private Yoe yoe;
         private Set<Tag> tags;
-        private Set<Patient> patients;
 
         public EditDoctorDescriptor() {}
 
@@ -193,14 +171,13 @@ public class EditDoctorCommand extends Command implements CommandInterface {
             setSpecialty(toCopy.specialty);
             setYoe(toCopy.yoe);
             setTags(toCopy.tags);
-            setPatients(toCopy.patients);
         }
 
         /**
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(name, phone, email, specialty, yoe, tags, patients);
+            return CollectionUtil.isAnyNonNull(name, phone, email, specialty, yoe, tags);
         }
 
         public void setName(Name name) {
@@ -260,23 +237,6 @@ public class EditDoctorCommand extends Command implements CommandInterface {
             return (tags != null) ? Optional.of(Collections.unmodifiableSet(tags)) : Optional.empty();
         }
 
-        /**
-         * Sets {@code patients} to this object's {@code patients}.
-         * A defensive copy of {@code patients} is used internally.
-         */
-        public void setPatients(Set<Patient> patients) {
-            this.patients = (patients != null) ? new HashSet<>(patients) : null;
-        }
-
-        /**
-         * Returns an unmodifiable patients set, which throws {@code UnsupportedOperationException}
-         * if modification is attempted.
-         * Returns {@code Optional#empty()} if {@code patients} is null.
-         */
-        public Optional<Set<Patient>> getPatients() {
-            return (patients != null) ? Optional.of(Collections.unmodifiableSet(patients)) : Optional.empty();
-        }
-
         @Override
         public boolean equals(Object other) {
             // short circuit if same object
@@ -297,8 +257,7 @@ public class EditDoctorCommand extends Command implements CommandInterface {
                     && getEmail().equals(e.getEmail())
                     && getSpecialty().equals(e.getSpecialty())
                     && getYoe().equals(e.getYoe())
-                    && getTags().equals(e.getTags())
-                    && getPatients().equals(e.getPatients());
+                    && getTags().equals(e.getTags());
         }
     }
 }
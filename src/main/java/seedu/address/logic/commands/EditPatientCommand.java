@@ -26,7 +26,6 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
-import seedu.address.model.person.doctor.Doctor;
 import seedu.address.model.person.patient.Diagnosis;
 import seedu.address.model.person.patient.Height;
 import seedu.address.model.person.patient.Patient;
@@ -115,7 +114,6 @@ public class EditPatientCommand extends Command implements CommandInterface {
             throw new CommandException(MESSAGE_DUPLICATE_PATIENT);
         }
 
-        changeAssignmentInDoctors(patientToEdit, editedPatient);
         model.setPatient(patientToEdit, editedPatient);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
         return new CommandResult(String.format(MESSAGE_EDIT_PATIENT_SUCCESS, editedPatient),
@@ -138,27 +136,9 @@ public class EditPatientCommand extends Command implements CommandInterface {
         Status updatedStatus = editPatientDescriptor.getStatus().orElse(patientToEdit.getStatus());
         Remark updatedRemark = editPatientDescriptor.getRemark().orElse(patientToEdit.getRemark());
         Set<Tag> updatedTags = editPatientDescriptor.getTags().orElse(patientToEdit.getTags());
-        Set<Doctor> updatedDoctors = editPatientDescriptor.getDoctors().orElse(patientToEdit.getDoctors());
 
         return new Patient(updatedName, updatedPhone, updatedEmail, updatedHeight, updatedWeight,
-                updatedDiagnosis, updatedStatus, updatedRemark, updatedTags, updatedDoctors);
-    }
-
-    /**
-     * Assigns all doctors of {@code patientToEdit} to {@code editedPatient}.
-     *
-     * @param patientToEdit a patient to edit
-     * @param editedPatient a new edited patient
-     */
-    private static void changeAssignmentInDoctors(Patient patientToEdit,
-                                                  Patient editedPatient) {
-        assert patientToEdit != null;
-        assert editedPatient != null;
-
-        for (Doctor doctor : patientToEdit.getDoctors()) {
-            doctor.removePatientIfAssigned(patientToEdit);
-            doctor.assignPatient(editedPatient);
-        }
+                updatedDiagnosis, updatedStatus, updatedRemark, updatedTags);
     }
 
     @Override
@@ -193,7 +173,6 @@ public class EditPatientCommand extends Command implements CommandInterface {
         private Status status;
         private Remark remark;
         private Set<Tag> tags;
-        private Set<Doctor> doctors;
 
         public EditPatientDescriptor() {}
 
@@ -211,7 +190,6 @@ public class EditPatientCommand extends Command implements CommandInterface {
             setStatus(toCopy.status);
             setRemark(toCopy.remark);
             setTags(toCopy.tags);
-            setDoctors(toCopy.doctors);
         }
 
         /**
@@ -294,22 +272,6 @@ public class EditPatientCommand extends Command implements CommandInterface {
         public Optional<Set<Tag>> getTags() {
             return (tags != null) ? Optional.of(Collections.unmodifiableSet(tags)) : Optional.empty();
         }
-        /**
-         * Sets {@code doctors} to this object's {@code doctors}.
-         * A defensive copy of {@code doctors} is used internally.
-         */
-        public void setDoctors(Set<Doctor> doctors) {
-            this.doctors = (doctors != null) ? new HashSet<>(doctors) : null;
-        }
-
-        /**
-         * Returns an unmodifiable doctor set, which throws {@code UnsupportedOperationException}
-         * if modification is attempted.
-         * Returns {@code Optional#empty()} if {@code doctors} is null.
-         */
-        public Optional<Set<Doctor>> getDoctors() {
-            return (doctors != null) ? Optional.of(Collections.unmodifiableSet(doctors)) : Optional.empty();
-        }
 
         @Override
         public boolean equals(Object other) {
@@ -334,8 +296,7 @@ public class EditPatientCommand extends Command implements CommandInterface {
                     && getDiagnosis().equals(e.getDiagnosis())
                     && getStatus().equals(e.getStatus())
                     && getRemark().equals(e.getRemark())
-                    && getTags().equals(e.getTags())
-                    && getDoctors().equals(e.getDoctors());
+                    && getTags().equals(e.getTags());
         }
     }
 }
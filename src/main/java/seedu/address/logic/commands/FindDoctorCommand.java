@@ -55,7 +55,7 @@ public class FindDoctorCommand extends Command implements CommandInterface {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredDoctorList(predicate);
+        model.findDoctors(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_DOCTORS_LISTED_OVERVIEW, model.getFilteredDoctorList().size()));
     }
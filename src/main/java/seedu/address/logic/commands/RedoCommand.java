@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_DOCTORS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Makes the changes that were last undone again.
+ */
+public class RedoCommand extends Command implements CommandInterface {
+
+    public static final String COMMAND_WORD = "redo";
+
+    private static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Makes the changes that were last undone again.\n"
+            + "Example: " + COMMAND_WORD;
+    private static final String MESSAGE_SUCCESS = "Redo success!";
+    private static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    public static String getCommandUsage() {
+        return MESSAGE_USAGE;
+    }
+
+    public static String getMessageSuccess() {
+        return MESSAGE_SUCCESS;
+    }
+
+    public static String getMessageFailure() {
+        return MESSAGE_FAILURE;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoAddressBook();
+        model.updateFilteredDoctorList(PREDICATE_SHOW_ALL_DOCTORS);
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
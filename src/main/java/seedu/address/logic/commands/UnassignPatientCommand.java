@@ -5,7 +5,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT;
 
 import java.util.List;
-import java.util.Set;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -73,65 +72,15 @@ public class UnassignPatientCommand extends Command implements CommandInterface
         Patient patientToUnassign = lastShownPatientList.get(patientIndex.getZeroBased());
         Doctor doctorToUnassign = lastShownDoctorList.get(doctorIndex.getZeroBased());
 
-        Doctor doctorWithoutAssign = createDoctorWithoutAssign(doctorToUnassign, patientToUnassign);
-        Patient patientWithoutAssign = createPatientWithoutAssign(doctorToUnassign, patientToUnassign);
-
-        model.setDoctor(doctorToUnassign, doctorWithoutAssign);
-        model.setPatient(patientToUnassign, patientWithoutAssign);
-
-        return new CommandResult(String.format(MESSAGE_UNASSIGN_PATIENT_SUCCESS,
-                patientToUnassign.getName().getValue(),
-                doctorToUnassign.getName().getValue()), patientWithoutAssign);
-    }
-
-    private static Doctor createDoctorWithoutAssign(Doctor doctorToUnassign, Patient patientToUnassign)
-            throws CommandException {
-        assert doctorToUnassign != null;
-        assert patientToUnassign != null;
-
-        Set<Patient> patientsSet = doctorToUnassign.getPatients();
-
-        if (!patientsSet.contains(patientToUnassign)) {
+        if (!model.unassignPatient(doctorToUnassign, patientToUnassign)) {
             throw new CommandException(String.format(MESSAGE_PATIENT_NOT_ASSIGNED,
                     patientToUnassign.getName().getValue(),
                     doctorToUnassign.getName().getValue()));
         }
 
-        patientsSet.remove(patientToUnassign);
-
-        return new Doctor(doctorToUnassign.getName(),
-                doctorToUnassign.getPhone(),
-                doctorToUnassign.getEmail(),
-                doctorToUnassign.getSpecialty(),
-                doctorToUnassign.getYoe(),
-                doctorToUnassign.getTags(),
-                patientsSet);
-    }
-    private static Patient createPatientWithoutAssign(Doctor doctorToUnassign, Patient patientToUnassign)
-            throws CommandException {
-        assert doctorToUnassign != null;
-        assert patientToUnassign != null;
-
-        Set<Doctor> doctorsSet = patientToUnassign.getDoctors();
-
-        if (!doctorsSet.contains(doctorToUnassign)) {
-            throw new CommandException(String.format(MESSAGE_PATIENT_NOT_ASSIGNED,
-                    patientToUnassign.getName().getValue(),
-                    doctorToUnassign.getName().getValue()));
-        }
-
-        doctorsSet.remove(doctorToUnassign);
-
-        return new Patient(patientToUnassign.getName(),
-                patientToUnassign.getPhone(),
-                patientToUnassign.getEmail(),
-                patientToUnassign.getHeight(),
-                patientToUnassign.getWeight(),
-                patientToUnassign.getDiagnosis(),
-                patientToUnassign.getStatus(),
-                patientToUnassign.getRemark(),
-                patientToUnassign.getTags(),
-                doctorsSet);
+        return new CommandResult(String.format(MESSAGE_UNASSIGN_PATIENT_SUCCESS,
+                patientToUnassign.getName().getValue(),
+                doctorToUnassign.getName().getValue()), patientToUnassign);
     }
 
     @Override
@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_DOCTORS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Reverts the changes made by the last command that changed the address book.
+ */
+public class UndoCommand extends Command implements CommandInterface {
+
+    public static final String COMMAND_WORD = "undo";
+
+    private static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Reverts the changes made by the last command that changed the address book.\n"
+            + "Example: " + COMMAND_WORD;
+    private static final String MESSAGE_SUCCESS = "Undo success!";
+    private static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    public static String getCommandUsage() {
+        return MESSAGE_USAGE;
+    }
+
+    public static String getMessageSuccess() {
+        return MESSAGE_SUCCESS;
+    }
+
+    public static String getMessageFailure() {
+        return MESSAGE_FAILURE;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoAddressBook();
+        model.updateFilteredDoctorList(PREDICATE_SHOW_ALL_DOCTORS);
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.commons.util.StringUtil.isRegexWhitespace;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.HashMap;
+import java.util.Map;
 
 import seedu.address.logic.commands.AddDoctorCommand;
 import seedu.address.logic.commands.AddPatientCommand;
@@ -21,20 +23,57 @@ import seedu.address.logic.commands.FindPatientCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListDoctorCommand;
 import seedu.address.logic.commands.ListPatientCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SelectDoctorCommand;
 import seedu.address.logic.commands.SelectPatientCommand;
 import seedu.address.logic.commands.UnassignPatientCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * Each command word is looked up in a table of parsers, one for each kind of command. The parsers are stateless,
+ * so a single instance of each is shared by every {@code AddressBookParser}.
  */
 public class AddressBookParser {
 
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final Map<String, Parser<? extends Command>> DEFAULT_PARSERS = new HashMap<>();
+
+    static {
+        registerDefault(new AddDoctorCommandParser(),
+                AddDoctorCommand.COMMAND_WORD, AddDoctorCommand.SHORTHAND_COMMAND_WORD);
+        registerDefault(new AddPatientCommandParser(),
+                AddPatientCommand.COMMAND_WORD, AddPatientCommand.SHORTHAND_COMMAND_WORD);
+        registerDefault(new AssignPatientCommandParser(),
+                AssignPatientCommand.COMMAND_WORD, AssignPatientCommand.SHORTHAND_COMMAND_WORD);
+        registerDefault(new UnassignPatientCommandParser(),
+                UnassignPatientCommand.COMMAND_WORD, UnassignPatientCommand.SHORTHAND_COMMAND_WORD);
+        registerDefault(new EditDoctorCommandParser(),
+                EditDoctorCommand.COMMAND_WORD, EditDoctorCommand.SHORTHAND_COMMAND_WORD);
+        registerDefault(new EditPatientCommandParser(),
+                EditPatientCommand.COMMAND_WORD, EditPatientCommand.SHORTHAND_COMMAND_WORD);
+        registerDefault(new DeleteDoctorCommandParser(),
+                DeleteDoctorCommand.COMMAND_WORD, DeleteDoctorCommand.SHORTHAND_COMMAND_WORD);
+        registerDefault(new DeletePatientCommandParser(),
+                DeletePatientCommand.COMMAND_WORD, DeletePatientCommand.SHORTHAND_COMMAND_WORD);
+        registerDefault(arguments -> new ClearCommand(), ClearCommand.COMMAND_WORD);
+        registerDefault(arguments -> new UndoCommand(), UndoCommand.COMMAND_WORD);
+        registerDefault(arguments -> new RedoCommand(), RedoCommand.COMMAND_WORD);
+        registerDefault(new FindDoctorCommandParser(),
+                FindDoctorCommand.COMMAND_WORD, FindDoctorCommand.SHORTHAND_COMMAND_WORD);
+        registerDefault(new FindPatientCommandParser(),
+                FindPatientCommand.COMMAND_WORD, FindPatientCommand.SHORTHAND_COMMAND_WORD);
+        registerDefault(arguments -> new ListDoctorCommand(),
+                ListDoctorCommand.COMMAND_WORD, ListDoctorCommand.SHORTHAND_COMMAND_WORD);
+        registerDefault(arguments -> new ListPatientCommand(),
+                ListPatientCommand.COMMAND_WORD, ListPatientCommand.SHORTHAND_COMMAND_WORD);
+        registerDefault(new SelectDoctorCommandParser(), SelectDoctorCommand.COMMAND_WORD);
+        registerDefault(new SelectPatientCommandParser(), SelectPatientCommand.COMMAND_WORD);
+        registerDefault(arguments -> new ExitCommand(), ExitCommand.COMMAND_WORD);
+        registerDefault(arguments -> new HelpCommand(), HelpCommand.COMMAND_WORD);
+    }
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>(DEFAULT_PARSERS);
 
     /**
      * Parses user input into command for execution.
@@ -44,82 +83,62 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        // The command word runs up to the first whitespace, and the arguments are the rest of the line.
+        final String trimmedInput = userInput.trim();
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !isRegexWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        final String arguments = trimmedInput.substring(commandWordEnd);
+        if (commandWordEnd == 0 || containsLineTerminator(arguments)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.getCommandUsage()));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-
-        case AddDoctorCommand.SHORTHAND_COMMAND_WORD:
-        case AddDoctorCommand.COMMAND_WORD:
-            return new AddDoctorCommandParser().parse(arguments);
-
-        case AddPatientCommand.SHORTHAND_COMMAND_WORD:
-        case AddPatientCommand.COMMAND_WORD:
-            return new AddPatientCommandParser().parse(arguments);
-
-        case AssignPatientCommand.SHORTHAND_COMMAND_WORD:
-        case AssignPatientCommand.COMMAND_WORD:
-            return new AssignPatientCommandParser().parse(arguments);
-
-        case UnassignPatientCommand.SHORTHAND_COMMAND_WORD:
-        case UnassignPatientCommand.COMMAND_WORD:
-            return new UnassignPatientCommandParser().parse(arguments);
-
-        case EditDoctorCommand.SHORTHAND_COMMAND_WORD:
-        case EditDoctorCommand.COMMAND_WORD:
-            return new EditDoctorCommandParser().parse(arguments);
-
-        case EditPatientCommand.SHORTHAND_COMMAND_WORD:
-        case EditPatientCommand.COMMAND_WORD:
-            return new EditPatientCommandParser().parse(arguments);
-
-        case DeleteDoctorCommand.SHORTHAND_COMMAND_WORD:
-        case DeleteDoctorCommand.COMMAND_WORD:
-            return new DeleteDoctorCommandParser().parse(arguments);
-
-        case DeletePatientCommand.SHORTHAND_COMMAND_WORD:
-        case DeletePatientCommand.COMMAND_WORD:
-            return new DeletePatientCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindDoctorCommand.SHORTHAND_COMMAND_WORD:
-        case FindDoctorCommand.COMMAND_WORD:
-            return new FindDoctorCommandParser().parse(arguments);
-
-        case FindPatientCommand.SHORTHAND_COMMAND_WORD:
-        case FindPatientCommand.COMMAND_WORD:
-            return new FindPatientCommandParser().parse(arguments);
-
-        case ListDoctorCommand.SHORTHAND_COMMAND_WORD:
-        case ListDoctorCommand.COMMAND_WORD:
-            return new ListDoctorCommand();
-
-        case ListPatientCommand.SHORTHAND_COMMAND_WORD:
-        case ListPatientCommand.COMMAND_WORD:
-            return new ListPatientCommand();
-
-        case SelectDoctorCommand.COMMAND_WORD:
-            return new SelectDoctorCommandParser().parse(arguments);
-
-        case SelectPatientCommand.COMMAND_WORD:
-            return new SelectPatientCommandParser().parse(arguments);
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final Parser<? extends Command> parser = parsers.get(commandWord);
+        if (parser == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(arguments);
+    }
 
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+    /**
+     * Registers {@code parser} to parse the arguments of commands that start with any of {@code commandWords}.
+     * {@code parser} must be stateless, as it is shared by every command it parses.
+     *
+     * @throws IllegalArgumentException if a command word is empty, contains whitespace or is registered already.
+     */
+    public void register(Parser<? extends Command> parser, String... commandWords) {
+        register(parsers, parser, commandWords);
+    }
 
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+    private static void registerDefault(Parser<? extends Command> parser, String... commandWords) {
+        register(DEFAULT_PARSERS, parser, commandWords);
+    }
 
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    private static void register(Map<String, Parser<? extends Command>> parsers, Parser<? extends Command> parser,
+                                 String... commandWords) {
+        requireNonNull(parser);
+        for (String commandWord : commandWords) {
+            if (commandWord.isEmpty() || commandWord.chars().anyMatch(c -> isRegexWhitespace((char) c))) {
+                throw new IllegalArgumentException("Invalid command word: \"" + commandWord + "\"");
+            }
+            if (parsers.putIfAbsent(commandWord, parser) != null) {
+                throw new IllegalArgumentException("Command word is registered already: " + commandWord);
+            }
         }
     }
 
+    /**
+     * Returns true if {@code s} contains a character that ends a line, which {@code .} does not match in a regex.
+     */
+    private static boolean containsLineTerminator(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
 }
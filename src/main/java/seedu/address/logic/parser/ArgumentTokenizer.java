@@ -1,9 +1,9 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -15,133 +15,148 @@ import java.util.stream.Collectors;
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+    private static final int MAX_CACHED_TRIES = 64;
+
+    /** Tries of the sets of prefixes recently tokenized with, which are the same few sets used by each parser */
+    private static final Map<List<Prefix>, PrefixTrie> TRIES = new ConcurrentHashMap<>();
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
+     * The arguments string is scanned once from left to right, matching all the given prefixes at once.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        PrefixTrie trie = getTrie(prefixes);
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        int[] matches = new int[prefixes.length];
+
+        Prefix currentPrefix = PREAMBLE;
+        int currentPosition = 0;
+        for (int position = 1; position <= argsString.length(); position++) {
+            // A prefix is only recognized if there is a whitespace before it
+            if (argsString.charAt(position - 1) != ' ') {
+                continue;
+            }
+
+            int matchCount = trie.findMatches(argsString, position, matches);
+            for (int i = 0; i < matchCount; i++) {
+                int prefixIndex = matches[i];
+                argMultimap.put(currentPrefix, extractArgumentValue(argsString, currentPrefix, currentPosition,
+                        position));
+                currentPrefix = prefixes[prefixIndex];
+                currentPosition = position;
+            }
         }
+        argMultimap.put(currentPrefix, extractArgumentValue(argsString, currentPrefix, currentPosition,
+                argsString.length()));
 
-        return positions;
+        return argMultimap;
     }
 
     /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
+     * Returns the trie of {@code prefixes}, building it if it is not cached.
      */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+    private static PrefixTrie getTrie(Prefix... prefixes) {
+        List<Prefix> key = List.of(prefixes);
+        PrefixTrie trie = TRIES.get(key);
+        if (trie == null) {
+            trie = new PrefixTrie(prefixes);
+            if (TRIES.size() < MAX_CACHED_TRIES) {
+                TRIES.put(key, trie);
+            }
+        }
+        return trie;
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * Returns the trimmed value of the argument of {@code prefix} starting at {@code prefixPosition} in the
+     * arguments string. The value ends at {@code nextPrefixPosition}.
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
-        }
+    private static String extractArgumentValue(String argsString, Prefix prefix, int prefixPosition,
+                                               int nextPrefixPosition) {
+        int valueStartPos = prefixPosition + prefix.getPrefix().length();
+        String value = argsString.substring(valueStartPos, nextPrefixPosition);
 
-        return argMultimap;
+        return value.trim();
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * A trie of the prefixes to tokenize an arguments string with, which finds every prefix starting at a position
+     * by reading the characters from that position once.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
+    private static class PrefixTrie {
+        private final Node root = new Node();
+
+        PrefixTrie(Prefix... prefixes) {
+            for (int i = 0; i < prefixes.length; i++) {
+                Node node = root;
+                String prefix = prefixes[i].getPrefix();
+                for (int j = 0; j < prefix.length(); j++) {
+                    node = node.getOrAddChild(prefix.charAt(j));
+                }
+                node.addPrefixIndex(i);
+            }
+        }
 
-        return value.trim();
+        /**
+         * Stores the indices of the prefixes that start at {@code position} in {@code argsString} at the start of
+         * {@code matches}, in the order the prefixes were given, and returns the number of such prefixes.
+         */
+        int findMatches(String argsString, int position, int[] matches) {
+            int matchCount = 0;
+            Node node = root;
+            int i = position;
+            while (node != null) {
+                for (int prefixIndex : node.prefixIndices) {
+                    matches[matchCount++] = prefixIndex;
+                }
+                node = i < argsString.length() ? node.getChild(argsString.charAt(i++)) : null;
+            }
+            if (matchCount > 1) {
+                // Only when a prefix is given more than once, or is the start of another given prefix
+                Arrays.sort(matches, 0, matchCount);
+            }
+            return matchCount;
+        }
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Represents a node of a {@code PrefixTrie}, reached by reading the start of one or more prefixes.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private int[] prefixIndices = new int[0];
+
+        Node getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
         }
 
-        int getStartPosition() {
-            return startPosition;
+        Node getOrAddChild(char key) {
+            Node child = getChild(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        void addPrefixIndex(int prefixIndex) {
+            prefixIndices = Arrays.copyOf(prefixIndices, prefixIndices.length + 1);
+            prefixIndices[prefixIndices.length - 1] = prefixIndex;
         }
     }
 
@@ -106,7 +106,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -135,7 +135,7 @@ public class ParserUtil {
         if (!Specialty.isValidSpecialty(trimmedSpeciality)) {
             throw new ParseException(Specialty.MESSAGE_CONSTRAINTS);
         }
-        return new Specialty(trimmedSpeciality);
+        return Specialty.of(trimmedSpeciality);
     }
 
     /**
@@ -212,7 +212,7 @@ public class ParserUtil {
         if (!Status.isValidStatus(status)) {
             throw new ParseException(Status.MESSAGE_CONSTRAINTS);
         }
-        return new Status(trimmedStatus);
+        return Status.of(trimmedStatus);
     }
 
     /**
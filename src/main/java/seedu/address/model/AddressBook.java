@@ -1,18 +1,26 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.doctor.DoctorContainsKeywordsPredicate;
 import seedu.address.model.person.doctor.UniqueDoctorList;
 import seedu.address.model.person.patient.Patient;
+import seedu.address.model.person.patient.PatientContainsKeywordsPredicate;
 import seedu.address.model.person.patient.UniquePatientList;
 
 /**
@@ -26,6 +34,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueDoctorList doctors;
     private final UniquePatientList patients;
+    private final AssignmentIndex assignments;
+
+    /** Incremented by every change to the contents of this address book */
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -38,6 +50,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         doctors = new UniqueDoctorList();
         patients = new UniquePatientList();
+        assignments = new AssignmentIndex();
     }
 
     public AddressBook() {}
@@ -58,33 +71,51 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
      * Replaces the contents of the doctor list with {@code doctors}.
      * {@code doctors} must not contain duplicate doctors.
+     * A doctor with the same name as one in the list keeps its assignments.
      */
     public void setDoctors(List<Doctor> doctors) {
         this.doctors.setDoctors(doctors);
+        assignments.setDoctors(doctors);
+        version++;
     }
 
     /**
      * Replaces the contents of the patients list with {@code patients}.
      * {@code patients} must not contain duplicate patients.
+     * A patient with the same name as one in the list keeps its assignments.
      */
     public void setPatients(List<Patient> patients) {
         this.patients.setPatients(patients);
+        assignments.setPatients(patients);
+        version++;
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The patients keep the ids they have in {@code newData}.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
         setPersons(newData.getPersonList());
-        setDoctors(newData.getDoctorList());
-        setPatients(newData.getPatientList());
+        doctors.setDoctors(newData.getDoctorList());
+        patients.setPatients(newData.getPatientList());
+        assignments.clear();
+        assignments.setDoctors(newData.getDoctorList());
+        for (Patient patient : newData.getPatientList()) {
+            assignments.addPatient(patient, newData.getPatientId(patient));
+        }
+        assignments.setNextPatientId(newData.getNextPatientId());
+        for (Doctor doctor : newData.getDoctorList()) {
+            assignments.setPatientsOf(doctor, newData.getPatientsOf(doctor));
+        }
+        version++;
     }
 
     //// person-level operations
@@ -119,11 +150,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
     }
 
     /**
      * Adds a doctor to the address book.
-     * The doctor must not already exist in the address book.
+     * The doctor must not already exist in the address book, and is assigned to no patients.
      * @param doctor
      */
     public void addDoctor(Doctor doctor) {
@@ -131,12 +163,23 @@ public class AddressBook implements ReadOnlyAddressBook {
             logger.warning("Trying to add null into doctors in AddressBook is not allowed!");
             return;
         }
-        doctors.add(doctor);
+        addDoctor(doctors.asUnmodifiableObservableList().size(), doctor);
+    }
+
+    /**
+     * Adds a doctor to the address book at {@code index} in the doctor list.
+     * The doctor must not already exist in the address book, and is assigned to no patients.
+     */
+    public void addDoctor(int index, Doctor doctor) {
+        requireNonNull(doctor);
+        doctors.add(index, doctor);
+        assignments.addDoctor(doctor);
+        version++;
     }
 
     /**
      * Adds a patient to the address book.
-     * The patient must not already exist in the address book.
+     * The patient must not already exist in the address book, and is assigned to no doctors.
      * @param patient
      */
     public void addPatient(Patient patient) {
@@ -144,7 +187,94 @@ public class AddressBook implements ReadOnlyAddressBook {
             logger.warning("Trying to add null into patients in AddressBook is not allowed!");
             return;
         }
-        patients.add(patient);
+        addPatient(patients.asUnmodifiableObservableList().size(), patient);
+    }
+
+    /**
+     * Adds a patient to the address book at {@code index} in the patient list, with a new id.
+     * The patient must not already exist in the address book, and is assigned to no doctors.
+     */
+    public void addPatient(int index, Patient patient) {
+        addPatient(index, patient, assignments.getNextPatientId());
+    }
+
+    /**
+     * Adds a patient with {@code id} to the end of the patient list, as when it is loaded from a data file.
+     * The patient must not already exist in the address book, no other patient may have {@code id},
+     * and it is assigned to no doctors.
+     */
+    public void addPatient(Patient patient, int id) {
+        addPatient(patients.asUnmodifiableObservableList().size(), patient, id);
+    }
+
+    /**
+     * Adds a patient with {@code id} to the address book at {@code index} in the patient list.
+     * The patient must not already exist in the address book, no other patient may have {@code id},
+     * and it is assigned to no doctors.
+     */
+    public void addPatient(int index, Patient patient, int id) {
+        requireNonNull(patient);
+        patients.add(index, patient);
+        assignments.addPatient(patient, id);
+        version++;
+    }
+
+    /**
+     * Makes the patients added without an id from now on be given ids of at least {@code nextPatientId}.
+     * Does nothing if the next id is greater already, so that the ids of removed patients are not given out again.
+     */
+    public void setNextPatientId(int nextPatientId) {
+        assignments.setNextPatientId(nextPatientId);
+    }
+
+    /**
+     * Assigns {@code patient} to {@code doctor}. Both must exist in the address book.
+     *
+     * @return true if they were not assigned before.
+     */
+    public boolean assignPatient(Doctor doctor, Patient patient) {
+        requireAllNonNull(doctor, patient);
+        if (!assignments.assign(doctor, patient)) {
+            return false;
+        }
+        version++;
+        return true;
+    }
+
+    /**
+     * Unassigns {@code patient} from {@code doctor}. Both must exist in the address book.
+     *
+     * @return true if they were assigned before.
+     */
+    public boolean unassignPatient(Doctor doctor, Patient patient) {
+        requireAllNonNull(doctor, patient);
+        if (!assignments.unassign(doctor, patient)) {
+            return false;
+        }
+        version++;
+        return true;
+    }
+
+    /**
+     * Assigns {@code doctor} to exactly the patients in {@code assignedPatients} that are in the address book.
+     * Patients it was assigned to before are unassigned from it.
+     * {@code doctor} must exist in the address book.
+     */
+    public void setPatientsOf(Doctor doctor, Collection<Patient> assignedPatients) {
+        requireAllNonNull(doctor, assignedPatients);
+        assignments.setPatientsOf(doctor, assignedPatients);
+        version++;
+    }
+
+    /**
+     * Assigns {@code patient} to exactly the doctors in {@code assignedDoctors} that are in the address book.
+     * Doctors it was assigned to before are unassigned from it.
+     * {@code patient} must exist in the address book.
+     */
+    public void setDoctorsOf(Patient patient, Collection<Doctor> assignedDoctors) {
+        requireAllNonNull(patient, assignedDoctors);
+        assignments.setDoctorsOf(patient, assignedDoctors);
+        version++;
     }
 
     /**
@@ -156,17 +286,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
     }
 
     /**
      * Replaces the given doctor {@code target} in the list with {@code editedDoctor}.
      * {@code target} must exist in the address book.
      * The doctor identity of {@code editedDoctor} must not be the same as another existing doctor in the address book.
+     * {@code editedDoctor} keeps the assignments of {@code target}.
      */
     public void setDoctor(Doctor target, Doctor editedDoctor) {
         requireNonNull(editedDoctor);
 
         doctors.setDoctor(target, editedDoctor);
+        assignments.replaceDoctor(target, editedDoctor);
+        version++;
     }
 
     public Doctor getDoctor(int target) {
@@ -180,11 +314,28 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code target} must exist in the address book.
      * The patient identity of {@code editedPatient} must not be the same as
      * another existing patient in the address book.
+     * {@code editedPerson} keeps the assignments of {@code target}.
      */
     public void setPatient(Patient target, Patient editedPerson) {
         requireNonNull(editedPerson);
 
         patients.setPatient(target, editedPerson);
+        assignments.replacePatient(target, editedPerson);
+        version++;
+    }
+
+    /**
+     * Returns the position of {@code doctor} in the doctor list, or -1 if it is not in the address book.
+     */
+    public int indexOfDoctor(Doctor doctor) {
+        return doctors.indexOf(doctor);
+    }
+
+    /**
+     * Returns the position of {@code patient} in the patient list, or -1 if it is not in the address book.
+     */
+    public int indexOfPatient(Patient patient) {
+        return patients.indexOf(patient);
     }
 
     /**
@@ -193,6 +344,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
     }
 
     /**
@@ -201,8 +353,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeDoctor(Doctor key) {
         doctors.remove(key);
-        key.getPatients()
-                .forEach((patient -> patient.removeDoctorIfAssigned(key)));
+        assignments.removeDoctor(key);
+        version++;
     }
 
     /**
@@ -211,8 +363,65 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePatient(Patient key) {
         patients.remove(key);
-        key.getDoctors()
-                .forEach((doctor -> doctor.removePatientIfAssigned(key)));
+        assignments.removePatient(key);
+        version++;
+    }
+
+    //// assignment operations
+
+    @Override
+    public List<Patient> getPatientsOf(Doctor doctor) {
+        requireNonNull(doctor);
+        return assignments.getPatientsOf(doctor);
+    }
+
+    @Override
+    public List<Doctor> getDoctorsOf(Patient patient) {
+        requireNonNull(patient);
+        return assignments.getDoctorsOf(patient);
+    }
+
+    @Override
+    public int getPatientId(Patient patient) {
+        requireNonNull(patient);
+        return assignments.getPatientId(patient);
+    }
+
+    @Override
+    public int getNextPatientId() {
+        return assignments.getNextPatientId();
+    }
+
+    @Override
+    public long getAssignmentVersion(Doctor doctor) {
+        requireNonNull(doctor);
+        return assignments.getAssignmentVersion(doctor);
+    }
+
+    /**
+     * Returns true if {@code patient} is assigned to {@code doctor} in the address book.
+     */
+    public boolean isAssigned(Doctor doctor, Patient patient) {
+        requireAllNonNull(doctor, patient);
+        return assignments.isAssigned(doctor, patient);
+    }
+
+    //// search operations
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that only checks the doctors that may match,
+     * as found in the search index of the doctor list.
+     */
+    public Predicate<Doctor> getIndexedPredicate(DoctorContainsKeywordsPredicate predicate) {
+        return doctors.getIndexedPredicate(predicate);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that only checks the patients that may match,
+     * as found in the search index of the patient list.
+     */
+    public Predicate<Patient> getIndexedPredicate(PatientContainsKeywordsPredicate predicate) {
+        return patients.getIndexedPredicate(predicate);
     }
 
     //// util methods
@@ -223,6 +432,21 @@ public class AddressBook implements ReadOnlyAddressBook {
                 + " and " + patients.asUnmodifiableObservableList().size() + " patients";
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns a snapshot of this address book, which is cheap to take as it copies the lists without rebuilding
+     * their indexes, and shares the assignments until they next change.
+     */
+    @Override
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(getPersonList(), getDoctorList(), getPatientList(), assignments.snapshot(),
+                version);
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
@@ -240,13 +464,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     @Override
     public ObservableList<Patient> getUnassignedPatientList() {
-        UniquePatientList unassignedPatients = new UniquePatientList();
-        for (Patient patient : patients) {
-            if (!patient.hasDoctors()) {
-                unassignedPatients.add(patient);
-            }
-        }
-        return unassignedPatients.asUnmodifiableObservableList();
+        return assignments.getUnassignedPatients();
     }
 
 
@@ -256,7 +474,25 @@ public class AddressBook implements ReadOnlyAddressBook {
                 || (other instanceof AddressBook // instanceof handles nulls
                 && persons.equals(((AddressBook) other).persons)
                 && doctors.equals(((AddressBook) other).doctors)
-                && patients.equals(((AddressBook) other).patients));
+                && patients.equals(((AddressBook) other).patients)
+                && hasSameAssignments((AddressBook) other));
+    }
+
+    /**
+     * Returns true if each doctor is assigned to patients with the same names in {@code other} as in this.
+     * The doctor lists of both must be equal.
+     */
+    private boolean hasSameAssignments(AddressBook other) {
+        for (Doctor doctor : doctors) {
+            if (!namesOf(getPatientsOf(doctor)).equals(namesOf(other.getPatientsOf(doctor)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<Name> namesOf(List<Patient> patients) {
+        return patients.stream().map(Patient::getName).collect(Collectors.toSet());
     }
 
     @Override
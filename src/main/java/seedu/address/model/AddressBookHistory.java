@@ -0,0 +1,294 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+
+/**
+ * A bounded history of the changes made to an {@code AddressBook}, which can be undone and redone.
+ * Each step holds the changes made by one command as the doctors and patients that were added, removed or replaced,
+ * together with their assignments, so it takes memory in proportion to the change rather than to the address book.
+ * Steps must be undone and redone in order, on the address book that the changes were made to.
+ */
+class AddressBookHistory {
+
+    private final Deque<List<Change>> undoSteps = new ArrayDeque<>();
+    private final Deque<List<Change>> redoSteps = new ArrayDeque<>();
+    private List<Change> pendingChanges = new ArrayList<>();
+    private int depth;
+
+    /**
+     * Constructs an {@code AddressBookHistory} that keeps up to {@code depth} steps.
+     */
+    AddressBookHistory(int depth) {
+        setDepth(depth);
+    }
+
+    /**
+     * Sets the number of steps kept, dropping the oldest steps past it. No changes are recorded if it is 0.
+     */
+    void setDepth(int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("History depth must not be negative: " + depth);
+        }
+        this.depth = depth;
+        trim();
+    }
+
+    /**
+     * Records {@code change}, which is made part of the next committed step.
+     */
+    void record(Change change) {
+        requireNonNull(change);
+        if (depth > 0) {
+            pendingChanges.add(change);
+        }
+    }
+
+    /**
+     * Makes the changes recorded since the last commit into one step, if there are any.
+     * The steps that were undone can no longer be redone then.
+     */
+    void commit() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        undoSteps.push(pendingChanges);
+        pendingChanges = new ArrayList<>();
+        redoSteps.clear();
+        trim();
+    }
+
+    boolean canUndo() {
+        return !undoSteps.isEmpty() || !pendingChanges.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoSteps.isEmpty() && pendingChanges.isEmpty();
+    }
+
+    /**
+     * Reverts the changes of the last step in {@code addressBook}. There must be a step to undo.
+     */
+    void undo(AddressBook addressBook) {
+        commit();
+        List<Change> step = undoSteps.pop();
+        for (int i = step.size() - 1; i >= 0; i--) {
+            step.get(i).undo(addressBook);
+        }
+        redoSteps.push(step);
+    }
+
+    /**
+     * Makes the changes of the last undone step in {@code addressBook} again. There must be a step to redo.
+     */
+    void redo(AddressBook addressBook) {
+        List<Change> step = redoSteps.pop();
+        for (Change change : step) {
+            change.redo(addressBook);
+        }
+        undoSteps.push(step);
+    }
+
+    private void trim() {
+        while (undoSteps.size() > depth) {
+            undoSteps.removeLast();
+        }
+        while (redoSteps.size() > depth) {
+            redoSteps.removeLast();
+        }
+        if (depth == 0) {
+            pendingChanges.clear();
+        }
+    }
+
+    /**
+     * A change to an address book, which can be reverted and made again.
+     */
+    interface Change {
+        void undo(AddressBook addressBook);
+
+        void redo(AddressBook addressBook);
+    }
+
+    /**
+     * A doctor added to, removed from or replaced in the doctor list, with the patients assigned to it.
+     */
+    static class DoctorChange implements Change {
+        private final int index;
+        private final Doctor before;
+        private final List<Patient> patientsBefore;
+        private final Doctor after;
+        private final List<Patient> patientsAfter;
+
+        /**
+         * Constructs a change of the doctor at {@code index} from {@code before} to {@code after}.
+         * {@code before} is null if the doctor was added, and {@code after} is null if it was removed.
+         */
+        DoctorChange(int index, Doctor before, List<Patient> patientsBefore,
+                     Doctor after, List<Patient> patientsAfter) {
+            this.index = index;
+            this.before = before;
+            this.patientsBefore = patientsBefore;
+            this.after = after;
+            this.patientsAfter = patientsAfter;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            apply(addressBook, after, before, patientsBefore);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            apply(addressBook, before, after, patientsAfter);
+        }
+
+        private void apply(AddressBook addressBook, Doctor from, Doctor to, List<Patient> assignedPatients) {
+            if (to == null) {
+                addressBook.removeDoctor(from);
+                return;
+            }
+            if (from == null) {
+                addressBook.addDoctor(index, to);
+            } else {
+                addressBook.setDoctor(from, to);
+            }
+            addressBook.setPatientsOf(to, assignedPatients);
+        }
+    }
+
+    /**
+     * A patient added to, removed from or replaced in the patient list, with the doctors assigned to it.
+     * A patient added back keeps the id it had.
+     */
+    static class PatientChange implements Change {
+        private final int index;
+        private final int id;
+        private final Patient before;
+        private final List<Doctor> doctorsBefore;
+        private final Patient after;
+        private final List<Doctor> doctorsAfter;
+
+        /**
+         * Constructs a change of the patient at {@code index}, whose id is {@code id}, from {@code before} to
+         * {@code after}. {@code before} is null if the patient was added, and {@code after} is null if it was removed.
+         */
+        PatientChange(int index, int id, Patient before, List<Doctor> doctorsBefore,
+                      Patient after, List<Doctor> doctorsAfter) {
+            this.index = index;
+            this.id = id;
+            this.before = before;
+            this.doctorsBefore = doctorsBefore;
+            this.after = after;
+            this.doctorsAfter = doctorsAfter;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            apply(addressBook, after, before, doctorsBefore);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            apply(addressBook, before, after, doctorsAfter);
+        }
+
+        private void apply(AddressBook addressBook, Patient from, Patient to, List<Doctor> assignedDoctors) {
+            if (to == null) {
+                addressBook.removePatient(from);
+                return;
+            }
+            if (from == null) {
+                addressBook.addPatient(index, to, id);
+            } else {
+                addressBook.setPatient(from, to);
+            }
+            addressBook.setDoctorsOf(to, assignedDoctors);
+        }
+    }
+
+    /**
+     * A patient assigned to or unassigned from a doctor.
+     */
+    static class AssignmentChange implements Change {
+        private final Doctor doctor;
+        private final Patient patient;
+        private final boolean isAssigned;
+
+        /**
+         * Constructs a change that assigns {@code patient} to {@code doctor} if {@code isAssigned} is true,
+         * or unassigns it otherwise.
+         */
+        AssignmentChange(Doctor doctor, Patient patient, boolean isAssigned) {
+            this.doctor = doctor;
+            this.patient = patient;
+            this.isAssigned = isAssigned;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            apply(addressBook, !isAssigned);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            apply(addressBook, isAssigned);
+        }
+
+        private void apply(AddressBook addressBook, boolean assign) {
+            if (assign) {
+                addressBook.assignPatient(doctor, patient);
+            } else {
+                addressBook.unassignPatient(doctor, patient);
+            }
+        }
+    }
+
+    /**
+     * A replacement of all the doctors and patients, as when the address book is cleared.
+     */
+    static class ResetChange implements Change {
+        private final Contents before;
+        private final Contents after;
+
+        ResetChange(Contents before, Contents after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            before.restore(addressBook);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            after.restore(addressBook);
+        }
+    }
+
+    /**
+     * The doctors and patients of an address book, with the patients assigned to each doctor and the patient ids.
+     */
+    static class Contents {
+        private final ReadOnlyAddressBook copy;
+
+        /**
+         * Constructs the contents of {@code addressBook} as it is now.
+         */
+        Contents(AddressBook addressBook) {
+            copy = addressBook.snapshot();
+        }
+
+        void restore(AddressBook addressBook) {
+            addressBook.resetData(copy);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+
+/**
+ * An unmodifiable copy of an address book at one point in time, which later changes to the address book do not
+ * affect. Taking it does not rebuild the indexes of the address book: the lists are copied as they are, and the
+ * assignments are kept in a {@link AssignmentIndex.Snapshot}, from which the unassigned patients are only worked
+ * out when first asked for.
+ * Doctors and patients are immutable, so they are shared with the address book.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Doctor> doctors;
+    private final ObservableList<Patient> patients;
+    // Built on the first call, as most snapshots are only saved and never asked for it
+    private ObservableList<Patient> unassignedPatients;
+    private final AssignmentIndex.Snapshot assignments;
+    private final long version;
+
+    /**
+     * Constructs a snapshot of the given lists, with the assignments in {@code assignments}.
+     */
+    AddressBookSnapshot(List<Person> persons, List<Doctor> doctors, List<Patient> patients,
+                        AssignmentIndex.Snapshot assignments, long version) {
+        this.persons = copyOf(persons);
+        this.doctors = copyOf(doctors);
+        this.patients = copyOf(patients);
+        this.assignments = assignments;
+        this.version = version;
+    }
+
+    private static <T> ObservableList<T> copyOf(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(new ArrayList<>(list)));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Doctor> getDoctorList() {
+        return doctors;
+    }
+
+    @Override
+    public ObservableList<Patient> getPatientList() {
+        return patients;
+    }
+
+    @Override
+    public synchronized ObservableList<Patient> getUnassignedPatientList() {
+        if (unassignedPatients == null) {
+            unassignedPatients = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(assignments.getUnassignedPatients()));
+        }
+        return unassignedPatients;
+    }
+
+    @Override
+    public List<Patient> getPatientsOf(Doctor doctor) {
+        return assignments.getPatientsOf(doctor);
+    }
+
+    @Override
+    public List<Doctor> getDoctorsOf(Patient patient) {
+        return assignments.getDoctorsOf(patient);
+    }
+
+    @Override
+    public int getPatientId(Patient patient) {
+        return assignments.getPatientId(patient);
+    }
+
+    @Override
+    public int getNextPatientId() {
+        return assignments.getNextPatientId();
+    }
+
+    @Override
+    public long getAssignmentVersion(Doctor doctor) {
+        return assignments.getAssignmentVersion(doctor);
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return doctors.size() + " doctors and " + patients.size() + " patients";
+    }
+}
@@ -0,0 +1,692 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+
+/**
+ * Index of the assignments between the doctors and patients of an address book.
+ * Each doctor and patient is kept in an int slot, and the assignments of each are kept as an array of the slots it
+ * is assigned to. Replacing a doctor or patient with an edited copy keeps its slot, so its assignments carry over
+ * without touching the arrays of the other side. Slots are reused once freed.
+ * Each patient is also given a stable id, which is kept when the patient is edited and is never given to another
+ * patient, so that it can be saved and used to refer to the patient across saves.
+ * Doctors and patients are identified by name, as the address book does not allow two of either with the same name.
+ * The index is the only record of the assignments: doctors and patients do not hold their assignments themselves.
+ * The patients not assigned to any doctor are kept in a list that is updated whenever a patient's first assignment
+ * is made or its last one is removed. The position of each patient in that list is kept by its slot, so a patient
+ * is found and removed from the list in constant time.
+ * A {@link Snapshot} of the index copies only the arrays kept by slot. The arrays of assigned slots are shared with
+ * the snapshot until the index next changes them, which is tracked by the number of snapshots taken so far.
+ * The assignments of each doctor and patient are stamped with a version whenever they change. Versions are unique
+ * across all indexes, so equal versions of a doctor in an index and its snapshots mean equal assignments.
+ */
+public class AssignmentIndex {
+
+    private static final AtomicLong lastVersion = new AtomicLong();
+
+    private final Side<Doctor> doctors = new Side<>();
+    private final Side<Patient> patients = new Side<>();
+    private final ObservableList<Patient> unassignedPatients = FXCollections.observableArrayList();
+    private final ObservableList<Patient> unassignedPatientsView =
+            FXCollections.unmodifiableObservableList(unassignedPatients);
+    // The slot of the patient at each position of unassignedPatients, and the position of each patient by slot.
+    // A position is only valid if the slot at that position points back to the patient.
+    private int[] unassignedSlots = new int[0];
+    private int[] unassignedPositions = new int[0];
+
+    /**
+     * Removes all doctors, patients and assignments from the index.
+     * The ids given to patients so far are still not given to patients added later.
+     */
+    public void clear() {
+        doctors.clear();
+        patients.clear();
+        unassignedPatients.clear();
+        unassignedSlots = new int[0];
+        unassignedPositions = new int[0];
+    }
+
+    /**
+     * Replaces the doctors in the index with {@code newDoctors}.
+     * A doctor with the same name as one in the index takes its place and keeps its assignments,
+     * while the assignments of the other doctors in the index are removed with them.
+     */
+    public void setDoctors(List<Doctor> newDoctors) {
+        requireNonNull(newDoctors);
+        Map<Name, Doctor> newDoctorsByName = new HashMap<>();
+        newDoctors.forEach(doctor -> newDoctorsByName.put(doctor.getName(), doctor));
+        for (int doctorSlot = 0; doctorSlot < doctors.personsBySlot.size(); doctorSlot++) {
+            Doctor doctor = doctors.personsBySlot.get(doctorSlot);
+            if (doctor == null) {
+                continue;
+            }
+            Doctor newDoctor = newDoctorsByName.remove(doctor.getName());
+            if (newDoctor == null) {
+                unlinkDoctor(doctorSlot);
+                doctors.remove(doctorSlot);
+            } else {
+                doctors.replace(doctor, newDoctor);
+            }
+        }
+        for (Doctor doctor : newDoctors) {
+            if (newDoctorsByName.containsKey(doctor.getName())) {
+                doctors.add(doctor);
+            }
+        }
+    }
+
+    /**
+     * Replaces the patients in the index with {@code newPatients}.
+     * A patient with the same name as one in the index takes its place and keeps its assignments,
+     * while the assignments of the other patients in the index are removed with them.
+     */
+    public void setPatients(List<Patient> newPatients) {
+        requireNonNull(newPatients);
+        Map<Name, Patient> newPatientsByName = new HashMap<>();
+        newPatients.forEach(patient -> newPatientsByName.put(patient.getName(), patient));
+        for (int patientSlot = 0; patientSlot < patients.personsBySlot.size(); patientSlot++) {
+            Patient patient = patients.personsBySlot.get(patientSlot);
+            if (patient == null) {
+                continue;
+            }
+            Patient newPatient = newPatientsByName.remove(patient.getName());
+            if (newPatient == null) {
+                removePatient(patient);
+            } else {
+                replacePatient(patient, newPatient);
+            }
+        }
+        for (Patient patient : newPatients) {
+            if (newPatientsByName.containsKey(patient.getName())) {
+                addPatient(patient);
+            }
+        }
+    }
+
+    /**
+     * Adds {@code doctor} to the index, assigned to no patients.
+     * A doctor with the same name must not already be in the index.
+     */
+    public void addDoctor(Doctor doctor) {
+        requireNonNull(doctor);
+        doctors.add(doctor);
+    }
+
+    /**
+     * Adds {@code patient} to the index with a new id, assigned to no doctors.
+     * A patient with the same name must not already be in the index.
+     */
+    public void addPatient(Patient patient) {
+        requireNonNull(patient);
+        addPatient(patient, patients.nextId);
+    }
+
+    /**
+     * Adds {@code patient} to the index with {@code id}, assigned to no doctors.
+     * A patient with the same name or id must not already be in the index.
+     */
+    public void addPatient(Patient patient, int id) {
+        requireNonNull(patient);
+        if (id < 0) {
+            throw new IllegalArgumentException("Patient id must not be negative: " + id);
+        }
+        addUnassigned(patients.add(patient, id));
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedDoctor}, keeping its assignments.
+     * {@code target} must be in the index.
+     */
+    public void replaceDoctor(Doctor target, Doctor editedDoctor) {
+        requireAllNonNull(target, editedDoctor);
+        doctors.replace(target, editedDoctor);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPatient}, keeping its assignments.
+     * {@code target} must be in the index.
+     */
+    public void replacePatient(Patient target, Patient editedPatient) {
+        requireAllNonNull(target, editedPatient);
+        int patientSlot = patients.slotOf(target.getName());
+        assert patientSlot >= 0;
+        patients.replace(target, editedPatient);
+        if (patients.degrees[patientSlot] == 0) {
+            unassignedPatients.set(unassignedPositions[patientSlot], editedPatient);
+        }
+    }
+
+    /**
+     * Removes {@code doctor} and its assignments from the index. Does nothing if it is not in the index.
+     */
+    public void removeDoctor(Doctor doctor) {
+        requireNonNull(doctor);
+        int doctorSlot = doctors.slotOf(doctor.getName());
+        if (doctorSlot >= 0) {
+            unlinkDoctor(doctorSlot);
+            doctors.remove(doctorSlot);
+        }
+    }
+
+    /**
+     * Removes {@code patient} and its assignments from the index. Does nothing if it is not in the index.
+     */
+    public void removePatient(Patient patient) {
+        requireNonNull(patient);
+        int patientSlot = patients.slotOf(patient.getName());
+        if (patientSlot >= 0) {
+            unlinkPatient(patientSlot);
+            removeUnassigned(patientSlot);
+            patients.remove(patientSlot);
+        }
+    }
+
+    /**
+     * Assigns {@code patient} to {@code doctor}. Both must be in the index.
+     *
+     * @return true if they were not assigned before.
+     */
+    public boolean assign(Doctor doctor, Patient patient) {
+        requireAllNonNull(doctor, patient);
+        int doctorSlot = doctors.slotOf(doctor.getName());
+        int patientSlot = patients.slotOf(patient.getName());
+        assert doctorSlot >= 0 && patientSlot >= 0;
+        return link(doctorSlot, patientSlot);
+    }
+
+    /**
+     * Unassigns {@code patient} from {@code doctor}. Both must be in the index.
+     *
+     * @return true if they were assigned before.
+     */
+    public boolean unassign(Doctor doctor, Patient patient) {
+        requireAllNonNull(doctor, patient);
+        int doctorSlot = doctors.slotOf(doctor.getName());
+        int patientSlot = patients.slotOf(patient.getName());
+        assert doctorSlot >= 0 && patientSlot >= 0;
+        if (!doctors.isLinked(doctorSlot, patientSlot)) {
+            return false;
+        }
+        unlink(doctorSlot, patientSlot);
+        return true;
+    }
+
+    /**
+     * Assigns {@code doctor} to exactly the patients in {@code assignedPatients} that are in the index.
+     * {@code doctor} must be in the index.
+     */
+    public void setPatientsOf(Doctor doctor, Collection<Patient> assignedPatients) {
+        requireAllNonNull(doctor, assignedPatients);
+        int doctorSlot = doctors.slotOf(doctor.getName());
+        assert doctorSlot >= 0;
+        unlinkDoctor(doctorSlot);
+        linkPatients(doctorSlot, assignedPatients);
+    }
+
+    /**
+     * Assigns {@code patient} to exactly the doctors in {@code assignedDoctors} that are in the index.
+     * {@code patient} must be in the index.
+     */
+    public void setDoctorsOf(Patient patient, Collection<Doctor> assignedDoctors) {
+        requireAllNonNull(patient, assignedDoctors);
+        int patientSlot = patients.slotOf(patient.getName());
+        assert patientSlot >= 0;
+        unlinkPatient(patientSlot);
+        linkDoctors(patientSlot, assignedDoctors);
+    }
+
+    /**
+     * Returns true if {@code patient} is assigned to {@code doctor}.
+     */
+    public boolean isAssigned(Doctor doctor, Patient patient) {
+        requireAllNonNull(doctor, patient);
+        int doctorSlot = doctors.slotOf(doctor.getName());
+        int patientSlot = patients.slotOf(patient.getName());
+        return doctorSlot >= 0 && patientSlot >= 0 && doctors.isLinked(doctorSlot, patientSlot);
+    }
+
+    /**
+     * Returns the patients assigned to {@code doctor}, or an empty list if it is not in the index.
+     */
+    public List<Patient> getPatientsOf(Doctor doctor) {
+        requireNonNull(doctor);
+        return doctors.neighboursOf(doctors.slotOf(doctor.getName()), patients);
+    }
+
+    /**
+     * Returns the doctors assigned to {@code patient}, or an empty list if it is not in the index.
+     */
+    public List<Doctor> getDoctorsOf(Patient patient) {
+        requireNonNull(patient);
+        return patients.neighboursOf(patients.slotOf(patient.getName()), doctors);
+    }
+
+    /**
+     * Returns the id of {@code patient}, or -1 if it is not in the index.
+     */
+    public int getPatientId(Patient patient) {
+        requireNonNull(patient);
+        int patientSlot = patients.slotOf(patient.getName());
+        return patientSlot < 0 ? -1 : patients.ids[patientSlot];
+    }
+
+    /**
+     * Returns the id that the next patient added without one is given.
+     * It is greater than the id of every patient added to the index so far.
+     */
+    public int getNextPatientId() {
+        return patients.nextId;
+    }
+
+    /**
+     * Makes the patients added without an id from now on be given ids of at least {@code nextId}.
+     * Does nothing if the next id is greater already, so that ids are never given out twice.
+     */
+    public void setNextPatientId(int nextId) {
+        patients.nextId = Math.max(patients.nextId, nextId);
+    }
+
+    /**
+     * Returns the version of the assignments of {@code doctor}, which changes whenever they change,
+     * or 0 if it is not in the index.
+     */
+    public long getAssignmentVersion(Doctor doctor) {
+        requireNonNull(doctor);
+        return doctors.versionOf(doctors.slotOf(doctor.getName()));
+    }
+
+    /**
+     * Returns true if {@code patient} is assigned to any doctor.
+     */
+    public boolean hasDoctors(Patient patient) {
+        requireNonNull(patient);
+        int patientSlot = patients.slotOf(patient.getName());
+        return patientSlot >= 0 && patients.degrees[patientSlot] > 0;
+    }
+
+    /**
+     * Returns a snapshot of the assignments and patient ids in the index as they are now,
+     * which later changes to the index do not affect.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(new Side<>(doctors), new Side<>(patients));
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients in the index that are not assigned to any doctor,
+     * which is updated as assignments change.
+     * A patient is appended when it is added to the index or loses its last assignment. When a patient leaves the
+     * list, the last patient in the list takes its place.
+     */
+    public ObservableList<Patient> getUnassignedPatients() {
+        return unassignedPatientsView;
+    }
+
+    private boolean isUnassignedListed(int patientSlot) {
+        if (patientSlot >= unassignedPositions.length) {
+            return false;
+        }
+        int position = unassignedPositions[patientSlot];
+        return position < unassignedPatients.size() && unassignedSlots[position] == patientSlot;
+    }
+
+    private void addUnassigned(int patientSlot) {
+        int position = unassignedPatients.size();
+        if (position == unassignedSlots.length) {
+            unassignedSlots = Arrays.copyOf(unassignedSlots, Math.max(4, position * 2));
+        }
+        if (patientSlot >= unassignedPositions.length) {
+            unassignedPositions = Arrays.copyOf(unassignedPositions,
+                    Math.max(patientSlot + 1, Math.max(4, unassignedPositions.length * 2)));
+        }
+        unassignedSlots[position] = patientSlot;
+        unassignedPositions[patientSlot] = position;
+        unassignedPatients.add(patients.personsBySlot.get(patientSlot));
+    }
+
+    /**
+     * Removes the patient with {@code patientSlot} from {@code unassignedPatients} if it is there,
+     * moving the last patient in the list into its place.
+     */
+    private void removeUnassigned(int patientSlot) {
+        if (!isUnassignedListed(patientSlot)) {
+            return;
+        }
+        int position = unassignedPositions[patientSlot];
+        int lastPosition = unassignedPatients.size() - 1;
+        if (position != lastPosition) {
+            int lastSlot = unassignedSlots[lastPosition];
+            unassignedSlots[position] = lastSlot;
+            unassignedPositions[lastSlot] = position;
+            unassignedPatients.set(position, unassignedPatients.get(lastPosition));
+        }
+        unassignedPatients.remove(lastPosition);
+    }
+
+    private void linkPatients(int doctorSlot, Collection<Patient> assignedPatients) {
+        for (Patient patient : assignedPatients) {
+            link(doctorSlot, patients.slotOf(patient.getName()));
+        }
+    }
+
+    private void linkDoctors(int patientSlot, Collection<Doctor> assignedDoctors) {
+        for (Doctor doctor : assignedDoctors) {
+            link(doctors.slotOf(doctor.getName()), patientSlot);
+        }
+    }
+
+    private void unlinkDoctor(int doctorSlot) {
+        for (int patientSlot : doctors.slotsLinkedTo(doctorSlot)) {
+            unlink(doctorSlot, patientSlot);
+        }
+    }
+
+    private void unlinkPatient(int patientSlot) {
+        for (int doctorSlot : patients.slotsLinkedTo(patientSlot)) {
+            unlink(doctorSlot, patientSlot);
+        }
+    }
+
+    /**
+     * Assigns the patient with {@code patientSlot} to the doctor with {@code doctorSlot}.
+     * Does nothing if either slot is negative, which is the slot of a doctor or patient not in the index.
+     *
+     * @return true if they were not assigned before.
+     */
+    private boolean link(int doctorSlot, int patientSlot) {
+        if (doctorSlot < 0 || patientSlot < 0 || doctors.isLinked(doctorSlot, patientSlot)) {
+            return false;
+        }
+        doctors.append(doctorSlot, patientSlot);
+        patients.append(patientSlot, doctorSlot);
+        if (patients.degrees[patientSlot] == 1) {
+            removeUnassigned(patientSlot);
+        }
+        return true;
+    }
+
+    private void unlink(int doctorSlot, int patientSlot) {
+        doctors.delete(doctorSlot, patientSlot);
+        patients.delete(patientSlot, doctorSlot);
+        if (patients.degrees[patientSlot] == 0) {
+            addUnassigned(patientSlot);
+        }
+    }
+
+    /**
+     * The doctors or the patients in the index, with the slots of the other side that each is assigned to.
+     * Each is also given an id that is greater than the ids given before.
+     */
+    private static class Side<T extends Person> {
+        private static final int[] NO_SLOTS = new int[0];
+
+        // Built on the first lookup in a snapshot, so that taking the snapshot does not hash every name
+        private Map<Name, Integer> slots;
+        private final List<T> personsBySlot;
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private int[][] adjacency;
+        private int[] degrees;
+        private int[] ids;
+        private long[] versions;
+        private int nextId;
+        // The number of snapshots taken, and the number taken when the array of assigned slots of each slot was
+        // last copied. An array copied before the last snapshot may be shared with it, so it is copied again
+        // before it is changed.
+        private int epoch;
+        private int[] epochs;
+
+        private Side() {
+            slots = new HashMap<>();
+            personsBySlot = new ArrayList<>();
+            adjacency = new int[0][];
+            degrees = new int[0];
+            ids = new int[0];
+            versions = new long[0];
+            epochs = new int[0];
+        }
+
+        /**
+         * Constructs a snapshot of {@code source}, which shares the arrays of assigned slots with it.
+         */
+        private Side(Side<T> source) {
+            source.epoch++;
+            personsBySlot = new ArrayList<>(source.personsBySlot);
+            adjacency = source.adjacency.clone();
+            degrees = source.degrees.clone();
+            ids = source.ids.clone();
+            versions = source.versions.clone();
+            nextId = source.nextId;
+        }
+
+        private int add(T person) {
+            return add(person, nextId);
+        }
+
+        private int add(T person, int id) {
+            assert !slots.containsKey(person.getName());
+            int slot = freeSlots.isEmpty() ? personsBySlot.size() : freeSlots.pop();
+            if (slot == personsBySlot.size()) {
+                personsBySlot.add(person);
+            } else {
+                personsBySlot.set(slot, person);
+            }
+            if (slot == adjacency.length) {
+                int capacity = Math.max(4, adjacency.length * 2);
+                adjacency = Arrays.copyOf(adjacency, capacity);
+                degrees = Arrays.copyOf(degrees, capacity);
+                ids = Arrays.copyOf(ids, capacity);
+                versions = Arrays.copyOf(versions, capacity);
+                epochs = Arrays.copyOf(epochs, capacity);
+            }
+            adjacency[slot] = NO_SLOTS;
+            degrees[slot] = 0;
+            ids[slot] = id;
+            versions[slot] = lastVersion.incrementAndGet();
+            nextId = Math.max(nextId, id + 1);
+            slots.put(person.getName(), slot);
+            return slot;
+        }
+
+        private void replace(T target, T edited) {
+            Integer slot = slots.remove(target.getName());
+            assert slot != null;
+            slots.put(edited.getName(), slot);
+            personsBySlot.set(slot, edited);
+        }
+
+        private void remove(int slot) {
+            slots.remove(personsBySlot.get(slot).getName());
+            personsBySlot.set(slot, null);
+            adjacency[slot] = NO_SLOTS;
+            degrees[slot] = 0;
+            freeSlots.push(slot);
+        }
+
+        private void clear() {
+            slots.clear();
+            personsBySlot.clear();
+            freeSlots.clear();
+            adjacency = new int[0][];
+            degrees = new int[0];
+            ids = new int[0];
+            versions = new long[0];
+            epochs = new int[0];
+        }
+
+        /**
+         * Returns the slot of the person with {@code name}, or -1 if there is none.
+         */
+        private int slotOf(Name name) {
+            if (slots == null) {
+                slots = new HashMap<>();
+                for (int slot = 0; slot < personsBySlot.size(); slot++) {
+                    if (personsBySlot.get(slot) != null) {
+                        slots.put(personsBySlot.get(slot).getName(), slot);
+                    }
+                }
+            }
+            Integer slot = slots.get(name);
+            return slot == null ? -1 : slot;
+        }
+
+        private boolean isLinked(int slot, int otherSlot) {
+            int[] otherSlots = adjacency[slot];
+            for (int i = 0; i < degrees[slot]; i++) {
+                if (otherSlots[i] == otherSlot) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns a copy of the slots that the person with {@code slot} is linked to.
+         */
+        private int[] slotsLinkedTo(int slot) {
+            return Arrays.copyOf(adjacency[slot], degrees[slot]);
+        }
+
+        private void append(int slot, int otherSlot) {
+            if (degrees[slot] == adjacency[slot].length) {
+                adjacency[slot] = Arrays.copyOf(adjacency[slot], Math.max(4, degrees[slot] * 2));
+                epochs[slot] = epoch;
+            } else {
+                copyIfShared(slot);
+            }
+            adjacency[slot][degrees[slot]++] = otherSlot;
+            versions[slot] = lastVersion.incrementAndGet();
+        }
+
+        private void delete(int slot, int otherSlot) {
+            for (int i = 0; i < degrees[slot]; i++) {
+                if (adjacency[slot][i] == otherSlot) {
+                    copyIfShared(slot);
+                    int[] otherSlots = adjacency[slot];
+                    System.arraycopy(otherSlots, i + 1, otherSlots, i, degrees[slot] - i - 1);
+                    degrees[slot]--;
+                    versions[slot] = lastVersion.incrementAndGet();
+                    return;
+                }
+            }
+        }
+
+        private long versionOf(int slot) {
+            return slot < 0 ? 0 : versions[slot];
+        }
+
+        /**
+         * Copies the array of slots that the person with {@code slot} is linked to if a snapshot may share it.
+         */
+        private void copyIfShared(int slot) {
+            if (epochs[slot] != epoch) {
+                adjacency[slot] = adjacency[slot].clone();
+                epochs[slot] = epoch;
+            }
+        }
+
+        /**
+         * Returns the persons on the {@code other} side that the person with {@code slot} is assigned to,
+         * in the order they were assigned.
+         */
+        private <U extends Person> List<U> neighboursOf(int slot, Side<U> other) {
+            if (slot < 0) {
+                return List.of();
+            }
+            List<U> neighbours = new ArrayList<>(degrees[slot]);
+            for (int i = 0; i < degrees[slot]; i++) {
+                neighbours.add(other.personsBySlot.get(adjacency[slot][i]));
+            }
+            return Collections.unmodifiableList(neighbours);
+        }
+    }
+
+    /**
+     * The assignments and patient ids of an index at the time the snapshot was taken.
+     * Doctors and patients are looked up by name in an index built on the first lookup, on the thread that makes it,
+     * so lookups are synchronized.
+     */
+    public static class Snapshot {
+        private final Side<Doctor> doctors;
+        private final Side<Patient> patients;
+        // Built on the first call, as most snapshots are only saved and never asked for it
+        private List<Patient> unassignedPatients;
+
+        private Snapshot(Side<Doctor> doctors, Side<Patient> patients) {
+            this.doctors = doctors;
+            this.patients = patients;
+        }
+
+        /**
+         * Returns the patients assigned to {@code doctor}, or an empty list if it was not in the index.
+         */
+        public synchronized List<Patient> getPatientsOf(Doctor doctor) {
+            requireNonNull(doctor);
+            return doctors.neighboursOf(doctors.slotOf(doctor.getName()), patients);
+        }
+
+        /**
+         * Returns the doctors assigned to {@code patient}, or an empty list if it was not in the index.
+         */
+        public synchronized List<Doctor> getDoctorsOf(Patient patient) {
+            requireNonNull(patient);
+            return patients.neighboursOf(patients.slotOf(patient.getName()), doctors);
+        }
+
+        /**
+         * Returns the id of {@code patient}, or -1 if it was not in the index.
+         */
+        public synchronized int getPatientId(Patient patient) {
+            requireNonNull(patient);
+            int patientSlot = patients.slotOf(patient.getName());
+            return patientSlot < 0 ? -1 : patients.ids[patientSlot];
+        }
+
+        public int getNextPatientId() {
+            return patients.nextId;
+        }
+
+        /**
+         * Returns the version of the assignments of {@code doctor}, or 0 if it was not in the index.
+         */
+        public synchronized long getAssignmentVersion(Doctor doctor) {
+            requireNonNull(doctor);
+            return doctors.versionOf(doctors.slotOf(doctor.getName()));
+        }
+
+        /**
+         * Returns the patients that were not assigned to any doctor, in the order of their slots rather than the
+         * order of {@link AssignmentIndex#getUnassignedPatients()}.
+         */
+        public synchronized List<Patient> getUnassignedPatients() {
+            if (unassignedPatients == null) {
+                List<Patient> unassigned = new ArrayList<>();
+                for (int slot = 0; slot < patients.personsBySlot.size(); slot++) {
+                    Patient patient = patients.personsBySlot.get(slot);
+                    if (patient != null && patients.degrees[slot] == 0) {
+                        unassigned.add(patient);
+                    }
+                }
+                unassignedPatients = Collections.unmodifiableList(unassigned);
+            }
+            return unassignedPatients;
+        }
+    }
+}
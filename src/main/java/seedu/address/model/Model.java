@@ -7,7 +7,9 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.doctor.DoctorContainsKeywordsPredicate;
 import seedu.address.model.person.patient.Patient;
+import seedu.address.model.person.patient.PatientContainsKeywordsPredicate;
 
 /**
  * The API of the Model component.
@@ -129,6 +131,51 @@ public interface Model {
      */
     void setPatient(Patient target, Patient editedPatient);
 
+    /**
+     * Assigns {@code patient} to {@code doctor}. Both must exist in the address book.
+     *
+     * @return true if they were not assigned before.
+     */
+    boolean assignPatient(Doctor doctor, Patient patient);
+
+    /**
+     * Unassigns {@code patient} from {@code doctor}. Both must exist in the address book.
+     *
+     * @return true if they were assigned before.
+     */
+    boolean unassignPatient(Doctor doctor, Patient patient);
+
+    /**
+     * Returns true if {@code patient} is assigned to {@code doctor} in the address book.
+     */
+    boolean isAssigned(Doctor doctor, Patient patient);
+
+    /**
+     * Returns true if the address book has changes that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if the address book has undone changes that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Reverts the changes to the address book made by the last command that changed it.
+     */
+    void undoAddressBook();
+
+    /**
+     * Makes the changes to the address book that were last undone again.
+     */
+    void redoAddressBook();
+
+    /**
+     * Makes the changes to the address book since the last commit into one step that can be undone.
+     * Changes that were undone can no longer be redone after new changes are committed.
+     */
+    void commitAddressBook();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -155,4 +202,18 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPatientList(Predicate<Patient> predicate);
+
+    /**
+     * Updates the filter of the filtered doctor list to show the doctors matching {@code predicate}.
+     * The doctors that may match are looked up in a search index, so only they are checked against it.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findDoctors(DoctorContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered patient list to show the patients matching {@code predicate}.
+     * The patients that may match are looked up in a search index, so only they are checked against it.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findPatients(PatientContainsKeywordsPredicate predicate);
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,9 +12,16 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBookHistory.AssignmentChange;
+import seedu.address.model.AddressBookHistory.Contents;
+import seedu.address.model.AddressBookHistory.DoctorChange;
+import seedu.address.model.AddressBookHistory.PatientChange;
+import seedu.address.model.AddressBookHistory.ResetChange;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.doctor.DoctorContainsKeywordsPredicate;
 import seedu.address.model.person.patient.Patient;
+import seedu.address.model.person.patient.PatientContainsKeywordsPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -23,6 +31,7 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    private final AddressBookHistory history;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Doctor> filteredDoctors;
     private final FilteredList<Patient> filteredPatients;
@@ -37,6 +46,7 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        history = new AddressBookHistory(this.userPrefs.getUndoHistoryDepth());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredDoctors = new FilteredList<>(this.addressBook.getDoctorList());
         filteredPatients = new FilteredList<>(this.addressBook.getPatientList());
@@ -52,6 +62,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        history.setDepth(this.userPrefs.getUndoHistoryDepth());
     }
 
     @Override
@@ -85,7 +96,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        Contents before = new Contents(this.addressBook);
         this.addressBook.resetData(addressBook);
+        history.record(new ResetChange(before, new Contents(this.addressBook)));
     }
 
     @Override
@@ -118,12 +131,19 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteDoctor(Doctor target) {
+        int index = addressBook.indexOfDoctor(target);
+        List<Patient> assignedPatients = addressBook.getPatientsOf(target);
         addressBook.removeDoctor(target);
+        history.record(new DoctorChange(index, target, assignedPatients, null, List.of()));
     }
 
     @Override
     public void deletePatient(Patient patient) {
+        int index = addressBook.indexOfPatient(patient);
+        int id = addressBook.getPatientId(patient);
+        List<Doctor> assignedDoctors = addressBook.getDoctorsOf(patient);
         addressBook.removePatient(patient);
+        history.record(new PatientChange(index, id, patient, assignedDoctors, null, List.of()));
     }
 
     @Override
@@ -135,12 +155,17 @@ public class ModelManager implements Model {
     @Override
     public void addDoctor(Doctor doctor) {
         addressBook.addDoctor(doctor);
+        history.record(new DoctorChange(addressBook.getDoctorList().size() - 1, null, List.of(),
+                doctor, addressBook.getPatientsOf(doctor)));
         updateFilteredDoctorList(PREDICATE_SHOW_ALL_DOCTORS);
     }
 
     @Override
     public void addPatient(Patient patient) {
         addressBook.addPatient(patient);
+        history.record(new PatientChange(addressBook.getPatientList().size() - 1,
+                addressBook.getPatientId(patient), null, List.of(),
+                patient, addressBook.getDoctorsOf(patient)));
         updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
     }
 
@@ -155,7 +180,11 @@ public class ModelManager implements Model {
     public void setDoctor(Doctor target, Doctor editedDoctor) {
         requireAllNonNull(target, editedDoctor);
 
+        int index = addressBook.indexOfDoctor(target);
+        List<Patient> assignedPatients = addressBook.getPatientsOf(target);
         addressBook.setDoctor(target, editedDoctor);
+        history.record(new DoctorChange(index, target, assignedPatients,
+                editedDoctor, addressBook.getPatientsOf(editedDoctor)));
     }
 
     public Doctor getDoctor(int target) {
@@ -168,7 +197,66 @@ public class ModelManager implements Model {
     public void setPatient(Patient target, Patient editedPatient) {
         requireAllNonNull(target, editedPatient);
 
+        int index = addressBook.indexOfPatient(target);
+        List<Doctor> assignedDoctors = addressBook.getDoctorsOf(target);
         addressBook.setPatient(target, editedPatient);
+        history.record(new PatientChange(index, addressBook.getPatientId(editedPatient), target, assignedDoctors,
+                editedPatient, addressBook.getDoctorsOf(editedPatient)));
+    }
+
+    @Override
+    public boolean assignPatient(Doctor doctor, Patient patient) {
+        requireAllNonNull(doctor, patient);
+
+        if (!addressBook.assignPatient(doctor, patient)) {
+            return false;
+        }
+        history.record(new AssignmentChange(doctor, patient, true));
+        return true;
+    }
+
+    @Override
+    public boolean unassignPatient(Doctor doctor, Patient patient) {
+        requireAllNonNull(doctor, patient);
+
+        if (!addressBook.unassignPatient(doctor, patient)) {
+            return false;
+        }
+        history.record(new AssignmentChange(doctor, patient, false));
+        return true;
+    }
+
+    @Override
+    public boolean isAssigned(Doctor doctor, Patient patient) {
+        requireAllNonNull(doctor, patient);
+        return addressBook.isAssigned(doctor, patient);
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        history.undo(addressBook);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        history.redo(addressBook);
+    }
+
+    @Override
+    public void commitAddressBook() {
+        history.commit();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -210,6 +298,18 @@ public class ModelManager implements Model {
         filteredPatients.setPredicate(predicate);
     }
 
+    @Override
+    public void findDoctors(DoctorContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        filteredDoctors.setPredicate(addressBook.getIndexedPredicate(predicate));
+    }
+
+    @Override
+    public void findPatients(PatientContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        filteredPatients.setPredicate(addressBook.getIndexedPredicate(predicate));
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
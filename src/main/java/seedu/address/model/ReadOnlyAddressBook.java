@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.doctor.Doctor;
@@ -26,8 +28,41 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Patient> getPatientList();
     /**
-     * Returns an unmodifiable view of a list of unassigned patients.
+     * Returns an unmodifiable view of a list of unassigned patients, which is updated as assignments change.
      * This list will not contain any duplicate patients.
      */
     ObservableList<Patient> getUnassignedPatientList();
+    /**
+     * Returns the patients in the patients list assigned to {@code doctor}, or an empty list if there are none.
+     */
+    List<Patient> getPatientsOf(Doctor doctor);
+    /**
+     * Returns the doctors in the doctors list assigned to {@code patient}, or an empty list if there are none.
+     */
+    List<Doctor> getDoctorsOf(Patient patient);
+    /**
+     * Returns the id of {@code patient}, or -1 if it is not in the patients list.
+     * A patient keeps its id when edited, and the id of a removed patient is not given to another patient.
+     */
+    int getPatientId(Patient patient);
+    /**
+     * Returns an id greater than the id of every patient this address book has held.
+     */
+    int getNextPatientId();
+    /**
+     * Returns the version of the patients assigned to {@code doctor}, which changes whenever they change,
+     * or 0 if the doctor is not in the doctors list.
+     * Versions are unique across address books, so a doctor with the same version in two address books,
+     * such as one and its snapshot, is assigned the same patients in both.
+     */
+    long getAssignmentVersion(Doctor doctor);
+    /**
+     * Returns the version of the contents of this address book, which changes whenever they are modified.
+     * Versions are only comparable between calls on the same address book.
+     */
+    long getVersion();
+    /**
+     * Returns an unmodifiable copy of this address book as it is now, which later changes to it do not affect.
+     */
+    ReadOnlyAddressBook snapshot();
 }
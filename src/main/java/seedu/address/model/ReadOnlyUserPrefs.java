@@ -13,4 +13,14 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the number of files that the address book is split into, or 0 if it is kept in a single file.
+     */
+    int getAddressBookShardCount();
+
+    /**
+     * Returns the number of commands that can be undone, or 0 if undo is turned off.
+     */
+    int getUndoHistoryDepth();
+
 }
@@ -13,8 +13,12 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 20;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "docedex.json");
+    private int addressBookShardCount = 0;
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookShardCount(newUserPrefs.getAddressBookShardCount());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,34 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getAddressBookShardCount() {
+        return addressBookShardCount;
+    }
+
+    /**
+     * Sets the number of files that the address book is split into, or 0 to keep it in a single file.
+     */
+    public void setAddressBookShardCount(int addressBookShardCount) {
+        if (addressBookShardCount < 0) {
+            throw new IllegalArgumentException("Address book shard count must not be negative");
+        }
+        this.addressBookShardCount = addressBookShardCount;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    /**
+     * Sets the number of commands that can be undone, or 0 to turn off undo.
+     */
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        if (undoHistoryDepth < 0) {
+            throw new IllegalArgumentException("Undo history depth must not be negative");
+        }
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +102,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && addressBookShardCount == o.addressBookShardCount
+                && undoHistoryDepth == o.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookShardCount, undoHistoryDepth);
     }
 
     @Override
@@ -81,6 +117,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file shards : " + addressBookShardCount);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
         return sb.toString();
     }
 
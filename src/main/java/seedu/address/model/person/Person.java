@@ -34,6 +34,17 @@ public class Person {
         this.tags.addAll(tags);
     }
 
+    /**
+     * Constructs a {@code Person} with only a {@code name}, for subclasses that supply the other fields
+     * through their getters.
+     */
+    protected Person(Name name) {
+        requireAllNonNull(name);
+        this.name = name;
+        this.phone = null;
+        this.email = null;
+    }
+
     public Name getName() {
         return name;
     }
@@ -55,6 +66,18 @@ public class Person {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns true if this person has a tag named {@code lowerCaseTagName}, ignoring the case of the tag names.
+     */
+    public boolean hasTagIgnoreCase(String lowerCaseTagName) {
+        for (Tag tag : getTags()) {
+            if (tag.getLowerCaseTagName().equals(lowerCaseTagName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -92,7 +115,7 @@ public class Person {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, tags);
+        return Objects.hash(getName(), getPhone(), getEmail(), getTags());
     }
 
     @Override
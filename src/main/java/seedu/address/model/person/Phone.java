@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -12,8 +14,9 @@ public class Phone {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
-    private static final String VALIDATION_REGEX = "\\d{3,}";
+    private static final int MIN_LENGTH = 3;
     private final String value;
+    private final String lowerCaseValue;
 
     /**
      * Constructs a {@code Phone}.
@@ -24,13 +27,23 @@ public class Phone {
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
         value = phone;
+        lowerCaseValue = value.toLowerCase();
     }
 
     /**
-     * Returns true if a given string is a valid phone number.
+     * Returns true if a given string is a valid phone number, which is at least {@link #MIN_LENGTH} digits.
+     * Equivalent to matching the regex {@code \d{3,}}, but scans the string directly.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() < MIN_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!StringUtil.isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -53,4 +66,11 @@ public class Phone {
     public String getValue() {
         return value;
     }
+
+    /**
+     * Returns the phone number in lower case, which is computed once when this phone is constructed.
+     */
+    public String getLowerCaseValue() {
+        return lowerCaseValue;
+    }
 }
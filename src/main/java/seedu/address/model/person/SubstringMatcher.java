@@ -0,0 +1,51 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Checks if a field of a person contains a filter value, ignoring case.
+ * The filter value is lower cased once when the matcher is created, and the field must give the lower case form
+ * that the person's value objects keep, so a check does not create any strings.
+ */
+public class SubstringMatcher<T> {
+
+    private final Function<T, String> field;
+    private final String lowerCaseValue;
+
+    private SubstringMatcher(Function<T, String> field, String value) {
+        this.field = field;
+        this.lowerCaseValue = value.toLowerCase();
+    }
+
+    /**
+     * Returns matchers for the non-empty {@code values}, each checking the field at the same position in
+     * {@code fields}, which must give lower case values. Empty values match every field, so they are left out.
+     * Longer values are contained in fewer fields, so their matchers come first to reject a person sooner.
+     */
+    public static <T> List<SubstringMatcher<T>> ofNonEmpty(List<Function<T, String>> fields, List<String> values) {
+        requireAllNonNull(fields, values);
+        assert fields.size() == values.size();
+
+        List<SubstringMatcher<T>> matchers = new ArrayList<>();
+        for (int i = 0; i < values.size(); i++) {
+            if (!values.get(i).isEmpty()) {
+                matchers.add(new SubstringMatcher<>(fields.get(i), values.get(i)));
+            }
+        }
+        matchers.sort(Comparator.comparingInt((SubstringMatcher<T> matcher) -> matcher.lowerCaseValue.length())
+                .reversed());
+        return List.copyOf(matchers);
+    }
+
+    /**
+     * Returns true if the field of {@code person} contains the filter value, ignoring case.
+     */
+    public boolean matches(T person) {
+        return field.apply(person).contains(lowerCaseValue);
+    }
+}
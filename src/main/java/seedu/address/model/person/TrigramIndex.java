@@ -0,0 +1,269 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An inverted index from the trigrams (runs of three characters) of the lower case value of each field
+ * to the elements whose field contains them.
+ * A lower case query of at least three characters can only be a substring of a field that contains all of
+ * the query's trigrams, so looking them up narrows a case-insensitive substring search down to a few candidates.
+ * Elements are tracked by identity and their fields must not change while they are in the index.
+ * The fields of an element are only read when the index is first searched after the element is added,
+ * so that adding elements that are never searched for, such as when loading, costs little.
+ */
+public class TrigramIndex<T> {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final List<Function<T, String>> fields;
+    private final List<Map<Long, Postings>> postingsByField = new ArrayList<>();
+
+    /** Slot of each element in the index. Posting lists hold slots rather than elements to keep them compact. */
+    private final Map<T, Integer> slots = new IdentityHashMap<>();
+    private final List<T> elementsBySlot = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    /** Slots of the elements whose trigrams are not in the posting lists yet. */
+    private final BitSet unindexedSlots = new BitSet();
+
+    /** Number of changes made to the index, used to tell when cached candidates are out of date. */
+    private int modCount;
+
+    /**
+     * Constructs an empty {@code TrigramIndex} over the given {@code fields} of its elements.
+     */
+    public TrigramIndex(List<Function<T, String>> fields) {
+        requireAllNonNull(fields);
+        this.fields = List.copyOf(fields);
+        for (int i = 0; i < fields.size(); i++) {
+            postingsByField.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds {@code element} to the index. It must not already be in the index.
+     */
+    public void add(T element) {
+        requireNonNull(element);
+        assert !slots.containsKey(element);
+        int slot = freeSlots.isEmpty() ? elementsBySlot.size() : freeSlots.pop();
+        if (slot == elementsBySlot.size()) {
+            elementsBySlot.add(element);
+        } else {
+            elementsBySlot.set(slot, element);
+        }
+        slots.put(element, slot);
+        unindexedSlots.set(slot);
+        modCount++;
+    }
+
+    /**
+     * Removes {@code element} from the index. Does nothing if it is not in the index.
+     */
+    public void remove(T element) {
+        requireNonNull(element);
+        Integer slot = slots.remove(element);
+        if (slot == null) {
+            return;
+        }
+
+        if (unindexedSlots.get(slot)) {
+            unindexedSlots.clear(slot);
+            removeSlot(slot);
+            return;
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            Map<Long, Postings> postings = postingsByField.get(i);
+            for (long gram : gramsOf(fields.get(i).apply(element))) {
+                Postings gramPostings = postings.get(gram);
+                if (gramPostings == null) {
+                    continue; // already removed for an earlier occurrence of the trigram
+                }
+                gramPostings.remove(slot);
+                if (gramPostings.size == 0) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        removeSlot(slot);
+    }
+
+    private void removeSlot(int slot) {
+        elementsBySlot.set(slot, null);
+        freeSlots.push(slot);
+        modCount++;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code elements}.
+     */
+    public void setAll(List<T> elements) {
+        requireAllNonNull(elements);
+        postingsByField.forEach(Map::clear);
+        slots.clear();
+        elementsBySlot.clear();
+        freeSlots.clear();
+        unindexedSlots.clear();
+        modCount++;
+        elements.forEach(this::add);
+    }
+
+    /**
+     * Returns the elements that may have each field contain the query at the same position in {@code queries},
+     * ignoring case. Queries shorter than {@link #GRAM_LENGTH} place no constraint on their field.
+     * The result is an identity set that may hold elements that do not match, but never leaves out one that does.
+     *
+     * @return the candidates, or null if no query is long enough to narrow down the elements.
+     */
+    public Set<T> findCandidates(List<String> queries) {
+        requireAllNonNull(queries);
+        assert queries.size() == fields.size();
+        indexUnindexedSlots();
+
+        List<Postings> required = new ArrayList<>();
+        for (int i = 0; i < queries.size(); i++) {
+            Map<Long, Postings> postings = postingsByField.get(i);
+            for (long gram : gramsOf(queries.get(i))) {
+                Postings gramPostings = postings.get(gram);
+                if (gramPostings == null) {
+                    return Collections.newSetFromMap(new IdentityHashMap<>());
+                }
+                required.add(gramPostings);
+            }
+        }
+        if (required.isEmpty()) {
+            return null;
+        }
+
+        // Intersect starting from the shortest posting list, so each step only checks the remaining slots
+        required.sort(Comparator.comparingInt(postings -> postings.size));
+        int[] matches = Arrays.copyOf(required.get(0).slots, required.get(0).size);
+        int matchCount = matches.length;
+        for (int i = 1; i < required.size() && matchCount > 0; i++) {
+            Postings postings = required.get(i);
+            int kept = 0;
+            for (int j = 0; j < matchCount; j++) {
+                if (postings.contains(matches[j])) {
+                    matches[kept++] = matches[j];
+                }
+            }
+            matchCount = kept;
+        }
+
+        Set<T> candidates = Collections.newSetFromMap(new IdentityHashMap<>(matchCount));
+        for (int i = 0; i < matchCount; i++) {
+            candidates.add(elementsBySlot.get(matches[i]));
+        }
+        return candidates;
+    }
+
+    /**
+     * Adds the trigrams of the fields of every element added since the index was last searched
+     * to the posting lists.
+     */
+    private void indexUnindexedSlots() {
+        for (int slot = unindexedSlots.nextSetBit(0); slot >= 0; slot = unindexedSlots.nextSetBit(slot + 1)) {
+            T element = elementsBySlot.get(slot);
+            for (int i = 0; i < fields.size(); i++) {
+                Map<Long, Postings> postings = postingsByField.get(i);
+                for (long gram : gramsOf(fields.get(i).apply(element))) {
+                    postings.computeIfAbsent(gram, unused -> new Postings()).insert(slot);
+                }
+            }
+        }
+        unindexedSlots.clear();
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that first checks if the element is a candidate for
+     * {@code queries}, as given by {@link #findCandidates(List)}. {@code predicate} must only accept elements whose
+     * fields contain the respective queries, ignoring case.
+     * The candidates are looked up again whenever the index has changed since they were last looked up.
+     */
+    public Predicate<T> narrow(List<String> queries, Predicate<T> predicate) {
+        requireAllNonNull(queries, predicate);
+        List<String> queriesCopy = List.copyOf(queries);
+        return new Predicate<>() {
+            private Set<T> candidates;
+            private int candidatesModCount = -1;
+
+            @Override
+            public boolean test(T element) {
+                if (candidatesModCount != modCount) {
+                    candidates = findCandidates(queriesCopy);
+                    candidatesModCount = modCount;
+                }
+                return (candidates == null || candidates.contains(element)) && predicate.test(element);
+            }
+        };
+    }
+
+    /**
+     * Returns the trigrams of the lower case {@code value}, each packed into a long.
+     * A trigram that occurs more than once in {@code value} is repeated.
+     */
+    private static long[] gramsOf(String value) {
+        String lowerCase = value.toLowerCase();
+        long[] grams = new long[Math.max(0, lowerCase.length() - GRAM_LENGTH + 1)];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) lowerCase.charAt(i) << 32)
+                    | ((long) lowerCase.charAt(i + 1) << 16)
+                    | lowerCase.charAt(i + 2);
+        }
+        return grams;
+    }
+
+    /**
+     * A sorted list of the slots of the elements containing one trigram in one field.
+     */
+    private static class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        private boolean contains(int slot) {
+            return Arrays.binarySearch(slots, 0, size, slot) >= 0;
+        }
+
+        /**
+         * Inserts {@code slot} in order. Does nothing if it is already in the list.
+         */
+        private void insert(int slot) {
+            // Slots are mostly handed out in increasing order, so this is usually an append
+            int index = size > 0 && slots[size - 1] < slot ? size : Arrays.binarySearch(slots, 0, size, slot);
+            if (index >= 0 && index < size) {
+                return;
+            }
+            int insertAt = index >= 0 ? index : -index - 1;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, insertAt, slots, insertAt + 1, size - insertAt);
+            slots[insertAt] = slot;
+            size++;
+        }
+
+        private void remove(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+            size--;
+        }
+    }
+}
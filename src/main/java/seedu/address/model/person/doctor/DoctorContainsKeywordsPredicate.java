@@ -13,6 +13,10 @@ public class DoctorContainsKeywordsPredicate implements Predicate<Doctor> {
         this.doctorFilter = doctorFilter;
     }
 
+    public DoctorFilter getDoctorFilter() {
+        return doctorFilter;
+    }
+
     @Override
     public boolean test(Doctor doctor) {
         return doctorFilter.isMatch((Doctor) doctor);
@@ -1,17 +1,29 @@
 package seedu.address.model.person.doctor;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import seedu.address.commons.util.StringUtil;
-import seedu.address.model.person.patient.Patient;
+import seedu.address.model.person.SubstringMatcher;
 
 /**
  * Filter Class for passing to DoctorContainsKeywordsPredicate
  */
 public class DoctorFilter {
 
+    /**
+     * Fields of a doctor that are matched by substring in lower case, in the same order as
+     * {@link #getSubstringFilters()}.
+     */
+    public static final List<Function<Doctor, String>> SUBSTRING_FIELDS = List.of(
+            doctor -> doctor.getName().getLowerCaseValue(),
+            doctor -> doctor.getPhone().getLowerCaseValue(),
+            doctor -> doctor.getEmail().getLowerCaseValue(),
+            doctor -> doctor.getSpecialty().getLowerCaseValue(),
+            doctor -> doctor.getYoe().getValue());
+
     //Filter fields
     private String nameFilter = "";
     private String phoneFilter = "";
@@ -19,7 +31,10 @@ public class DoctorFilter {
     private String specialtyFilter = "";
     private String yoeFilter = "";
     private Set<String> tagsFilter = new HashSet<>();
-    private Patient patientFilter = null;
+
+    //Compiled once on construction, as the filter is checked against every doctor
+    private final List<SubstringMatcher<Doctor>> substringMatchers;
+    private final List<String> lowerCaseTagsFilter;
 
     /**
      * Constructs a {@code DoctorFilter}.
@@ -39,15 +54,11 @@ public class DoctorFilter {
         this.specialtyFilter = specialty;
         this.yoeFilter = yoe;
         this.tagsFilter = tags;
-    }
-
-    /**
-     * Constructs a {@code DoctorFilter}.
-     *
-     * @param patient a patient object (can be null).
-     */
-    public DoctorFilter(Patient patient) {
-        this.patientFilter = patient;
+        this.substringMatchers = SubstringMatcher.ofNonEmpty(SUBSTRING_FIELDS, getSubstringFilters());
+        this.lowerCaseTagsFilter = tags.stream()
+                .map(String::toLowerCase)
+                .distinct()
+                .collect(Collectors.toList());
     }
 
     /**
@@ -55,30 +66,25 @@ public class DoctorFilter {
      * Returns true if each filter field is a substring of the respective field of doctor
      */
     public boolean isMatch(Doctor doctor) {
-
-        boolean result = StringUtil.containsSubstringIgnoreCase(doctor.getName().getValue(), nameFilter)
-                && StringUtil.containsSubstringIgnoreCase(doctor.getPhone().getValue(), phoneFilter)
-                && StringUtil.containsSubstringIgnoreCase(doctor.getEmail().getValue(), emailFilter)
-                && StringUtil.containsSubstringIgnoreCase(doctor.getSpecialty().getValue(), specialtyFilter)
-                && StringUtil.containsSubstringIgnoreCase(doctor.getYoe().getValue(), yoeFilter);
-
-        if (!tagsFilter.isEmpty()) {
-            Set<String> tagStringSet = doctor
-                    .getTags()
-                    .stream()
-                    .map(tag -> tag.getTagName().toLowerCase())
-                    .collect(Collectors.toSet());
-            result = result && tagStringSet.containsAll(tagsFilter
-                    .stream()
-                    .map(String::toLowerCase)
-                    .collect(Collectors.toSet()));
+        // Indexed loops, so that matching does not allocate
+        for (int i = 0; i < substringMatchers.size(); i++) {
+            if (!substringMatchers.get(i).matches(doctor)) {
+                return false;
+            }
         }
-
-        if (patientFilter != null) {
-            result = result && doctor.hasPatient(patientFilter);
+        for (int i = 0; i < lowerCaseTagsFilter.size(); i++) {
+            if (!doctor.hasTagIgnoreCase(lowerCaseTagsFilter.get(i))) {
+                return false;
+            }
         }
+        return true;
+    }
 
-        return result;
+    /**
+     * Returns the filters that are matched by substring, in the same order as {@link #SUBSTRING_FIELDS}.
+     */
+    public List<String> getSubstringFilters() {
+        return List.of(nameFilter, phoneFilter, emailFilter, specialtyFilter, yoeFilter);
     }
 
     @Override
@@ -92,19 +98,12 @@ public class DoctorFilter {
         }
 
         DoctorFilter otherFilter = (DoctorFilter) other;
-        boolean isSamePatientFilter;
-        if (this.patientFilter == null) {
-            isSamePatientFilter = otherFilter.patientFilter == null;
-        } else {
-            isSamePatientFilter = this.patientFilter.equals(otherFilter.patientFilter);
-        }
 
         return this.nameFilter.equals(otherFilter.nameFilter)
                 && this.phoneFilter.equals(otherFilter.phoneFilter)
                 && this.emailFilter.equals(otherFilter.emailFilter)
                 && this.specialtyFilter.equals(otherFilter.specialtyFilter)
                 && this.yoeFilter.equals(otherFilter.yoeFilter)
-                && this.tagsFilter.equals(otherFilter.tagsFilter)
-                && isSamePatientFilter;
+                && this.tagsFilter.equals(otherFilter.tagsFilter);
     }
 }
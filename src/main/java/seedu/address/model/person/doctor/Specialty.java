@@ -3,6 +3,10 @@ package seedu.address.model.person.doctor;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.InternPool;
+
 /**
  * Represents a Doctor's specialty in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidSpecialty(String)}
@@ -17,8 +21,12 @@ public class Specialty {
      * otherwise " " (a blank string) becomes a valid input.
      */
     private static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final InternPool<Specialty> POOL = new InternPool<>(Specialty::new);
 
     private final String specialty;
+    private final String lowerCaseValue;
 
     /**
      * Constructs a {@code Specialty}.
@@ -29,13 +37,24 @@ public class Specialty {
         requireNonNull(specialty);
         checkArgument(isValidSpecialty(specialty), MESSAGE_CONSTRAINTS);
         this.specialty = specialty;
+        lowerCaseValue = specialty.toLowerCase();
     }
 
     /**
      * Returns true if a given string is a valid specialty.
      */
     public static boolean isValidSpecialty(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return POOL.contains(test) || VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns a {@code Specialty} equal to {@code new Specialty(specialty)}.
+     * Callers that give the same specialty share one instance, and the specialty is only validated the first time.
+     *
+     * @param specialty A valid specialty.
+     */
+    public static Specialty of(String specialty) {
+        return POOL.intern(specialty);
     }
 
     @Override
@@ -58,4 +77,11 @@ public class Specialty {
     public String getValue() {
         return specialty;
     }
+
+    /**
+     * Returns the specialty in lower case, which is computed once when this specialty is constructed.
+     */
+    public String getLowerCaseValue() {
+        return lowerCaseValue;
+    }
 }
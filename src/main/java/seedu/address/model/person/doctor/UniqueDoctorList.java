@@ -2,13 +2,20 @@ package seedu.address.model.person.doctor;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicateKeys;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.TrigramIndex;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -29,12 +36,33 @@ public class UniqueDoctorList implements Iterable<Doctor> {
     private final ObservableList<Doctor> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Index of the doctors in {@code internalList} keyed by name, which is the identity used by
+     * {@code Doctor#isSameDoctor(Doctor)}. Kept in sync with {@code internalList} so that identity checks
+     * do not need to scan the whole list.
+     */
+    private final Map<Name, Doctor> nameIndex = new HashMap<>();
+
+    /**
+     * Positions of the doctors in {@code internalList} keyed by name. Only the positions below
+     * {@code positionsValidUpTo} are up to date; the rest are worked out again when next looked up, so that
+     * adding or removing a doctor does not renumber the whole list at once.
+     */
+    private final Map<Name, Integer> positions = new HashMap<>();
+    private int positionsValidUpTo;
+
+    /**
+     * Index of the doctors in {@code internalList} by the trigrams of their {@link DoctorFilter#SUBSTRING_FIELDS}.
+     * Kept in sync with {@code internalList} so that searches only check the doctors that may match.
+     */
+    private final TrigramIndex<Doctor> searchIndex = new TrigramIndex<>(DoctorFilter.SUBSTRING_FIELDS);
+
     /**
      * Returns true if the list contains an equivalent doctor as the given argument.
      */
     public boolean contains(Doctor toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameDoctor);
+        return nameIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -42,11 +70,22 @@ public class UniqueDoctorList implements Iterable<Doctor> {
      * The doctor must not already exist in the list.
      */
     public void add(Doctor toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a doctor to the list at {@code index}.
+     * The doctor must not already exist in the list.
+     */
+    public void add(int index, Doctor toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        internalList.add(index, toAdd);
+        positionsValidUpTo = Math.min(positionsValidUpTo, index);
+        nameIndex.put(toAdd.getName(), toAdd);
+        searchIndex.add(toAdd);
     }
 
     /**
@@ -57,7 +96,7 @@ public class UniqueDoctorList implements Iterable<Doctor> {
     public void setDoctor(Doctor target, Doctor editedDoctor) {
         requireAllNonNull(target, editedDoctor);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -66,7 +105,13 @@ public class UniqueDoctorList implements Iterable<Doctor> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedDoctor);
+        Doctor replaced = internalList.set(index, editedDoctor);
+        nameIndex.remove(target.getName());
+        nameIndex.put(editedDoctor.getName(), editedDoctor);
+        positions.remove(target.getName());
+        positions.put(editedDoctor.getName(), index);
+        searchIndex.remove(replaced);
+        searchIndex.add(editedDoctor);
     }
 
     public Doctor getDoctor(int target) {
@@ -86,14 +131,23 @@ public class UniqueDoctorList implements Iterable<Doctor> {
      */
     public void remove(Doctor toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(index);
+        positions.remove(toRemove.getName());
+        positionsValidUpTo = Math.min(positionsValidUpTo, index);
+        searchIndex.remove(nameIndex.remove(toRemove.getName()));
     }
 
     public void setDoctors(UniqueDoctorList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        clearPositions();
+        searchIndex.setAll(internalList);
     }
 
     /**
@@ -102,11 +156,46 @@ public class UniqueDoctorList implements Iterable<Doctor> {
      */
     public void setDoctors(List<Doctor> doctors) {
         requireAllNonNull(doctors);
-        if (!doctorsAreUnique(doctors)) {
-            throw new DuplicatePersonException();
+        Set<Name> duplicateNames = findDuplicateKeys(doctors, Doctor::getName);
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(duplicateNames);
         }
 
         internalList.setAll(doctors);
+        nameIndex.clear();
+        doctors.forEach(doctor -> nameIndex.put(doctor.getName(), doctor));
+        clearPositions();
+        searchIndex.setAll(doctors);
+    }
+
+    /**
+     * Returns the position in the list of the doctor equal to {@code toFind}, or -1 if there is none.
+     */
+    public int indexOf(Doctor toFind) {
+        requireNonNull(toFind);
+        Integer position = positions.get(toFind.getName());
+        if (position == null || position >= positionsValidUpTo) {
+            for (int i = positionsValidUpTo; i < internalList.size(); i++) {
+                positions.put(internalList.get(i).getName(), i);
+            }
+            positionsValidUpTo = internalList.size();
+            position = positions.get(toFind.getName());
+        }
+        return position != null && internalList.get(position).equals(toFind) ? position : -1;
+    }
+
+    private void clearPositions() {
+        positions.clear();
+        positionsValidUpTo = 0;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that uses the search index of this list
+     * to only check the doctors that may match.
+     */
+    public Predicate<Doctor> getIndexedPredicate(DoctorContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return searchIndex.narrow(predicate.getDoctorFilter().getSubstringFilters(), predicate);
     }
 
     /**
@@ -132,18 +221,4 @@ public class UniqueDoctorList implements Iterable<Doctor> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code doctors} contains only unique doctors.
-     */
-    private boolean doctorsAreUnique(List<Doctor> doctors) {
-        for (int i = 0; i < doctors.size() - 1; i++) {
-            for (int j = i + 1; j < doctors.size(); j++) {
-                if (doctors.get(i).isSameDoctor(doctors.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
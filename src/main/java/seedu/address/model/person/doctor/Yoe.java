@@ -3,6 +3,8 @@ package seedu.address.model.person.doctor;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Doctor's Years of Experience (YOE) in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidYoe(String)}
@@ -12,6 +14,8 @@ public class Yoe {
     public static final String MESSAGE_CONSTRAINTS =
             "Years of Experience (YOE) should only contain numbers, and it should be at most 2 digits long";
     private static final String VALIDATION_REGEX = "^0*[0-9][0-9]{0,1}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern LEADING_ZEROS_PATTERN = Pattern.compile("^0+(?!$)");
     private final String value;
 
     /**
@@ -22,7 +26,7 @@ public class Yoe {
     public Yoe(String yoe) {
         requireNonNull(yoe);
         checkArgument(isValidYoe(yoe), MESSAGE_CONSTRAINTS);
-        yoe = yoe.replaceFirst("^0+(?!$)", "");
+        yoe = LEADING_ZEROS_PATTERN.matcher(yoe).replaceFirst("");
         value = yoe;
     }
 
@@ -30,7 +34,7 @@ public class Yoe {
      * Returns true if a given string is a valid years of experience.
      */
     public static boolean isValidYoe(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person.patient;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Patient's diagnosis in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDiagnosis(String)}
@@ -17,8 +19,10 @@ public class Diagnosis {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private final String diagnosis;
+    private final String lowerCaseValue;
 
     /**
      * Constructs a {@code Diagnosis}.
@@ -29,13 +33,14 @@ public class Diagnosis {
         requireNonNull(diagnosis);
         checkArgument(isValidDiagnosis(diagnosis), MESSAGE_CONSTRAINTS);
         this.diagnosis = diagnosis;
+        lowerCaseValue = diagnosis.toLowerCase();
     }
 
     /**
      * Returns true if a given string is a valid diagnosis.
      */
     public static boolean isValidDiagnosis(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -60,4 +65,11 @@ public class Diagnosis {
         return diagnosis;
     }
 
+    /**
+     * Returns the diagnosis in lower case, which is computed once when this diagnosis is constructed.
+     */
+    public String getLowerCaseValue() {
+        return lowerCaseValue;
+    }
+
 }
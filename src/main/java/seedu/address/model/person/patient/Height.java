@@ -2,6 +2,8 @@ package seedu.address.model.person.patient;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
+import static seedu.address.commons.util.StringUtil.isRegexWhitespace;
 
 /**
  * Represents a Patient's height in the address book.
@@ -35,9 +37,22 @@ public class Height {
 
     /**
      * Returns true if a given string is a valid height.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, but scans the string directly.
      */
     public static boolean isValidHeight(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int start = 0;
+        int end = test.length();
+        while (start < end && isRegexWhitespace(test.charAt(start))) {
+            start++;
+        }
+        while (end > start && isRegexWhitespace(test.charAt(end - 1))) {
+            end--;
+        }
+        return end - start == 4
+                && isAsciiDigit(test.charAt(start))
+                && test.charAt(start + 1) == '.'
+                && isAsciiDigit(test.charAt(start + 2))
+                && isAsciiDigit(test.charAt(start + 3));
     }
 
     @Override
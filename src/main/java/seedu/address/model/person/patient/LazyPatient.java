@@ -0,0 +1,92 @@
+package seedu.address.model.person.patient;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.SoftReference;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A patient whose fields other than its name are loaded from storage when first used.
+ * Loading an address book only needs the names of its patients, so the other fields of patients that are never
+ * shown, searched or edited are never loaded.
+ * The loaded fields are held softly, so those of patients that are no longer used may be reclaimed when memory
+ * is short, and are loaded again when next used.
+ */
+public class LazyPatient extends Patient {
+
+    private final Supplier<Patient> loader;
+    private volatile SoftReference<Patient> loaded = new SoftReference<>(null);
+
+    /**
+     * Constructs a {@code LazyPatient} named {@code name}, whose other fields are taken from the patient returned by
+     * {@code loader}. {@code loader} must return a patient named {@code name}, and may be called more than once.
+     */
+    public LazyPatient(Name name, Supplier<Patient> loader) {
+        super(name);
+        requireNonNull(loader);
+        this.loader = loader;
+    }
+
+    /**
+     * Returns true if the fields of this patient are loaded.
+     */
+    public boolean isLoaded() {
+        return loaded.get() != null;
+    }
+
+    @Override
+    public Phone getPhone() {
+        return load().getPhone();
+    }
+
+    @Override
+    public Email getEmail() {
+        return load().getEmail();
+    }
+
+    @Override
+    public Set<Tag> getTags() {
+        return load().getTags();
+    }
+
+    @Override
+    public Height getHeight() {
+        return load().getHeight();
+    }
+
+    @Override
+    public Weight getWeight() {
+        return load().getWeight();
+    }
+
+    @Override
+    public Diagnosis getDiagnosis() {
+        return load().getDiagnosis();
+    }
+
+    @Override
+    public Status getStatus() {
+        return load().getStatus();
+    }
+
+    @Override
+    public Remark getRemark() {
+        return load().getRemark();
+    }
+
+    private Patient load() {
+        Patient patient = loaded.get();
+        if (patient == null) {
+            patient = loader.get();
+            assert patient.getName().equals(getName());
+            loaded = new SoftReference<>(patient);
+        }
+        return patient;
+    }
+}
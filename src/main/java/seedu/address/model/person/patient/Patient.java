@@ -2,19 +2,17 @@ package seedu.address.model.person.patient;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.HashSet;
-import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
-import seedu.address.model.person.doctor.Doctor;
 import seedu.address.model.tag.Tag;
 /**
  * Represents a Patient in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * The doctors assigned to a patient are kept by the address book rather than by the patient.
  */
 public class Patient extends Person {
     // Identity fields
@@ -23,35 +21,31 @@ public class Patient extends Person {
     private final Diagnosis diagnosis;
     private final Status status;
     private final Remark remark;
-    private final Set<Doctor> doctors;
     /**
      * Every field must be present and not null.
      */
     public Patient(Name name, Phone phone, Email email, Height height, Weight weight,
-                   Diagnosis diagnosis, Status status, Remark remark, Set<Tag> tags, Set<Doctor> doctors) {
+                   Diagnosis diagnosis, Status status, Remark remark, Set<Tag> tags) {
         super(name, phone, email, tags);
-        requireAllNonNull(height, weight, diagnosis, status, remark, tags, doctors);
+        requireAllNonNull(height, weight, diagnosis, status, remark, tags);
         this.height = height;
         this.weight = weight;
         this.diagnosis = diagnosis;
         this.status = status;
         this.remark = remark;
-        this.doctors = doctors;
     }
+
     /**
-     * Initializes {@code Patient} object without {@code doctors}.
-     * Every field must be present and not null.
+     * Initializes {@code Patient} object with only a {@code name},
+     * for subclasses that supply the other fields through their getters.
      */
-    public Patient(Name name, Phone phone, Email email, Height height, Weight weight,
-                   Diagnosis diagnosis, Status status, Remark remark, Set<Tag> tags) {
-        super(name, phone, email, tags);
-        requireAllNonNull(height, weight, diagnosis, status, remark, tags);
-        this.height = height;
-        this.weight = weight;
-        this.diagnosis = diagnosis;
-        this.status = status;
-        this.remark = remark;
-        this.doctors = new HashSet<>();
+    protected Patient(Name name) {
+        super(name);
+        this.height = null;
+        this.weight = null;
+        this.diagnosis = null;
+        this.status = null;
+        this.remark = null;
     }
 
     public Height getHeight() {
@@ -69,51 +63,6 @@ public class Patient extends Person {
     public Remark getRemark() {
         return remark;
     }
-    public Set<Doctor> getDoctors() {
-        return doctors;
-    }
-
-    /**
-     * Returns true if patient contains supplied doctor.
-     *
-     * @param doctor a doctor.
-     * @return true if patient contains supplied doctor, and false otherwise.
-     */
-    public boolean hasDoctor(Doctor doctor) {
-        return doctors.contains(doctor);
-    }
-
-    /**
-     * Returns true if patient is assigned to any doctor
-     *
-     * @return true if patient is assigned to any doctor, and false otherwise.
-     */
-    public boolean hasDoctors() {
-        return doctors.size() > 0;
-    }
-
-    /**
-     * Removes a doctor if it exists in doctor's doctor list.
-     *
-     * @param doctor a doctor.
-     */
-    public void removeDoctorIfAssigned(Doctor doctor) {
-        if (this.hasDoctor(doctor)) {
-            doctors.remove(doctor);
-        }
-    }
-
-    /**
-     * Assigns a doctor if doctor does not exist in patient's doctor list.
-     *
-     * @param doctor a doctor.
-     */
-    public void assignDoctor(Doctor doctor) {
-        if (!this.hasDoctor(doctor)) {
-            doctors.add(doctor);
-        }
-    }
-
     /**
      * Returns true if both patients have the same name.
      * This defines a weaker notion of equality between two patients.
@@ -155,9 +104,9 @@ public class Patient extends Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(getName(), getPhone(), getEmail(), getHeight(), getWeight(), getDiagnosis(),
-                getStatus(), getRemark(), getTags());
+        // Equal patients have the same name, which is all that is hashed so that hashing a LazyPatient
+        // does not load its other fields.
+        return getName().hashCode();
     }
 
     @Override
@@ -179,13 +128,6 @@ public class Patient extends Person {
             tags.forEach(builder::append);
         }
 
-        Set<Doctor> doctors = getDoctors();
-        if (!doctors.isEmpty()) {
-            builder.append("; Doctors: | ");
-            doctors.forEach((Doctor doctor) -> {
-                builder.append(doctor.getName()).append(" | ");
-            });
-        }
         return builder.toString();
     }
 }
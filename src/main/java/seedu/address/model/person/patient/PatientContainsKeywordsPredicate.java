@@ -13,6 +13,10 @@ public class PatientContainsKeywordsPredicate implements Predicate<Patient> {
         this.patientFilter = patientFilter;
     }
 
+    public PatientFilter getPatientFilter() {
+        return patientFilter;
+    }
+
     @Override
     public boolean test(Patient patient) {
         return patientFilter.isMatch((Patient) patient);
@@ -1,17 +1,32 @@
 package seedu.address.model.person.patient;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import seedu.address.commons.util.StringUtil;
-import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.SubstringMatcher;
 
 /**
  * Filter Class for passing to PatientContainsKeywordsPredicate
  */
 public class PatientFilter {
 
+    /**
+     * Fields of a patient that are matched by substring in lower case, in the same order as
+     * {@link #getSubstringFilters()}.
+     */
+    public static final List<Function<Patient, String>> SUBSTRING_FIELDS = List.of(
+            patient -> patient.getName().getLowerCaseValue(),
+            patient -> patient.getPhone().getLowerCaseValue(),
+            patient -> patient.getEmail().getLowerCaseValue(),
+            patient -> patient.getHeight().getValue(),
+            patient -> patient.getWeight().getValue(),
+            patient -> patient.getDiagnosis().getLowerCaseValue(),
+            patient -> patient.getStatus().getLowerCaseValue(),
+            patient -> patient.getRemark().getLowerCaseValue());
+
     //Filter fields
     private String nameFilter = "";
     private String phoneFilter = "";
@@ -22,7 +37,10 @@ public class PatientFilter {
     private String statusFilter = "";
     private String remarkFilter = "";
     private Set<String> tagsFilter = new HashSet<>();
-    private Doctor doctorFilter = null;
+
+    //Compiled once on construction, as the filter is checked against every patient
+    private final List<SubstringMatcher<Patient>> substringMatchers;
+    private final List<String> lowerCaseTagsFilter;
 
     /**
      * Constructs a {@code PatientFilter}.
@@ -54,15 +72,11 @@ public class PatientFilter {
         this.statusFilter = status;
         this.remarkFilter = remark;
         this.tagsFilter = tags;
-    }
-
-    /**
-     * Constructs a {@code PatientFilter}.
-     *
-     * @param doctor a doctor object (can be null).
-     */
-    public PatientFilter(Doctor doctor) {
-        this.doctorFilter = doctor;
+        this.substringMatchers = SubstringMatcher.ofNonEmpty(SUBSTRING_FIELDS, getSubstringFilters());
+        this.lowerCaseTagsFilter = tags.stream()
+                .map(String::toLowerCase)
+                .distinct()
+                .collect(Collectors.toList());
     }
 
     /**
@@ -70,33 +84,26 @@ public class PatientFilter {
      * Returns true if each filter field is a substring of the respective field of patient
      */
     public boolean isMatch(Patient patient) {
-
-        boolean result = StringUtil.containsSubstringIgnoreCase(patient.getName().getValue(), nameFilter)
-                && StringUtil.containsSubstringIgnoreCase(patient.getPhone().getValue(), phoneFilter)
-                && StringUtil.containsSubstringIgnoreCase(patient.getEmail().getValue(), emailFilter)
-                && StringUtil.containsSubstringIgnoreCase(patient.getHeight().getValue(), heightFilter)
-                && StringUtil.containsSubstringIgnoreCase(patient.getWeight().getValue(), weightFilter)
-                && StringUtil.containsSubstringIgnoreCase(patient.getDiagnosis().getValue(), diagnosisFilter)
-                && StringUtil.containsSubstringIgnoreCase(patient.getStatus().getValue(), statusFilter)
-                && StringUtil.containsSubstringIgnoreCase(patient.getRemark().getValue(), remarkFilter);
-
-        if (!tagsFilter.isEmpty()) {
-            Set<String> tagStringSet = patient
-                    .getTags()
-                    .stream()
-                    .map(tag -> tag.getTagName().toLowerCase())
-                    .collect(Collectors.toSet());
-            result = result && tagStringSet.containsAll(tagsFilter
-                    .stream()
-                    .map(String::toLowerCase)
-                    .collect(Collectors.toSet()));
+        // Indexed loops, so that matching does not allocate
+        for (int i = 0; i < substringMatchers.size(); i++) {
+            if (!substringMatchers.get(i).matches(patient)) {
+                return false;
+            }
         }
-
-        if (doctorFilter != null) {
-            result = result && patient.hasDoctor(doctorFilter);
+        for (int i = 0; i < lowerCaseTagsFilter.size(); i++) {
+            if (!patient.hasTagIgnoreCase(lowerCaseTagsFilter.get(i))) {
+                return false;
+            }
         }
+        return true;
+    }
 
-        return result;
+    /**
+     * Returns the filters that are matched by substring, in the same order as {@link #SUBSTRING_FIELDS}.
+     */
+    public List<String> getSubstringFilters() {
+        return List.of(nameFilter, phoneFilter, emailFilter, heightFilter, weightFilter,
+                diagnosisFilter, statusFilter, remarkFilter);
     }
 
     @Override
@@ -110,12 +117,6 @@ public class PatientFilter {
         }
 
         PatientFilter otherFilter = (PatientFilter) other;
-        boolean isSameDoctorFilter;
-        if (this.doctorFilter == null) {
-            isSameDoctorFilter = otherFilter.doctorFilter == null;
-        } else {
-            isSameDoctorFilter = this.doctorFilter.equals(otherFilter.doctorFilter);
-        }
 
         return this.nameFilter.equals(otherFilter.nameFilter)
                 && this.phoneFilter.equals(otherFilter.phoneFilter)
@@ -125,7 +126,6 @@ public class PatientFilter {
                 && this.diagnosisFilter.equals(otherFilter.diagnosisFilter)
                 && this.statusFilter.equals(otherFilter.statusFilter)
                 && this.remarkFilter.equals(otherFilter.remarkFilter)
-                && this.tagsFilter.equals(otherFilter.tagsFilter)
-                && isSameDoctorFilter; // state check
+                && this.tagsFilter.equals(otherFilter.tagsFilter); // state check
     }
 }
@@ -3,6 +3,8 @@ package seedu.address.model.person.patient;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents any remarks for a person in the address book.
  * Guarantees: immutable; is always valid
@@ -14,7 +16,9 @@ public class Remark {
      * Remark should not be blank
      */
     public static final String VALIDATION_REGEX = "^(?!\\s*$).+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     private final String remark;
+    private final String lowerCaseValue;
 
     /**
      * Constructs a {@code Remarks}.
@@ -25,10 +29,11 @@ public class Remark {
         requireNonNull(remark);
         checkArgument(isValidRemark(remark), MESSAGE_CONSTRAINTS);
         this.remark = remark;
+        lowerCaseValue = remark.toLowerCase();
     }
 
     public static boolean isValidRemark(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -51,4 +56,11 @@ public class Remark {
     public String getValue() {
         return remark;
     }
+
+    /**
+     * Returns the remark in lower case, which is computed once when this remark is constructed.
+     */
+    public String getLowerCaseValue() {
+        return lowerCaseValue;
+    }
 }
@@ -6,8 +6,10 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.InternPool;
 
 /**
  * Represents a Patient's hospitalization status in the address book.
@@ -21,6 +23,7 @@ public class Status {
 
     private static final String VALIDATION_REGEX = "(?i)^(Inpatient|Outpatient|Observation|Emergency Department"
             + "|Intensive Care Unit|Transitional Care)$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private static final Logger logger = LogsCenter.getLogger(Status.class);
 
@@ -28,7 +31,10 @@ public class Status {
             List.of("Inpatient", "Outpatient", "Observation", "Emergency Department",
                     "Intensive Care Unit", "Transitional Care"));
 
+    private static final InternPool<Status> POOL = new InternPool<>(Status::new);
+
     private final String status;
+    private final String lowerCaseValue;
 
     /**
      * Constructs a {@code Status}.
@@ -39,6 +45,7 @@ public class Status {
         requireNonNull(status);
         checkArgument(isValidStatus(status), MESSAGE_CONSTRAINTS);
         this.status = toTitleCase(status);
+        lowerCaseValue = this.status.toLowerCase();
     }
 
     /**
@@ -47,7 +54,17 @@ public class Status {
      * @param test the input string to test the validation regex against
      */
     public static boolean isValidStatus(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return POOL.contains(test) || VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns a {@code Status} equal to {@code new Status(status)}.
+     * Callers that give the same status share one instance, and the status is only validated the first time.
+     *
+     * @param status A valid status.
+     */
+    public static Status of(String status) {
+        return POOL.intern(status);
     }
 
     /**
@@ -107,15 +124,22 @@ public class Status {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Status // instanceof handles nulls
-                && status.equalsIgnoreCase(((Status) other).status)); // state check
+                && lowerCaseValue.equals(((Status) other).lowerCaseValue)); // state check
     }
 
     @Override
     public int hashCode() {
-        return status.toLowerCase().hashCode();
+        return lowerCaseValue.hashCode();
     }
 
     public String getValue() {
         return status;
     }
+
+    /**
+     * Returns the status in lower case, which is computed once when this status is constructed.
+     */
+    public String getLowerCaseValue() {
+        return lowerCaseValue;
+    }
 }
@@ -1,13 +1,20 @@
 package seedu.address.model.person.patient;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicateKeys;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.TrigramIndex;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -28,12 +35,33 @@ public class UniquePatientList implements Iterable<Patient> {
     private final ObservableList<Patient> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Index of the patients in {@code internalList} keyed by name, which is the identity used by
+     * {@code Patient#isSamePatient(Patient)}. Kept in sync with {@code internalList} so that identity checks
+     * do not need to scan the whole list.
+     */
+    private final Map<Name, Patient> nameIndex = new HashMap<>();
+
+    /**
+     * Positions of the patients in {@code internalList} keyed by name. Only the positions below
+     * {@code positionsValidUpTo} are up to date; the rest are worked out again when next looked up, so that
+     * adding or removing a patient does not renumber the whole list at once.
+     */
+    private final Map<Name, Integer> positions = new HashMap<>();
+    private int positionsValidUpTo;
+
+    /**
+     * Index of the patients in {@code internalList} by the trigrams of their {@link PatientFilter#SUBSTRING_FIELDS}.
+     * Kept in sync with {@code internalList} so that searches only check the patients that may match.
+     */
+    private final TrigramIndex<Patient> searchIndex = new TrigramIndex<>(PatientFilter.SUBSTRING_FIELDS);
+
     /**
      * Returns true if the list contains an equivalent patient as the given argument.
      */
     public boolean contains(Patient toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePatient);
+        return nameIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -41,11 +69,22 @@ public class UniquePatientList implements Iterable<Patient> {
      * The patient must not already exist in the list.
      */
     public void add(Patient toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a patient to the list at {@code index}.
+     * The patient must not already exist in the list.
+     */
+    public void add(int index, Patient toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        internalList.add(index, toAdd);
+        positionsValidUpTo = Math.min(positionsValidUpTo, index);
+        nameIndex.put(toAdd.getName(), toAdd);
+        searchIndex.add(toAdd);
     }
 
     /**
@@ -56,7 +95,7 @@ public class UniquePatientList implements Iterable<Patient> {
     public void setPatient(Patient target, Patient editedPatient) {
         requireAllNonNull(target, editedPatient);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +104,13 @@ public class UniquePatientList implements Iterable<Patient> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPatient);
+        Patient replaced = internalList.set(index, editedPatient);
+        nameIndex.remove(target.getName());
+        nameIndex.put(editedPatient.getName(), editedPatient);
+        positions.remove(target.getName());
+        positions.put(editedPatient.getName(), index);
+        searchIndex.remove(replaced);
+        searchIndex.add(editedPatient);
     }
 
     /**
@@ -74,14 +119,23 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void remove(Patient toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(index);
+        positions.remove(toRemove.getName());
+        positionsValidUpTo = Math.min(positionsValidUpTo, index);
+        searchIndex.remove(nameIndex.remove(toRemove.getName()));
     }
 
     public void setPatients(UniquePatientList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        clearPositions();
+        searchIndex.setAll(internalList);
     }
 
     /**
@@ -90,11 +144,46 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void setPatients(List<Patient> patients) {
         requireAllNonNull(patients);
-        if (!patientsAreUnique(patients)) {
-            throw new DuplicatePersonException();
+        Set<Name> duplicateNames = findDuplicateKeys(patients, Patient::getName);
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(duplicateNames);
         }
 
         internalList.setAll(patients);
+        nameIndex.clear();
+        patients.forEach(patient -> nameIndex.put(patient.getName(), patient));
+        clearPositions();
+        searchIndex.setAll(patients);
+    }
+
+    /**
+     * Returns the position in the list of the patient equal to {@code toFind}, or -1 if there is none.
+     */
+    public int indexOf(Patient toFind) {
+        requireNonNull(toFind);
+        Integer position = positions.get(toFind.getName());
+        if (position == null || position >= positionsValidUpTo) {
+            for (int i = positionsValidUpTo; i < internalList.size(); i++) {
+                positions.put(internalList.get(i).getName(), i);
+            }
+            positionsValidUpTo = internalList.size();
+            position = positions.get(toFind.getName());
+        }
+        return position != null && internalList.get(position).equals(toFind) ? position : -1;
+    }
+
+    private void clearPositions() {
+        positions.clear();
+        positionsValidUpTo = 0;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that uses the search index of this list
+     * to only check the patients that may match.
+     */
+    public Predicate<Patient> getIndexedPredicate(PatientContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return searchIndex.narrow(predicate.getPatientFilter().getSubstringFilters(), predicate);
     }
 
     /**
@@ -120,18 +209,4 @@ public class UniquePatientList implements Iterable<Patient> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code patients} contains only unique patients.
-     */
-    private boolean patientsAreUnique(List<Patient> patients) {
-        for (int i = 0; i < patients.size() - 1; i++) {
-            for (int j = i + 1; j < patients.size(); j++) {
-                if (patients.get(i).isSamePatient(patients.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
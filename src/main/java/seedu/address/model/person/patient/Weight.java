@@ -3,6 +3,8 @@ package seedu.address.model.person.patient;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Patient's weight in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidWeight(String)}
@@ -13,6 +15,7 @@ public class Weight {
             "Weight should be in kilograms (kg), can have at most 1 decimal place, and not equal to 0.";
 
     private static final String VALIDATION_REGEX = "^\\s*\\d+(\\.\\d)?\\s*$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private final String value;
 
@@ -32,7 +35,7 @@ public class Weight {
      * Returns true if a given string is a valid weight.
      */
     public static boolean isValidWeight(String test) {
-        return test.matches(VALIDATION_REGEX) && !test.equals("0") && !test.equals("0.0");
+        return VALIDATION_PATTERN.matcher(test).matches() && !test.equals("0") && !test.equals("0.0");
     }
 
     @Override
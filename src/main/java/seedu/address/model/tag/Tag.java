@@ -3,6 +3,9 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.InternPool;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,7 +15,10 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final InternPool<Tag> POOL = new InternPool<>(Tag::new);
+
     private final String tagName;
+    private final String lowerCaseTagName;
 
     /**
      * Constructs a {@code Tag}.
@@ -23,13 +29,36 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.lowerCaseTagName = tagName.toLowerCase();
     }
 
     /**
      * Returns true if a given string is a valid tag name.
+     * Equivalent to matching {@link #VALIDATION_REGEX}, but scans the string directly.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (POOL.contains(test)) {
+            return true;
+        }
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!StringUtil.isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a {@code Tag} equal to {@code new Tag(tagName)}.
+     * Callers that give the same tag name share one instance, and the tag name is only validated the first time.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return POOL.intern(tagName);
     }
 
     /**
@@ -41,6 +70,15 @@ public class Tag {
         return this.tagName;
     }
 
+    /**
+     * Returns the tag name in lower case, which is computed once when this tag is constructed.
+     *
+     * @return the tag name in lower case.
+     */
+    public String getLowerCaseTagName() {
+        return this.lowerCaseTagName;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
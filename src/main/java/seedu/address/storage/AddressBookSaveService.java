@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves snapshots of the address book on a background thread.
+ * Snapshots requested while an earlier one is still being written replace each other,
+ * so a burst of requests results in at most one more write.
+ * Requests for an address book that has not changed since it was last saved, or requested to be saved, are skipped.
+ * A failed save is reported to the failure listener as soon as it fails, or by {@link #flush()} if there is none.
+ */
+public class AddressBookSaveService {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaveService.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService executor;
+
+    private ReadOnlyAddressBook pendingSnapshot;
+    private ReadOnlyAddressBook requestedAddressBook;
+    private long requestedVersion;
+    private boolean isWriting;
+    private IOException failure;
+    private Consumer<IOException> failureListener;
+
+    /**
+     * Constructs an {@code AddressBookSaveService} that writes to {@code storage}.
+     */
+    public AddressBookSaveService(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets {@code failureListener} to be called with the failure of every save that fails, on the saving thread.
+     * The failures reported to it are not thrown by {@link #flush()}.
+     */
+    public synchronized void setFailureListener(Consumer<IOException> failureListener) {
+        requireNonNull(failureListener);
+        this.failureListener = failureListener;
+    }
+
+    /**
+     * Takes a snapshot of {@code addressBook} and schedules it to be saved, unless the version of
+     * {@code addressBook} is the same as when it was last requested to be saved and that save has not failed.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        long version = addressBook.getVersion();
+        synchronized (this) {
+            if (addressBook == requestedAddressBook && version == requestedVersion) {
+                return;
+            }
+        }
+
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        synchronized (this) {
+            pendingSnapshot = snapshot;
+            requestedAddressBook = addressBook;
+            requestedVersion = version;
+            if (!isWriting) {
+                isWriting = true;
+                executor.execute(this::writePendingSnapshots);
+            }
+        }
+    }
+
+    /**
+     * Waits until every requested snapshot has been saved.
+     *
+     * @throws IOException if the last completed save failed, and there is no failure listener to report it to.
+     *     The failure is only thrown once.
+     */
+    public synchronized void flush() throws IOException {
+        while (isWriting) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the address book to be saved");
+            }
+        }
+        if (failure != null) {
+            IOException toThrow = failure;
+            failure = null;
+            throw toThrow;
+        }
+    }
+
+    /**
+     * Writes the pending snapshot until no newer one has been requested.
+     */
+    private void writePendingSnapshots() {
+        while (true) {
+            ReadOnlyAddressBook snapshot;
+            synchronized (this) {
+                snapshot = pendingSnapshot;
+                pendingSnapshot = null;
+                if (snapshot == null) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+            }
+
+            IOException result = null;
+            try {
+                storage.saveAddressBook(snapshot);
+            } catch (IOException ioe) {
+                result = ioe;
+            } catch (RuntimeException re) {
+                result = new IOException(re);
+            }
+            if (result != null) {
+                logger.warning("Failed to save address book " + StringUtil.getDetails(result));
+            }
+            Consumer<IOException> listener;
+            synchronized (this) {
+                listener = failureListener;
+                failure = listener == null ? result : null;
+                if (result != null) {
+                    // The next request is saved again, even if nothing has changed
+                    requestedAddressBook = null;
+                }
+            }
+            if (result != null && listener != null) {
+                listener.accept(result);
+            }
+        }
+    }
+}
@@ -0,0 +1,439 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.doctor.Specialty;
+import seedu.address.model.person.doctor.Yoe;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.patient.Diagnosis;
+import seedu.address.model.person.patient.Height;
+import seedu.address.model.person.patient.LazyPatient;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.model.person.patient.Remark;
+import seedu.address.model.person.patient.Status;
+import seedu.address.model.person.patient.Weight;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A binary copy of a json snapshot of an address book, kept next to the json snapshot as it is much faster to read.
+ * The copy holds a table of the distinct strings in the address book, each prefixed by its length in bytes,
+ * followed by the patients and doctors as records of indices into that table. Each patient record starts with the
+ * id of the patient, and the patients assigned to each doctor are stored as positions in the patient records.
+ * The copy records the checksum of the json snapshot it was made from, and is only read while that checksum still
+ * matches. The json snapshot remains the file to export or edit by hand.
+ * Patients are read as {@link LazyPatient}s, whose other fields are decoded from the mapped file when first used.
+ * As some platforms do not allow a mapped file to be replaced or deleted, each snapshot is written to a new generation
+ * file, numbered after the last, and only the newest generation is read. Older generations are deleted where
+ * possible, and left for a later write to delete otherwise.
+ */
+class BinaryAddressBookSnapshot {
+
+    public static final String MESSAGE_DAMAGED_SNAPSHOT = "Binary snapshot does not hold a valid address book: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookSnapshot.class);
+
+    private static final String FILE_SUFFIX = ".bin";
+    private static final int MAGIC = 0x44444258;
+    private static final int FORMAT_VERSION = 1;
+    /** Size of the magic number, format version, source checksum, journal sequence and payload checksum. */
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8;
+    /** Number of fields of a patient record after its name and before its tags. */
+    private static final int PATIENT_DETAIL_COUNT = 7;
+
+    private final ByteBuffer payload;
+    private final long journalSequence;
+    private int[] stringOffsets;
+
+    private BinaryAddressBookSnapshot(ByteBuffer payload, long journalSequence) {
+        this.payload = payload;
+        this.journalSequence = journalSequence;
+    }
+
+    /**
+     * Returns the path of the binary snapshot kept next to the json snapshot at {@code jsonFilePath}.
+     * The generations of the snapshot are kept at this path followed by a dot and the generation number.
+     */
+    static Path getFilePath(Path jsonFilePath) {
+        return jsonFilePath.resolveSibling(jsonFilePath.getFileName() + FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the generation files of the binary snapshot at {@code filePath} that exist, oldest first.
+     */
+    static List<Path> getGenerationFiles(Path filePath) throws IOException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        String prefix = filePath.getFileName() + ".";
+        Map<Long, Path> generations = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*")) {
+            for (Path file : files) {
+                String suffix = file.getFileName().toString().substring(prefix.length());
+                if (!suffix.isEmpty() && suffix.chars().allMatch(Character::isDigit) && suffix.length() < 19) {
+                    generations.put(Long.parseLong(suffix), file);
+                }
+            }
+        }
+        return new ArrayList<>(generations.values());
+    }
+
+    /**
+     * Deletes every generation of the binary snapshot at {@code filePath}, except those that cannot be deleted as
+     * they are still mapped.
+     */
+    static void delete(Path filePath) throws IOException {
+        deleteWherePossible(getGenerationFiles(filePath));
+    }
+
+    private static void deleteWherePossible(List<Path> files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ioe) {
+                logger.fine("Could not delete old binary snapshot " + file + ", which may still be in use: " + ioe);
+            }
+        }
+    }
+
+    /**
+     * Returns the checksum of the contents of {@code filePath}.
+     * The file is streamed rather than mapped, so that it can still be replaced on platforms that do not allow
+     * replacing a mapped file.
+     */
+    static long checksumOf(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Maps the newest generation of the binary snapshot at {@code filePath} into memory, if it was made from a json
+     * snapshot whose checksum is {@code sourceChecksum}.
+     *
+     * @return the binary snapshot, or {@code Optional.empty()} if there is none, or it is stale or damaged.
+     */
+    static Optional<BinaryAddressBookSnapshot> read(Path filePath, long sourceChecksum) throws IOException {
+        requireNonNull(filePath);
+        List<Path> generations = getGenerationFiles(filePath);
+        if (generations.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(generations.get(generations.size() - 1),
+                StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                return Optional.empty();
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION || buffer.getLong() != sourceChecksum) {
+            return Optional.empty();
+        }
+        long journalSequence = buffer.getLong();
+        long payloadChecksum = buffer.getLong();
+        ByteBuffer payload = buffer.slice();
+        CRC32 checksum = new CRC32();
+        checksum.update(payload.duplicate());
+        if (checksum.getValue() != payloadChecksum) {
+            return Optional.empty();
+        }
+        return Optional.of(new BinaryAddressBookSnapshot(payload, journalSequence));
+    }
+
+    /**
+     * Writes a binary snapshot of {@code addressBook} to {@code filePath}, recording that it was made from the json
+     * snapshot whose checksum is {@code sourceChecksum}, which includes every journal record up to
+     * {@code journalSequence}.
+     * The snapshot is written to a temporary file that then becomes the next generation, so that no generation that
+     * may still be mapped is replaced. The older generations are then deleted where possible.
+     */
+    static void write(ReadOnlyAddressBook addressBook, long sourceChecksum, long journalSequence, Path filePath)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        StringTable stringTable = new StringTable();
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream records = new DataOutputStream(recordBytes);
+        // Assigned patients are matched to their records by name.
+        Map<Name, Integer> patientIndices = new HashMap<>();
+        records.writeInt(addressBook.getPatientList().size());
+        records.writeInt(addressBook.getNextPatientId());
+        for (Patient patient : addressBook.getPatientList()) {
+            patientIndices.put(patient.getName(), patientIndices.size());
+            records.writeInt(addressBook.getPatientId(patient));
+            writePatient(patient, stringTable, records);
+        }
+        records.writeInt(addressBook.getDoctorList().size());
+        for (Doctor doctor : addressBook.getDoctorList()) {
+            writeDoctor(doctor, addressBook.getPatientsOf(doctor), patientIndices, stringTable, records);
+        }
+        records.flush();
+
+        byte[] stringTableBytes = stringTable.toByteArray();
+        CRC32 payloadChecksum = new CRC32();
+        payloadChecksum.update(stringTableBytes);
+        payloadChecksum.update(recordBytes.toByteArray());
+
+        List<Path> oldGenerations = getGenerationFiles(filePath);
+        long generation = oldGenerations.isEmpty()
+                ? 0
+                : generationOf(oldGenerations.get(oldGenerations.size() - 1)) + 1;
+        Path tempFile = FileUtil.createTempFileBeside(filePath);
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(sourceChecksum);
+                out.writeLong(journalSequence);
+                out.writeLong(payloadChecksum.getValue());
+                out.write(stringTableBytes);
+                recordBytes.writeTo(out);
+            }
+            FileUtil.moveReplacingExisting(tempFile,
+                    filePath.resolveSibling(filePath.getFileName() + "." + generation));
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        deleteWherePossible(oldGenerations);
+    }
+
+    private static long generationOf(Path generationFile) {
+        String fileName = generationFile.getFileName().toString();
+        return Long.parseLong(fileName.substring(fileName.lastIndexOf('.') + 1));
+    }
+
+    /**
+     * Returns the sequence number of the last journal record included in this snapshot.
+     */
+    long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Builds the address book held in this snapshot, with every doctor and its assigned patients linked.
+     * Only the names of the patients are decoded, and the snapshot stays mapped while any of them is in use.
+     *
+     * @throws IllegalValueException if the snapshot does not hold a valid address book.
+     */
+    AddressBook toModelType() throws IllegalValueException {
+        ByteBuffer buffer = payload.duplicate();
+        try {
+            readStringTable(buffer);
+            AddressBook addressBook = new AddressBook();
+            int patientCount = buffer.getInt();
+            addressBook.setNextPatientId(buffer.getInt());
+            List<Patient> patients = new ArrayList<>(patientCount);
+            for (int i = 0; i < patientCount; i++) {
+                int id = buffer.getInt();
+                int recordOffset = buffer.position();
+                Name name = new Name(readString(buffer));
+                skipPatientDetails(buffer);
+                Patient patient = new LazyPatient(name, () -> readPatient(recordOffset));
+                addressBook.addPatient(patient, id);
+                patients.add(patient);
+            }
+            int doctorCount = buffer.getInt();
+            for (int i = 0; i < doctorCount; i++) {
+                Doctor doctor = readDoctor(buffer);
+                addressBook.addDoctor(doctor);
+                int assignedCount = buffer.getInt();
+                for (int j = 0; j < assignedCount; j++) {
+                    addressBook.assignPatient(doctor, patients.get(buffer.getInt()));
+                }
+            }
+            return addressBook;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException
+                | IllegalArgumentException | DuplicatePersonException e) {
+            throw new IllegalValueException(String.format(MESSAGE_DAMAGED_SNAPSHOT, e), e);
+        }
+    }
+
+    private static void writePatient(Patient patient, StringTable stringTable, DataOutputStream out)
+            throws IOException {
+        out.writeInt(stringTable.indexOf(patient.getName().getValue()));
+        out.writeInt(stringTable.indexOf(patient.getPhone().getValue()));
+        out.writeInt(stringTable.indexOf(patient.getEmail().getValue()));
+        out.writeInt(stringTable.indexOf(patient.getHeight().getValue()));
+        out.writeInt(stringTable.indexOf(patient.getWeight().getValue()));
+        out.writeInt(stringTable.indexOf(patient.getDiagnosis().getValue()));
+        out.writeInt(stringTable.indexOf(patient.getStatus().getValue()));
+        out.writeInt(stringTable.indexOf(patient.getRemark().getValue()));
+        writeTags(patient.getTags(), stringTable, out);
+    }
+
+    private static void writeDoctor(Doctor doctor, List<Patient> assignedPatients, Map<Name, Integer> patientIndices,
+                                    StringTable stringTable, DataOutputStream out) throws IOException {
+        out.writeInt(stringTable.indexOf(doctor.getName().getValue()));
+        out.writeInt(stringTable.indexOf(doctor.getPhone().getValue()));
+        out.writeInt(stringTable.indexOf(doctor.getEmail().getValue()));
+        out.writeInt(stringTable.indexOf(doctor.getSpecialty().getValue()));
+        out.writeInt(stringTable.indexOf(doctor.getYoe().getValue()));
+        writeTags(doctor.getTags(), stringTable, out);
+
+        int[] assignedIndices = assignedPatients.stream()
+                .map(patient -> patientIndices.get(patient.getName()))
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .sorted()
+                .toArray();
+        out.writeInt(assignedIndices.length);
+        for (int index : assignedIndices) {
+            out.writeInt(index);
+        }
+    }
+
+    private static void writeTags(Set<Tag> tags, StringTable stringTable, DataOutputStream out) throws IOException {
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeInt(stringTable.indexOf(tag.getTagName()));
+        }
+    }
+
+    /**
+     * Records where each string of the string table at the position of {@code buffer} starts,
+     * and moves {@code buffer} past the table.
+     */
+    private void readStringTable(ByteBuffer buffer) {
+        int stringCount = buffer.getInt();
+        stringOffsets = new int[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            stringOffsets[i] = buffer.position();
+            int length = buffer.getInt();
+            buffer.position(buffer.position() + length);
+        }
+    }
+
+    /**
+     * Moves {@code buffer} from the end of the name of a patient record to the end of the record.
+     */
+    private static void skipPatientDetails(ByteBuffer buffer) {
+        buffer.position(buffer.position() + PATIENT_DETAIL_COUNT * Integer.BYTES);
+        int tagCount = buffer.getInt();
+        buffer.position(buffer.position() + tagCount * Integer.BYTES);
+    }
+
+    /**
+     * Decodes the patient record at {@code recordOffset} of the payload.
+     */
+    private Patient readPatient(int recordOffset) {
+        ByteBuffer buffer = payload.duplicate();
+        buffer.position(recordOffset);
+        Name name = new Name(readString(buffer));
+        Phone phone = new Phone(readString(buffer));
+        Email email = new Email(readString(buffer));
+        Height height = new Height(readString(buffer));
+        Weight weight = new Weight(readString(buffer));
+        Diagnosis diagnosis = new Diagnosis(readString(buffer));
+        Status status = Status.of(readString(buffer));
+        Remark remark = new Remark(readString(buffer));
+        return new Patient(name, phone, email, height, weight, diagnosis, status, remark, readTags(buffer));
+    }
+
+    private Doctor readDoctor(ByteBuffer buffer) {
+        Name name = new Name(readString(buffer));
+        Phone phone = new Phone(readString(buffer));
+        Email email = new Email(readString(buffer));
+        Specialty specialty = Specialty.of(readString(buffer));
+        Yoe yoe = new Yoe(readString(buffer));
+        return new Doctor(name, phone, email, specialty, yoe, readTags(buffer));
+    }
+
+    private Set<Tag> readTags(ByteBuffer buffer) {
+        int tagCount = buffer.getInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.of(readString(buffer)));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the string whose index in the string table is at the position of {@code buffer},
+     * and moves {@code buffer} past the index.
+     */
+    private String readString(ByteBuffer buffer) {
+        ByteBuffer string = payload.duplicate();
+        string.position(stringOffsets[buffer.getInt()]);
+        byte[] bytes = new byte[string.getInt()];
+        string.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The distinct strings written to a binary snapshot, each stored once however often it is used.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        /**
+         * Returns the index of {@code string} in the table, adding it to the table if it is not there yet.
+         */
+        int indexOf(String string) throws IOException {
+            Integer index = indices.get(string);
+            if (index != null) {
+                return index;
+            }
+            byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(encoded.length);
+            out.write(encoded);
+            indices.put(string, indices.size());
+            return indices.size() - 1;
+        }
+
+        /**
+         * Returns the table as it is written to the file: the number of strings, followed by the strings.
+         */
+        byte[] toByteArray() throws IOException {
+            out.flush();
+            ByteArrayOutputStream table = new ByteArrayOutputStream(bytes.size() + 4);
+            new DataOutputStream(table).writeInt(indices.size());
+            bytes.writeTo(table);
+            return table.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,623 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiPredicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.patient.Patient;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot together with a journal of the changes made since.
+ * Each save appends the changes to the doctor and patient lists to the journal, one json record per line,
+ * instead of rewriting the whole snapshot. Once the journal grows past a threshold, a fresh snapshot is written
+ * in the background and the journal is started anew.
+ * The changes are found by comparing the lists with those of the copy last saved, which share the doctors and patients
+ * that did not change. Doctors and patients are compared by identity, and the patients assigned to a doctor by the
+ * version of its assignments, so a save costs no more than a pass over the lists.
+ * A binary copy of the snapshot is kept next to it, and read instead of the json while it is up to date.
+ * A manifest left by a {@link ShardedAddressBookStorage} is read through its shards, which are replaced by a snapshot
+ * when next saved. Nothing is saved while one of the shards cannot be read, so that what it holds is not lost.
+ *
+ * @see BinaryAddressBookSnapshot
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    /** Size of the journal, in bytes, past which a fresh snapshot is written. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    public static final String MESSAGE_MISSING_RECORDS = "Journal is missing records %1$d to %2$d.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_JOURNAL_SUFFIX = ".journal.compacting";
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final ExecutorService compactor;
+    private final Object snapshotLock = new Object();
+    private final JsonAddressBookWriter writer = new JsonAddressBookWriter();
+
+    // A copy of the address book as last read from or written to filePath, or null if there is none yet.
+    private ReadOnlyAddressBook saved;
+    private long sequence;
+    private long snapshotSequence;
+    private Future<?> compaction;
+    // Set if filePath holds the manifest of a sharded address book, whose shards the next snapshot replaces.
+    private boolean isShardManifest;
+    // Files of the shards at filePath that could not be read, which nothing is saved over.
+    private List<Path> unreadableShardFiles = List.of();
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a {@code JournaledAddressBookStorage} that writes a fresh snapshot to {@code filePath}
+     * once its journal is at least {@code compactionThreshold} bytes long.
+     */
+    public JournaledAddressBookStorage(Path filePath, long compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    static Path getCompactingJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Journal records are replayed on top of the snapshot at {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            // The files must not be read while a snapshot is replacing the journal.
+            try {
+                awaitCompaction();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new IOException("Could not wait for the journal to be compacted", e);
+            }
+            isShardManifest = false;
+            unreadableShardFiles = List.of();
+        }
+
+        Path journalFile = getJournalFilePath(filePath);
+        Path compactingJournalFile = getCompactingJournalFilePath(filePath);
+        Optional<Snapshot> snapshot = readSnapshot(filePath, isOwnFile);
+        if (snapshot.isEmpty() && !Files.exists(journalFile) && !Files.exists(compactingJournalFile)) {
+            if (isOwnFile) {
+                remember(new AddressBook(), 0, 0);
+            }
+            return Optional.empty();
+        }
+
+        long snapshotJournalSequence = snapshot.map(Snapshot::getJournalSequence).orElse(0L);
+        Replay replay;
+        AddressBook addressBook;
+        try {
+            replay = new Replay(snapshot.map(Snapshot::getAddressBook).orElseGet(AddressBook::new),
+                    snapshotJournalSequence);
+            replay.replayFile(compactingJournalFile);
+            replay.replayFile(journalFile);
+            addressBook = replay.getAddressBook();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (isOwnFile && isShardManifest) {
+            // The shards are replaced by a snapshot when next saved, rather than by one written in the background.
+            remember(addressBook, snapshotJournalSequence, replay.getSequence());
+            saved = null;
+        } else if (isOwnFile) {
+            remember(addressBook, snapshotJournalSequence, replay.getSequence());
+            // Below the threshold, the journal is left to grow, as writing a snapshot decodes every patient.
+            boolean isLegacyLayout = snapshot.map(Snapshot::isLegacyLayout).orElse(false);
+            if (isLegacyLayout || sizeOf(journalFile) + sizeOf(compactingJournalFile) >= compactionThreshold) {
+                logger.info("Replayed " + replay.getRecordCount() + " journal records for " + filePath
+                        + ", writing a fresh snapshot");
+                compact();
+            }
+        }
+        return Optional.of(addressBook);
+    }
+
+    private static long sizeOf(Path file) throws IOException {
+        return Files.exists(file) ? Files.size(file) : 0;
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath}, from its binary copy if that was made from the snapshot as it is now.
+     * Otherwise, the json snapshot is read, and a binary copy of it is written if {@code isOwnFile}.
+     *
+     * @return the snapshot, or {@code Optional.empty()} if there is none.
+     * @throws DataConversionException if the json snapshot is not in the correct format.
+     */
+    private Optional<Snapshot> readSnapshot(Path filePath, boolean isOwnFile)
+            throws DataConversionException, IOException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        long checksum = BinaryAddressBookSnapshot.checksumOf(filePath);
+        Path binaryFile = BinaryAddressBookSnapshot.getFilePath(filePath);
+        Optional<BinaryAddressBookSnapshot> binarySnapshot = BinaryAddressBookSnapshot.read(binaryFile, checksum);
+        if (binarySnapshot.isPresent()) {
+            try {
+                return Optional.of(new Snapshot(binarySnapshot.get().toModelType(),
+                        binarySnapshot.get().getJournalSequence(), false));
+            } catch (IllegalValueException ive) {
+                logger.warning("Ignoring binary snapshot " + binaryFile + ": " + ive.getMessage());
+            }
+        }
+
+        Optional<JsonAddressBookManifest> manifest = JsonUtil.readJsonFile(filePath, JsonAddressBookManifest.class);
+        if (manifest.isPresent() && manifest.get().isManifest()) {
+            return Optional.of(readShards(filePath, manifest.get(), isOwnFile));
+        }
+        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
+                filePath, JsonSerializableAddressBook.class);
+        if (jsonAddressBook.isEmpty()) {
+            return Optional.empty();
+        }
+        AddressBook addressBook;
+        try {
+            addressBook = jsonAddressBook.get().toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        long journalSequence = jsonAddressBook.get().getJournalSequence();
+        boolean isLegacyLayout = jsonAddressBook.get().isLegacyLayout();
+        if (isOwnFile && !isLegacyLayout) {
+            synchronized (snapshotLock) {
+                writeBinarySnapshot(addressBook, checksum, journalSequence);
+            }
+        }
+        return Optional.of(new Snapshot(addressBook, journalSequence, isLegacyLayout));
+    }
+
+    /**
+     * Reads the sharded address book whose manifest at {@code filePath} is {@code manifest}.
+     * If {@code isOwnFile}, the shards that could not be read are remembered, so that nothing is saved over them.
+     */
+    private Snapshot readShards(Path filePath, JsonAddressBookManifest manifest, boolean isOwnFile)
+            throws DataConversionException, IOException {
+        ShardedAddressBookStorage shardedStorage =
+                new ShardedAddressBookStorage(filePath, Math.max(manifest.getShards().size(), 1));
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = shardedStorage.readAddressBook();
+        } finally {
+            shardedStorage.shutdown();
+        }
+        if (isOwnFile) {
+            logger.info("Data file " + filePath + " holds the manifest of " + manifest.getShards().size()
+                    + " shards, which will be replaced by a single file when next saved");
+            isShardManifest = true;
+            unreadableShardFiles = shardedStorage.getUnreadableShardFiles();
+        }
+        return new Snapshot(new AddressBook(addressBook.orElseGet(AddressBook::new)), 0, false);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes since the last read or save are written, unless {@code filePath} is not the file of this
+     * storage or nothing has been read from it yet. Then a full snapshot is written instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws IOException if saving to this storage's own file, and it holds shards of which some could not be read.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath, 0);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            Files.deleteIfExists(getCompactingJournalFilePath(filePath));
+            return;
+        }
+
+        if (!unreadableShardFiles.isEmpty()) {
+            throw new IOException(String.format(ShardedAddressBookStorage.MESSAGE_UNREADABLE_SHARDS,
+                    unreadableShardFiles));
+        }
+
+        ReadOnlyAddressBook copy = addressBook.snapshot();
+        if (saved == null) {
+            // Numbered after every record written so far, so no snapshot written before replaces this one.
+            writeSnapshot(copy, filePath, ++sequence);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            Files.deleteIfExists(getCompactingJournalFilePath(filePath));
+            if (isShardManifest) {
+                ShardedAddressBookStorage.deleteShards(filePath);
+                isShardManifest = false;
+            }
+            saved = copy;
+            return;
+        }
+
+        List<JsonJournalRecord> records = new ArrayList<>();
+        long[] nextSequence = {sequence};
+        ReadOnlyAddressBook before = saved;
+        diff(before.getPatientList(), copy.getPatientList(), (patient, other) -> patient == other,
+                (from, removed, inserted) ->
+                records.add(JsonJournalRecord.ofPatients(++nextSequence[0], from, removed, inserted, copy)));
+        diff(before.getDoctorList(), copy.getDoctorList(), (doctor, other) -> doctor == other
+                && hasSameAssignments(before, copy, doctor),
+                (from, removed, inserted) ->
+                records.add(JsonJournalRecord.ofDoctors(++nextSequence[0], from, removed, inserted, copy)));
+        if (records.isEmpty()) {
+            return;
+        }
+
+        long journalSize;
+        try {
+            journalSize = appendToJournal(records);
+        } catch (IOException ioe) {
+            // The journal may now end in a partial record, so the next save writes a full snapshot instead.
+            saved = null;
+            throw ioe;
+        }
+        saved = copy;
+        sequence = nextSequence[0];
+        if (journalSize >= compactionThreshold) {
+            compact();
+        }
+    }
+
+    /**
+     * Waits for the snapshot being written in the background, if any, to complete.
+     */
+    synchronized void awaitCompaction() throws InterruptedException, ExecutionException {
+        if (compaction != null) {
+            compaction.get();
+        }
+    }
+
+    private void remember(ReadOnlyAddressBook addressBook, long snapshotSequence, long sequence) {
+        saved = addressBook.snapshot();
+        this.sequence = sequence;
+        synchronized (snapshotLock) {
+            this.snapshotSequence = snapshotSequence;
+        }
+    }
+
+    /**
+     * Appends {@code records} to the journal and forces them to disk.
+     *
+     * @return the size of the journal afterwards, in bytes.
+     */
+    private long appendToJournal(List<JsonJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+
+        Path journalFile = getJournalFilePath(filePath);
+        FileUtil.createParentDirsOfFile(journalFile);
+        try (FileChannel journal = FileChannel.open(journalFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+            return journal.size();
+        }
+    }
+
+    /**
+     * Starts writing a fresh snapshot in the background, unless one is being written already.
+     * The current journal is set aside until the snapshot is written, and new records go to a new journal.
+     */
+    private void compact() throws IOException {
+        if (compaction != null && !compaction.isDone()) {
+            return;
+        }
+
+        Path journalFile = getJournalFilePath(filePath);
+        Path compactingJournalFile = getCompactingJournalFilePath(filePath);
+        if (Files.exists(journalFile)) {
+            if (Files.exists(compactingJournalFile)) {
+                // An earlier compaction did not complete, so its records must be kept as well.
+                Files.write(compactingJournalFile, Files.readAllBytes(journalFile), StandardOpenOption.APPEND);
+                Files.delete(journalFile);
+            } else {
+                Files.move(journalFile, compactingJournalFile);
+            }
+        }
+
+        ReadOnlyAddressBook toWrite = saved;
+        long toWriteSequence = sequence;
+        compaction = compactor.submit(() -> {
+            try {
+                writeSnapshot(toWrite, filePath, toWriteSequence);
+                Files.deleteIfExists(compactingJournalFile);
+            } catch (IOException ioe) {
+                logger.warning("Failed to compact journal of " + filePath + " " + StringUtil.getDetails(ioe));
+            }
+        });
+    }
+
+    /**
+     * Writes {@code addressBook} as a snapshot that includes the journal records up to {@code journalSequence}.
+     * A snapshot of this storage's file is not written if a later one has been written already.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath, long journalSequence)
+            throws IOException {
+        synchronized (snapshotLock) {
+            boolean isOwnFile = filePath.equals(this.filePath);
+            if (isOwnFile && journalSequence < snapshotSequence) {
+                return;
+            }
+            writer.write(addressBook, journalSequence, filePath);
+            if (isOwnFile) {
+                snapshotSequence = journalSequence;
+                writeBinarySnapshot(addressBook, BinaryAddressBookSnapshot.checksumOf(filePath), journalSequence);
+            }
+        }
+    }
+
+    /**
+     * Writes a binary copy of the json snapshot of this storage's file, whose checksum is {@code checksum}.
+     * The binary copy only speeds up reading, so a failure to write it is logged rather than thrown.
+     */
+    private void writeBinarySnapshot(ReadOnlyAddressBook addressBook, long checksum, long journalSequence) {
+        Path binaryFile = BinaryAddressBookSnapshot.getFilePath(filePath);
+        try {
+            BinaryAddressBookSnapshot.write(addressBook, checksum, journalSequence, binaryFile);
+        } catch (IOException ioe) {
+            logger.warning("Failed to write binary snapshot " + binaryFile + " " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    /**
+     * Returns true if {@code doctor} is assigned the patients with the same ids in {@code before} and {@code after}.
+     * The ids are only compared if the versions of the assignments differ, as when {@code after} is not a snapshot
+     * of the same address book as {@code before}.
+     */
+    private static boolean hasSameAssignments(ReadOnlyAddressBook before, ReadOnlyAddressBook after,
+                                              Doctor doctor) {
+        return before.getAssignmentVersion(doctor) == after.getAssignmentVersion(doctor)
+                || JsonJournalRecord.patientIdsOf(before, doctor).equals(JsonJournalRecord.patientIdsOf(after, doctor));
+    }
+
+    /**
+     * Calls {@code onChange} with the changes that turn {@code before} into {@code after}, where entries are
+     * unchanged if {@code isSame} holds for them.
+     * Lists of the same size are compared entry by entry. Otherwise, a single change covers everything between
+     * the longest common prefix and suffix, which is exact when a command adds or deletes one entry.
+     */
+    private static <T> void diff(List<T> before, List<T> after, BiPredicate<T, T> isSame, Change<T> onChange) {
+        if (before.size() == after.size()) {
+            int index = 0;
+            while (index < after.size()) {
+                int start = index;
+                while (index < after.size() && !isSame.test(before.get(index), after.get(index))) {
+                    index++;
+                }
+                if (index > start) {
+                    onChange.accept(start, index - start, after.subList(start, index));
+                } else {
+                    index++;
+                }
+            }
+            return;
+        }
+
+        int shorter = Math.min(before.size(), after.size());
+        int prefix = 0;
+        while (prefix < shorter && isSame.test(before.get(prefix), after.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < shorter - prefix && isSame.test(
+                before.get(before.size() - 1 - suffix), after.get(after.size() - 1 - suffix))) {
+            suffix++;
+        }
+        onChange.accept(prefix, before.size() - prefix - suffix, after.subList(prefix, after.size() - suffix));
+    }
+
+    /**
+     * Receives a change that replaces {@code removed} entries of a list, starting at {@code from}, with
+     * {@code inserted}.
+     */
+    @FunctionalInterface
+    private interface Change<T> {
+        void accept(int from, int removed, List<T> inserted);
+    }
+
+    /**
+     * An address book read from a snapshot, with the sequence number of the last journal record it includes.
+     */
+    private static class Snapshot {
+        private final AddressBook addressBook;
+        private final long journalSequence;
+        private final boolean isLegacyLayout;
+
+        Snapshot(AddressBook addressBook, long journalSequence, boolean isLegacyLayout) {
+            this.addressBook = addressBook;
+            this.journalSequence = journalSequence;
+            this.isLegacyLayout = isLegacyLayout;
+        }
+
+        AddressBook getAddressBook() {
+            return addressBook;
+        }
+
+        long getJournalSequence() {
+            return journalSequence;
+        }
+
+        boolean isLegacyLayout() {
+            return isLegacyLayout;
+        }
+    }
+
+    /**
+     * Replays journal records on top of a snapshot.
+     */
+    private static class Replay {
+        private final AddressBook snapshot;
+        private final List<Patient> patients;
+        private final List<Integer> patientIds;
+        private final List<Doctor> doctors;
+        private final List<List<Integer>> patientIdsOfDoctors = new ArrayList<>();
+        private long sequence;
+        private int recordCount;
+        private int nextPatientId;
+
+        Replay(AddressBook snapshot, long sequence) {
+            this.snapshot = snapshot;
+            this.sequence = sequence;
+            nextPatientId = snapshot.getNextPatientId();
+            patients = new ArrayList<>(snapshot.getPatientList());
+            patientIds = patients.stream().map(snapshot::getPatientId).collect(Collectors.toList());
+            doctors = new ArrayList<>(snapshot.getDoctorList());
+            for (Doctor doctor : doctors) {
+                patientIdsOfDoctors.add(JsonJournalRecord.patientIdsOf(snapshot, doctor));
+            }
+        }
+
+        long getSequence() {
+            return sequence;
+        }
+
+        int getRecordCount() {
+            return recordCount;
+        }
+
+        /**
+         * Applies the records in {@code journalFile} that follow the ones applied so far.
+         * Reading stops at the first incomplete record, which is left behind when a write is interrupted.
+         */
+        void replayFile(Path journalFile) throws IOException, IllegalValueException {
+            if (!Files.exists(journalFile)) {
+                return;
+            }
+            try (BufferedReader reader = Files.newBufferedReader(journalFile, StandardCharsets.UTF_8)) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    JsonJournalRecord record;
+                    try {
+                        record = JsonUtil.fromJsonString(line, JsonJournalRecord.class);
+                    } catch (JsonProcessingException e) {
+                        logger.warning("Ignoring incomplete journal record in " + journalFile + ": " + e);
+                        return;
+                    }
+                    if (record.getSequence() <= sequence) {
+                        continue;
+                    }
+                    if (record.getSequence() != sequence + 1) {
+                        throw new IllegalValueException(String.format(MESSAGE_MISSING_RECORDS,
+                                sequence + 1, record.getSequence() - 1));
+                    }
+                    // The ids of patients removed by later records must not be given out again either.
+                    for (int id : record.getPatientIds()) {
+                        nextPatientId = Math.max(nextPatientId, id + 1);
+                    }
+                    record.applyTo(patients, patientIds, doctors, patientIdsOfDoctors);
+                    sequence = record.getSequence();
+                    recordCount++;
+                }
+            }
+        }
+
+        /**
+         * Returns the address book with all records applied, with every doctor assigned the patients it refers to.
+         */
+        AddressBook getAddressBook() throws IllegalValueException {
+            if (recordCount == 0) {
+                return snapshot;
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setNextPatientId(nextPatientId);
+            JsonSerializableAddressBook.addPatients(addressBook, patients, patientIds);
+            try {
+                addressBook.setDoctors(doctors);
+            } catch (DuplicatePersonException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+            Map<Integer, Patient> patientsById = new HashMap<>();
+            for (int i = 0; i < patients.size(); i++) {
+                patientsById.put(patientIds.get(i), patients.get(i));
+            }
+            for (int i = 0; i < doctors.size(); i++) {
+                for (Integer id : patientIdsOfDoctors.get(i)) {
+                    Patient patient = patientsById.get(id);
+                    if (patient == null) {
+                        throw new IllegalValueException(String.format(JsonJournalRecord.MESSAGE_UNKNOWN_PATIENT,
+                                sequence, id));
+                    }
+                    addressBook.assignPatient(doctors.get(i), patient);
+                }
+            }
+            return addressBook;
+        }
+    }
+}
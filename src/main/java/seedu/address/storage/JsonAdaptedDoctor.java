@@ -1,12 +1,10 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -25,6 +23,9 @@ class JsonAdaptedDoctor extends JsonAdaptedPerson {
 
     private final String specialty;
     private final String yearsOfExperience;
+    private final List<Integer> patientIds = new ArrayList<>();
+    // Only present in files written before patients were stored by id.
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedPatient> patients = new ArrayList<>();
 
     /**
@@ -35,10 +36,14 @@ class JsonAdaptedDoctor extends JsonAdaptedPerson {
                              @JsonProperty("email") String email, @JsonProperty("specialty") String specialty,
                              @JsonProperty("yearsOfExperience") String yearsOfExperience,
                              @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
+                             @JsonProperty("patientIds") List<Integer> patientIds,
                              @JsonProperty("patients") List<JsonAdaptedPatient> patients) {
         super(name, phone, email, tagged);
         this.specialty = specialty;
         this.yearsOfExperience = yearsOfExperience;
+        if (patientIds != null) {
+            this.patientIds.addAll(patientIds);
+        }
         if (patients != null) {
             this.patients.addAll(patients);
         }
@@ -46,14 +51,21 @@ class JsonAdaptedDoctor extends JsonAdaptedPerson {
 
     /**
      * Converts a given {@code Doctor} into this class for Jackson use.
+     *
+     * @param patientIds the ids of the patients assigned to {@code source}.
      */
-    public JsonAdaptedDoctor(Doctor source) {
+    public JsonAdaptedDoctor(Doctor source, List<Integer> patientIds) {
         super(source);
         yearsOfExperience = source.getYoe().getValue();
         specialty = source.getSpecialty().getValue();
-        patients.addAll(source.getPatients().stream()
-                .map(JsonAdaptedPatient::new)
-                .collect(Collectors.toList()));
+        this.patientIds.addAll(patientIds);
+    }
+
+    /**
+     * Returns the ids of the patients assigned to this doctor.
+     */
+    public List<Integer> getPatientIds() {
+        return patientIds;
     }
 
     /**
@@ -64,11 +76,23 @@ class JsonAdaptedDoctor extends JsonAdaptedPerson {
     public Doctor toModelType() throws IllegalValueException {
         final Specialty modelSpecialty = validateSpecialty();
         final Yoe modelYearsOfExperience = validateYearsOfExperience();
-        final Set<Patient> modelPatients = validatePatient();
 
         Person doctorPerson = super.toModelType();
         return new Doctor(doctorPerson.getName(), doctorPerson.getPhone(), doctorPerson.getEmail(),
-                modelSpecialty, modelYearsOfExperience, doctorPerson.getTags(), modelPatients);
+                modelSpecialty, modelYearsOfExperience, doctorPerson.getTags());
+    }
+
+    /**
+     * Converts the patients stored under this doctor in the legacy layout into the model's {@code Patient} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted patients.
+     */
+    public List<Patient> toLegacyPatientModelTypes() throws IllegalValueException {
+        final List<Patient> patientsList = new ArrayList<>();
+        for (JsonAdaptedPatient patient : patients) {
+            patientsList.add(patient.toModelType());
+        }
+        return patientsList;
     }
 
     /**
@@ -85,7 +109,7 @@ class JsonAdaptedDoctor extends JsonAdaptedPerson {
         if (!Specialty.isValidSpecialty(specialty)) {
             throw new IllegalValueException(Specialty.MESSAGE_CONSTRAINTS);
         }
-        return new Specialty(specialty);
+        return Specialty.of(specialty);
     }
 
     /**
@@ -104,18 +128,4 @@ class JsonAdaptedDoctor extends JsonAdaptedPerson {
         return new Yoe(yearsOfExperience);
     }
 
-    /**
-     * Validate the patients supplied from storage.
-     *
-     * @return a valid set of patients
-     * @throws IllegalValueException if patients supplied are not valid.
-     */
-    private Set<Patient> validatePatient() throws IllegalValueException {
-        final List<Patient> patientsList = new ArrayList<>();
-        for (JsonAdaptedPatient patient : patients) {
-            patientsList.add(patient.toModelType());
-        }
-        return new HashSet<>(patientsList);
-    }
-
 }
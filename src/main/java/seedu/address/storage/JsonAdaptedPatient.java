@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -26,6 +27,8 @@ class JsonAdaptedPatient extends JsonAdaptedPerson {
     private final String diagnosis;
     private final String status;
     private final String remark;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer id;
 
     /**
      * Constructs a {@code JsonAdaptedPatient} with the given patient details.
@@ -35,25 +38,48 @@ class JsonAdaptedPatient extends JsonAdaptedPerson {
                              @JsonProperty("email") String email, @JsonProperty("height") String height,
                              @JsonProperty("weight") String weight, @JsonProperty("diagnosis") String diagnosis,
                              @JsonProperty("status") String status, @JsonProperty("remark") String remark,
-                             @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+                             @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
+                             @JsonProperty("id") Integer id) {
         super(name, phone, email, tagged);
         this.height = height;
         this.weight = weight;
         this.diagnosis = diagnosis;
         this.status = status;
         this.remark = remark;
+        this.id = id;
     }
 
     /**
-     * Converts a given {@code Patient} into this class for Jackson use.
+     * Converts a given {@code Patient} into this class for Jackson use, without an id.
      */
     public JsonAdaptedPatient(Patient source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code Patient} into this class for Jackson use.
+     *
+     * @param id the id that doctors use to refer to this patient in the same file.
+     */
+    public JsonAdaptedPatient(Patient source, int id) {
+        this(source, Integer.valueOf(id));
+    }
+
+    private JsonAdaptedPatient(Patient source, Integer id) {
         super(source);
         this.height = source.getHeight().getValue();
         this.weight = source.getWeight().getValue();
         this.diagnosis = source.getDiagnosis().getValue();
         this.status = source.getStatus().getValue();
         this.remark = source.getRemark().getValue();
+        this.id = id;
+    }
+
+    /**
+     * Returns the id of this patient, or null if the patient was stored without one.
+     */
+    public Integer getId() {
+        return id;
     }
 
     /**
@@ -139,7 +165,7 @@ class JsonAdaptedPatient extends JsonAdaptedPerson {
         if (!Status.isValidStatus(status)) {
             throw new IllegalValueException(Status.MESSAGE_CONSTRAINTS);
         }
-        return new Status(status);
+        return Status.of(status);
     }
 
     /**
@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of a {@link ShardedAddressBookStorage}, which lists the file and checksum of every shard.
+ * The manifest is replaced as a whole when shards are rewritten, so it always refers to one consistent set of shards.
+ * It also records the next patient id, so that the ids of removed patients are not given out again.
+ * A file is a manifest if it has a list of {@code shards}, which an address book kept in a single file does not.
+ */
+class JsonAddressBookManifest {
+
+    public static final int CURRENT_VERSION = 1;
+
+    private final int version;
+    private final List<JsonShardEntry> shards;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer nextPatientId;
+
+    /**
+     * Constructs a {@code JsonAddressBookManifest} with the given version, shards and next patient id.
+     * A file without a list of shards is a plain address book rather than a manifest.
+     */
+    @JsonCreator
+    public JsonAddressBookManifest(@JsonProperty("version") Integer version,
+                                   @JsonProperty("shards") List<JsonShardEntry> shards,
+                                   @JsonProperty("nextPatientId") Integer nextPatientId) {
+        this.version = version == null ? 0 : version;
+        this.shards = shards == null ? null : new ArrayList<>(shards);
+        this.nextPatientId = nextPatientId;
+    }
+
+    /**
+     * Constructs a {@code JsonAddressBookManifest} of the current version listing {@code shards} in shard order.
+     */
+    public JsonAddressBookManifest(List<JsonShardEntry> shards, int nextPatientId) {
+        this(CURRENT_VERSION, shards, nextPatientId);
+    }
+
+    /**
+     * Returns true if the file read is a manifest, rather than an address book kept in a single file.
+     */
+    public boolean isManifest() {
+        return shards != null;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public List<JsonShardEntry> getShards() {
+        return shards;
+    }
+
+    /**
+     * Returns the next patient id recorded, or 0 if the manifest records none.
+     */
+    public int getNextPatientId() {
+        return nextPatientId == null ? 0 : nextPatientId;
+    }
+
+    /**
+     * Jackson-friendly entry of one shard in the manifest.
+     */
+    static class JsonShardEntry {
+
+        private final String file;
+        private final long checksum;
+
+        /**
+         * Constructs a {@code JsonShardEntry} for the shard kept in {@code file}, whose bytes have {@code checksum}.
+         */
+        @JsonCreator
+        public JsonShardEntry(@JsonProperty("file") String file, @JsonProperty("checksum") long checksum) {
+            this.file = file;
+            this.checksum = checksum;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public long getChecksum() {
+            return checksum;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+
+/**
+ * Jackson-friendly shard of a {@link ShardedAddressBookStorage}, holding the patients whose ids and the doctors whose
+ * names fall in the shard. Doctors refer to their assigned patients by id, as these may be kept in other shards.
+ * Each doctor and patient is stored with its position in the whole list, which orders the lists when the shards are
+ * merged again. Patients are stored with their ids.
+ */
+class JsonAddressBookShard {
+
+    private final List<JsonAdaptedPatient> patients = new ArrayList<>();
+    private final List<Long> patientPositions = new ArrayList<>();
+    private final List<JsonAdaptedDoctor> doctors = new ArrayList<>();
+    private final List<Long> doctorPositions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAddressBookShard} with the given patients and doctors, and their positions.
+     */
+    @JsonCreator
+    public JsonAddressBookShard(@JsonProperty("patients") List<JsonAdaptedPatient> patients,
+                                @JsonProperty("patientPositions") List<Long> patientPositions,
+                                @JsonProperty("doctors") List<JsonAdaptedDoctor> doctors,
+                                @JsonProperty("doctorPositions") List<Long> doctorPositions) {
+        if (patients != null) {
+            this.patients.addAll(patients);
+        }
+        if (patientPositions != null) {
+            this.patientPositions.addAll(patientPositions);
+        }
+        if (doctors != null) {
+            this.doctors.addAll(doctors);
+        }
+        if (doctorPositions != null) {
+            this.doctorPositions.addAll(doctorPositions);
+        }
+    }
+
+    /**
+     * Converts the given patients and doctors of one shard, at the given positions, into this class for Jackson use.
+     * The patients have the ids in {@code patientIds}, and the doctors are assigned the patients with the ids in
+     * {@code patientIdsOfDoctors}, in the same order.
+     */
+    public JsonAddressBookShard(List<Patient> patients, List<Integer> patientIds, List<Long> patientPositions,
+                                List<Doctor> doctors, List<List<Integer>> patientIdsOfDoctors,
+                                List<Long> doctorPositions) {
+        for (int i = 0; i < patients.size(); i++) {
+            this.patients.add(new JsonAdaptedPatient(patients.get(i), patientIds.get(i)));
+        }
+        this.patientPositions.addAll(patientPositions);
+        for (int i = 0; i < doctors.size(); i++) {
+            this.doctors.add(new JsonAdaptedDoctor(doctors.get(i), patientIdsOfDoctors.get(i)));
+        }
+        this.doctorPositions.addAll(doctorPositions);
+    }
+
+    public List<JsonAdaptedPatient> getPatients() {
+        return patients;
+    }
+
+    public List<Long> getPatientPositions() {
+        return patientPositions;
+    }
+
+    public List<JsonAdaptedDoctor> getDoctors() {
+        return doctors;
+    }
+
+    public List<Long> getDoctorPositions() {
+        return doctorPositions;
+    }
+}
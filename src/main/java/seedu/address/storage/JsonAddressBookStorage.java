@@ -22,6 +22,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final JsonAddressBookWriter writer = new JsonAddressBookWriter();
 
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
@@ -51,6 +52,10 @@ public class JsonAddressBookStorage implements AddressBookStorage {
             return Optional.empty();
         }
 
+        if (jsonAddressBook.get().isLegacyLayout()) {
+            logger.info("Data file " + filePath + " uses the legacy layout and will be migrated when next saved");
+        }
+
         try {
             return Optional.of(jsonAddressBook.get().toModelType());
         } catch (IllegalValueException ive) {
@@ -74,7 +79,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        writer.write(addressBook, null, filePath);
     }
 
 }
@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+
+/**
+ * Writes address books to json files in the layout of {@link JsonSerializableAddressBook}, one record per line.
+ * The json of each patient written is kept, without its id, and reused by the next write as long as the patient
+ * is the same object. Patients are immutable and are replaced by edited copies through
+ * {@code AddressBook#setPatient}, so only the patients added or edited since the last write are serialized again.
+ * The json of each doctor is kept in the same way, together with the version of its assignments, and reused while
+ * the doctor is the same object with the same assignment version. Snapshots share their doctors with the address
+ * book, so only the doctors added, edited or assigned other patients since the last write are serialized again.
+ */
+class JsonAddressBookWriter {
+
+    private Map<Patient, byte[]> patientFragments = new IdentityHashMap<>();
+    private Map<Doctor, DoctorFragment> doctorFragments = new IdentityHashMap<>();
+    private int serializedPatientCount;
+    private int serializedDoctorCount;
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, recording that it includes every journal record up to
+     * {@code journalSequence} unless that is null.
+     * The json is written to a temporary file that then replaces {@code filePath}, so a failed write leaves the
+     * previous contents of {@code filePath} intact.
+     */
+    synchronized void write(ReadOnlyAddressBook addressBook, Long journalSequence, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        Map<Patient, byte[]> fragments = new IdentityHashMap<>(addressBook.getPatientList().size());
+        Map<Doctor, DoctorFragment> newDoctorFragments = new IdentityHashMap<>(addressBook.getDoctorList().size());
+        Path tempFile = FileUtil.createTempFileBeside(filePath);
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                write(out, "{\n  \"version\" : " + JsonSerializableAddressBook.CURRENT_VERSION + ",\n");
+                Map<Name, Integer> patientIds = writePatients(out, addressBook, fragments);
+                write(out, ",\n");
+                writeDoctors(out, addressBook, patientIds, newDoctorFragments);
+                write(out, ",\n  \"nextPatientId\" : " + addressBook.getNextPatientId());
+                if (journalSequence != null) {
+                    write(out, ",\n  \"journalSequence\" : " + journalSequence);
+                }
+                write(out, "\n}\n");
+            }
+            FileUtil.moveReplacingExisting(tempFile, filePath);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        // Only the doctors and patients in this address book are kept, so removed ones do not stay in memory.
+        patientFragments = fragments;
+        doctorFragments = newDoctorFragments;
+    }
+
+    /**
+     * Returns the number of patients that the last write had to serialize, as they were not written before.
+     */
+    synchronized int getSerializedPatientCount() {
+        return serializedPatientCount;
+    }
+
+    /**
+     * Returns the number of doctors that the last write had to serialize, as they were not written before with the
+     * same assignments.
+     */
+    synchronized int getSerializedDoctorCount() {
+        return serializedDoctorCount;
+    }
+
+    /**
+     * Writes the patients of {@code addressBook} with their ids, and puts the json of each in {@code fragments}.
+     *
+     * @return the ids of the patients, keyed by name.
+     */
+    private Map<Name, Integer> writePatients(OutputStream out, ReadOnlyAddressBook addressBook,
+                                             Map<Patient, byte[]> fragments) throws IOException {
+        List<Patient> patients = addressBook.getPatientList();
+        Map<Name, Integer> patientIds = new HashMap<>(patients.size() * 2);
+        serializedPatientCount = 0;
+        write(out, "  \"patients\" : [");
+        for (int i = 0; i < patients.size(); i++) {
+            Patient patient = patients.get(i);
+            int id = addressBook.getPatientId(patient);
+            patientIds.put(patient.getName(), id);
+            byte[] fragment = patientFragments.get(patient);
+            if (fragment == null) {
+                fragment = serialize(new JsonAdaptedPatient(patient));
+                serializedPatientCount++;
+            }
+            fragments.put(patient, fragment);
+
+            // The fragment is a json object without an id, so the id is written as its first field.
+            write(out, (i == 0 ? "\n    " : ",\n    ") + "{\"id\":" + id + ",");
+            out.write(fragment, 1, fragment.length - 1);
+        }
+        write(out, patients.isEmpty() ? "]" : "\n  ]");
+        return patientIds;
+    }
+
+    /**
+     * Writes the doctors of {@code addressBook}, referring to their assigned patients by the ids in
+     * {@code patientIds}, and puts the json of each in {@code fragments}.
+     */
+    private void writeDoctors(OutputStream out, ReadOnlyAddressBook addressBook, Map<Name, Integer> patientIds,
+                              Map<Doctor, DoctorFragment> fragments) throws IOException {
+        List<Doctor> doctors = addressBook.getDoctorList();
+        serializedDoctorCount = 0;
+        write(out, "  \"doctors\" : [");
+        for (int i = 0; i < doctors.size(); i++) {
+            Doctor doctor = doctors.get(i);
+            long assignmentVersion = addressBook.getAssignmentVersion(doctor);
+            DoctorFragment fragment = doctorFragments.get(doctor);
+            if (fragment == null || fragment.assignmentVersion != assignmentVersion) {
+                fragment = new DoctorFragment(assignmentVersion, serialize(JsonSerializableAddressBook
+                        .toJsonAdaptedDoctor(doctor, addressBook.getPatientsOf(doctor), patientIds)));
+                serializedDoctorCount++;
+            }
+            fragments.put(doctor, fragment);
+
+            write(out, i == 0 ? "\n    " : ",\n    ");
+            out.write(fragment.json);
+        }
+        write(out, doctors.isEmpty() ? "]" : "\n  ]");
+    }
+
+    private static byte[] serialize(Object record) throws IOException {
+        return JsonUtil.toCompactJsonString(record).getBytes(UTF_8);
+    }
+
+    private static void write(OutputStream out, String text) throws IOException {
+        out.write(text.getBytes(UTF_8));
+    }
+
+    /**
+     * The json of a doctor, written while it had the assignments of {@code assignmentVersion}.
+     */
+    private static class DoctorFragment {
+        private final long assignmentVersion;
+        private final byte[] json;
+
+        DoctorFragment(long assignmentVersion, byte[] json) {
+            this.assignmentVersion = assignmentVersion;
+            this.json = json;
+        }
+    }
+}
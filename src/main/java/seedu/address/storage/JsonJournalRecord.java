@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+
+/**
+ * Jackson-friendly record of one change to the doctor or patient list, as kept in the journal
+ * of a {@link JournaledAddressBookStorage}.
+ * The change replaces {@code removed} entries of the list, starting at index {@code from},
+ * with the entries stored in this record. Patients are stored with their ids, and doctors refer to their assigned
+ * patients by these ids.
+ */
+class JsonJournalRecord {
+
+    public static final String DOCTORS = "doctors";
+    public static final String PATIENTS = "patients";
+
+    public static final String MESSAGE_UNKNOWN_LIST = "Journal record %1$d changes unknown list %2$s.";
+    public static final String MESSAGE_INVALID_RANGE = "Journal record %1$d changes entries that do not exist.";
+    public static final String MESSAGE_UNKNOWN_PATIENT = "Journal record %1$d assigns unknown patient id %2$d.";
+
+    private final long sequence;
+    private final String list;
+    private final int from;
+    private final int removed;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<JsonAdaptedPatient> patients = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<JsonAdaptedDoctor> doctors = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("sequence") long sequence, @JsonProperty("list") String list,
+                             @JsonProperty("from") int from, @JsonProperty("removed") int removed,
+                             @JsonProperty("patients") List<JsonAdaptedPatient> patients,
+                             @JsonProperty("doctors") List<JsonAdaptedDoctor> doctors) {
+        this.sequence = sequence;
+        this.list = list;
+        this.from = from;
+        this.removed = removed;
+        if (patients != null) {
+            this.patients.addAll(patients);
+        }
+        if (doctors != null) {
+            this.doctors.addAll(doctors);
+        }
+    }
+
+    /**
+     * Returns a record that replaces {@code removed} patients, starting at index {@code from}, with {@code inserted},
+     * which have the ids they have in {@code addressBook}.
+     */
+    public static JsonJournalRecord ofPatients(long sequence, int from, int removed, List<Patient> inserted,
+                                               ReadOnlyAddressBook addressBook) {
+        return new JsonJournalRecord(sequence, PATIENTS, from, removed, inserted.stream()
+                .map(patient -> new JsonAdaptedPatient(patient, addressBook.getPatientId(patient)))
+                .collect(Collectors.toList()), null);
+    }
+
+    /**
+     * Returns a record that replaces {@code removed} doctors, starting at index {@code from}, with {@code inserted},
+     * which are assigned the patients they are assigned to in {@code addressBook}.
+     */
+    public static JsonJournalRecord ofDoctors(long sequence, int from, int removed, List<Doctor> inserted,
+                                              ReadOnlyAddressBook addressBook) {
+        return new JsonJournalRecord(sequence, DOCTORS, from, removed, null, inserted.stream()
+                .map(doctor -> new JsonAdaptedDoctor(doctor, patientIdsOf(addressBook, doctor)))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the ids of the patients assigned to {@code doctor} in {@code addressBook}, in ascending order.
+     */
+    public static List<Integer> patientIdsOf(ReadOnlyAddressBook addressBook, Doctor doctor) {
+        return addressBook.getPatientsOf(doctor).stream()
+                .map(addressBook::getPatientId)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the ids of the patients stored in this record. Patients stored without an id are left out.
+     */
+    public List<Integer> getPatientIds() {
+        return patients.stream()
+                .map(JsonAdaptedPatient::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Applies this change to {@code patientList} or {@code doctorList}.
+     * {@code patientIdList}, which holds the id of each patient, is kept in step with {@code patientList}.
+     * {@code patientIdsOfDoctors}, which holds the ids of the patients assigned to each doctor, is kept in step with
+     * {@code doctorList}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in this record.
+     */
+    public void applyTo(List<Patient> patientList, List<Integer> patientIdList,
+                        List<Doctor> doctorList, List<List<Integer>> patientIdsOfDoctors)
+            throws IllegalValueException {
+        if (PATIENTS.equals(list)) {
+            List<Patient> inserted = new ArrayList<>();
+            List<Integer> insertedIds = new ArrayList<>();
+            for (JsonAdaptedPatient patient : patients) {
+                if (patient.getId() == null) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_MISSING_PATIENT_ID);
+                }
+                inserted.add(patient.toModelType());
+                insertedIds.add(patient.getId());
+            }
+            replace(patientIdList, insertedIds);
+            replace(patientList, inserted);
+        } else if (DOCTORS.equals(list)) {
+            List<Doctor> inserted = new ArrayList<>();
+            List<List<Integer>> insertedPatientIds = new ArrayList<>();
+            for (JsonAdaptedDoctor doctor : doctors) {
+                inserted.add(doctor.toModelType());
+                insertedPatientIds.add(doctor.getPatientIds());
+            }
+            replace(doctorList, inserted);
+            replace(patientIdsOfDoctors, insertedPatientIds);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_LIST, sequence, list));
+        }
+    }
+
+    /**
+     * Replaces the range of {@code entries} changed by this record with {@code inserted}.
+     */
+    private <T> void replace(List<T> entries, List<T> inserted) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > entries.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RANGE, sequence));
+        }
+        List<T> range = entries.subList(from, from + removed);
+        range.clear();
+        range.addAll(inserted);
+    }
+}
@@ -1,117 +1,325 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.doctor.Doctor;
 import seedu.address.model.person.patient.Patient;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * Every patient is stored once under {@code patients} with its id, and doctors refer to their assigned patients
+ * by these ids. Patients keep their ids across saves, and {@code nextPatientId} keeps the ids of removed patients
+ * from being given out again. Files without a {@code version} use the legacy layout, in which a copy of each assigned
+ * patient is stored under every doctor it is assigned to; these are still read, and are written in the current
+ * layout when next saved.
  */
 @JsonRootName(value = "docedex")
 class JsonSerializableAddressBook {
 
+    public static final int CURRENT_VERSION = 2;
+    public static final int LEGACY_VERSION = 1;
+
     public static final String MESSAGE_DUPLICATE_DOCTOR = "Doctors list contains duplicate doctors(s).";
     public static final String MESSAGE_DUPLICATE_PATIENT = "Patients list contains duplicate patient(s).";
+    public static final String MESSAGE_MISSING_PATIENT_ID = "Patient's id field is missing!";
+    public static final String MESSAGE_DUPLICATE_PATIENT_ID = "Patients list contains duplicate patient id(s).";
+    public static final String MESSAGE_INVALID_PATIENT_ID = "Patient id %1$d is negative.";
+    public static final String MESSAGE_UNKNOWN_PATIENT_ID = "Doctor %1$s is assigned to unknown patient id %2$d.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file version %1$d is not supported.";
+
+    /** Lists of fewer records than this are converted on the calling thread. */
+    private static final int PARALLEL_CONVERSION_THRESHOLD = 256;
 
+    private final int version;
+    private final List<JsonAdaptedPatient> patients = new ArrayList<>();
     private final List<JsonAdaptedDoctor> doctors = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedPatient> unassignedPatients = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer nextPatientId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long journalSequence;
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given doctors and patients.
+     * A missing {@code version} denotes the legacy layout, which stores {@code unassignedPatients}
+     * instead of {@code patients}.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("doctors") List<JsonAdaptedDoctor> doctors,
+    public JsonSerializableAddressBook(@JsonProperty("version") Integer version,
+                                       @JsonProperty("doctors") List<JsonAdaptedDoctor> doctors,
+                                       @JsonProperty("patients") List<JsonAdaptedPatient> patients,
                                        @JsonProperty("unassignedPatients")
-                                               List<JsonAdaptedPatient> unassignedPatients) {
+                                               List<JsonAdaptedPatient> unassignedPatients,
+                                       @JsonProperty("nextPatientId") Integer nextPatientId,
+                                       @JsonProperty("journalSequence") Long journalSequence) {
+        this.version = version == null ? LEGACY_VERSION : version;
+        this.nextPatientId = nextPatientId;
+        this.journalSequence = journalSequence;
         this.doctors.addAll(doctors);
-        this.unassignedPatients.addAll(unassignedPatients);
+        if (this.version == LEGACY_VERSION) {
+            this.unassignedPatients.addAll(unassignedPatients);
+        } else {
+            this.patients.addAll(patients);
+        }
     }
 
     /**
      * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
+     * Patients are stored with their ids in {@code source}.
      *
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, recording that it includes
+     * every journal record up to {@code journalSequence}.
+     *
+     * @see JournaledAddressBookStorage
+     */
+    JsonSerializableAddressBook(ReadOnlyAddressBook source, Long journalSequence) {
+        version = CURRENT_VERSION;
+        nextPatientId = source.getNextPatientId();
+        this.journalSequence = journalSequence;
+        // Assigned patients are matched to their ids by name.
+        Map<Name, Integer> patientIds = new HashMap<>();
+        for (Patient patient : source.getPatientList()) {
+            int id = source.getPatientId(patient);
+            patientIds.put(patient.getName(), id);
+            patients.add(new JsonAdaptedPatient(patient, id));
+        }
         doctors.addAll(source.getDoctorList().stream()
-                .map(JsonAdaptedDoctor::new)
+                .map(doctor -> toJsonAdaptedDoctor(doctor, source.getPatientsOf(doctor), patientIds))
                 .collect(Collectors.toList()));
-        unassignedPatients.addAll(source.getUnassignedPatientList().stream()
-                .map(JsonAdaptedPatient::new)
+    }
+
+    /**
+     * Converts {@code doctor} into a {@code JsonAdaptedDoctor} that refers to its {@code assignedPatients} by the ids
+     * in {@code patientIds}, which are keyed by patient name. Assigned patients without an id are left out.
+     */
+    static JsonAdaptedDoctor toJsonAdaptedDoctor(Doctor doctor, List<Patient> assignedPatients,
+                                                 Map<Name, Integer> patientIds) {
+        return new JsonAdaptedDoctor(doctor, assignedPatients.stream()
+                .map(patient -> patientIds.get(patient.getName()))
+                .filter(Objects::nonNull)
+                .sorted()
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the sequence number of the last journal record included in this address book, or 0 if there is none.
+     */
+    long getJournalSequence() {
+        return journalSequence == null ? 0 : journalSequence;
+    }
+
+    /**
+     * Returns true if this address book was read from a file in the legacy layout.
+     */
+    boolean isLegacyLayout() {
+        return version == LEGACY_VERSION;
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The records are converted in parallel, and then merged into the address book one by one in file order,
+     * so that the error reported for an invalid file is the one for its first invalid record.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        loadDoctorsAndTheirAssignedPatients(addressBook);
-        loadAssignmentOfPatientsToDoctors(addressBook);
-        loadUnassignedPatients(addressBook);
+        if (isLegacyLayout()) {
+            loadDoctorsAndTheirAssignedPatients(addressBook);
+            loadUnassignedPatients(addressBook);
+            return addressBook;
+        }
+        if (version != CURRENT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        Map<Integer, Patient> patientsById = loadPatients(addressBook);
+        loadDoctors(addressBook, patientsById);
         return addressBook;
     }
 
     /**
-     * Load the doctors and their assigned patients into the address book.
+     * Load the patients into the address book, with their ids.
      *
      * @param addressBook the address book to load
-     * @throws IllegalValueException when doctor or patients have illegal values as attributes
+     * @return the loaded patients, keyed by their id
+     * @throws IllegalValueException when a patient has illegal values as attributes, or a missing or duplicate id
      */
-    private void loadDoctorsAndTheirAssignedPatients(AddressBook addressBook)
+    private Map<Integer, Patient> loadPatients(AddressBook addressBook) throws IllegalValueException {
+        List<Converted<Patient>> convertedPatients = convertAll(patients, JsonAdaptedPatient::toModelType);
+        List<Patient> loadedPatients = new ArrayList<>(patients.size());
+        List<Integer> ids = new ArrayList<>(patients.size());
+        Set<Name> names = new HashSet<>();
+        Set<Integer> seenIds = new HashSet<>();
+        for (int i = 0; i < patients.size(); i++) {
+            Integer id = patients.get(i).getId();
+            if (id == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_PATIENT_ID);
+            }
+            Patient patient = convertedPatients.get(i).get();
+            checkPatient(patient, id, names, seenIds);
+            loadedPatients.add(patient);
+            ids.add(id);
+        }
+        addCheckedPatients(addressBook, loadedPatients, ids);
+        if (nextPatientId != null) {
+            addressBook.setNextPatientId(nextPatientId);
+        }
+
+        Map<Integer, Patient> patientsById = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            patientsById.put(ids.get(i), loadedPatients.get(i));
+        }
+        return patientsById;
+    }
+
+    /**
+     * Adds {@code patients} to the end of the patient list of {@code addressBook}, each with the id at the same
+     * position of {@code ids}. A patient whose id is null is given a new id that no other patient has.
+     *
+     * @throws IllegalValueException if two patients have the same name or id, or an id is negative.
+     */
+    static void addPatients(AddressBook addressBook, List<Patient> patients, List<Integer> ids)
+            throws IllegalValueException {
+        Set<Name> names = new HashSet<>();
+        Set<Integer> seenIds = new HashSet<>();
+        for (int i = 0; i < patients.size(); i++) {
+            checkPatient(patients.get(i), ids.get(i), names, seenIds);
+        }
+        addCheckedPatients(addressBook, patients, ids);
+    }
+
+    /**
+     * Checks that {@code patient} and its {@code id}, which may be null, are not among the names and ids seen so far,
+     * and adds them to those seen.
+     *
+     * @throws IllegalValueException if the name or id was seen before, or the id is negative.
+     */
+    private static void checkPatient(Patient patient, Integer id, Set<Name> names, Set<Integer> seenIds)
+            throws IllegalValueException {
+        if (!names.add(patient.getName())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT);
+        }
+        if (id != null && id < 0) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_PATIENT_ID, id));
+        }
+        if (id != null && !seenIds.add(id)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT_ID);
+        }
+    }
+
+    /**
+     * Adds {@code patients}, which have been checked with {@link #checkPatient}, as in {@link #addPatients}.
+     */
+    private static void addCheckedPatients(AddressBook addressBook, List<Patient> patients, List<Integer> ids) {
+        // Patients without an id are given ids after those of the others.
+        for (Integer id : ids) {
+            if (id != null) {
+                addressBook.setNextPatientId(id + 1);
+            }
+        }
+        for (int i = 0; i < patients.size(); i++) {
+            if (ids.get(i) == null) {
+                addressBook.addPatient(patients.get(i));
+            } else {
+                addressBook.addPatient(patients.get(i), ids.get(i));
+            }
+        }
+    }
+
+    /**
+     * Load the doctors into the address book, assigning each doctor to its patients.
+     *
+     * @param addressBook the address book to load
+     * @param patientsById the loaded patients, keyed by their id
+     * @throws IllegalValueException when a doctor has illegal values as attributes, or refers to an unknown patient
+     */
+    private void loadDoctors(AddressBook addressBook, Map<Integer, Patient> patientsById)
             throws IllegalValueException {
-        for (JsonAdaptedDoctor jsonAdaptedDoctor : doctors) {
-            Doctor doctor = jsonAdaptedDoctor.toModelType();
+        List<Converted<Doctor>> convertedDoctors = convertAll(doctors, JsonAdaptedDoctor::toModelType);
+        for (int i = 0; i < doctors.size(); i++) {
+            Doctor doctor = convertedDoctors.get(i).get();
             if (addressBook.hasDoctor(doctor)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_DOCTOR);
             }
             addressBook.addDoctor(doctor);
-
-            Set<Patient> patientsAdded = new HashSet<>();
-            for (Patient patient : doctor.getPatients()) {
-                // Do not perform a check for duplicate patients here
-                // as the patients are bound to be stored multiple
-                // times under the different doctors they are assigned to.
-                if (patientsAdded.contains(patient)) {
-                    throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT);
-                }
-                if (!addressBook.hasPatient(patient)) {
-                    addressBook.addPatient(patient);
+            for (Integer id : doctors.get(i).getPatientIds()) {
+                Patient patient = patientsById.get(id);
+                if (patient == null) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_PATIENT_ID, doctor.getName(), id));
                 }
-                patientsAdded.add(patient);
+                addressBook.assignPatient(doctor, patient);
             }
         }
     }
 
     /**
-     * Load the assignment of patients to their respective doctors into the address book.
+     * Load the doctors and their assigned patients into the address book, assigning each doctor to its patients.
      *
      * @param addressBook the address book to load
+     * @throws IllegalValueException when doctor or patients have illegal values as attributes
      */
-    private void loadAssignmentOfPatientsToDoctors(AddressBook addressBook) {
-        ObservableList<Patient> addressBookPatientList = addressBook.getPatientList();
-        ObservableList<Doctor> addressBookDoctorList = addressBook.getDoctorList();
-        for (Patient patient : addressBookPatientList) {
-            for (Doctor doctor : addressBookDoctorList) {
-                if (doctor.hasPatient(patient)) {
-                    patient.assignDoctor(doctor);
-                }
+    private void loadDoctorsAndTheirAssignedPatients(AddressBook addressBook)
+            throws IllegalValueException {
+        // Patients are stored once under every doctor they are assigned to,
+        // so only the first copy of each patient is kept.
+        Map<Name, Patient> loadedPatients = new HashMap<>();
+        List<Converted<Map.Entry<Doctor, List<Patient>>>> convertedDoctors = convertAll(doctors,
+                doctor -> Map.entry(doctor.toModelType(), doctor.toLegacyPatientModelTypes()));
+        for (Converted<Map.Entry<Doctor, List<Patient>>> convertedDoctor : convertedDoctors) {
+            Doctor doctor = convertedDoctor.get().getKey();
+            if (addressBook.hasDoctor(doctor)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_DOCTOR);
             }
+            addressBook.addDoctor(doctor);
+            loadAssignmentOfPatientsToDoctor(doctor, convertedDoctor.get().getValue(), loadedPatients, addressBook);
+        }
+    }
+
+    /**
+     * Assigns {@code doctor} to the patients stored under it, using the copies kept in {@code loadedPatients}.
+     * Patients that have not been loaded before are added to {@code loadedPatients} and the address book.
+     *
+     * @param doctor the doctor whose assigned patients are to be linked
+     * @param storedPatients the patients stored under {@code doctor}
+     * @param loadedPatients the patients loaded so far, keyed by name
+     * @param addressBook the address book to load
+     */
+    private static void loadAssignmentOfPatientsToDoctor(Doctor doctor, List<Patient> storedPatients,
+                                                         Map<Name, Patient> loadedPatients, AddressBook addressBook) {
+        for (Patient storedPatient : storedPatients) {
+            Patient patient = loadedPatients.get(storedPatient.getName());
+            if (patient == null) {
+                patient = storedPatient;
+                loadedPatients.put(patient.getName(), patient);
+                addressBook.addPatient(patient);
+            }
+            addressBook.assignPatient(doctor, patient);
         }
     }
 
@@ -123,8 +331,8 @@ class JsonSerializableAddressBook {
      */
     private void loadUnassignedPatients(AddressBook addressBook)
             throws IllegalValueException {
-        for (JsonAdaptedPatient jsonAdaptedPatient : unassignedPatients) {
-            Patient patient = jsonAdaptedPatient.toModelType();
+        for (Converted<Patient> convertedPatient : convertAll(unassignedPatients, JsonAdaptedPatient::toModelType)) {
+            Patient patient = convertedPatient.get();
             if (addressBook.hasPatient(patient)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT);
             }
@@ -132,4 +340,61 @@ class JsonSerializableAddressBook {
         }
     }
 
+    /**
+     * Converts each of {@code records} with {@code converter}, in parallel on the common fork-join pool if there are
+     * enough of them. Conversion does not touch the address book, so the records can be converted independently.
+     *
+     * @return the result of converting each record, at the position of that record.
+     */
+    private static <A, T> List<Converted<T>> convertAll(List<A> records, Converter<A, T> converter) {
+        @SuppressWarnings("unchecked")
+        Converted<T>[] converted = new Converted[records.size()];
+        IntStream positions = IntStream.range(0, records.size());
+        if (records.size() >= PARALLEL_CONVERSION_THRESHOLD) {
+            positions = positions.parallel();
+        }
+        positions.forEach(i -> converted[i] = Converted.of(converter, records.get(i)));
+        return Arrays.asList(converted);
+    }
+
+    /**
+     * Converts a record read from the data file into its model type.
+     */
+    @FunctionalInterface
+    private interface Converter<A, T> {
+        T convert(A record) throws IllegalValueException;
+    }
+
+    /**
+     * The result of converting a record: either the converted model object, or the reason the record is invalid.
+     */
+    private static class Converted<T> {
+        private final T value;
+        private final IllegalValueException error;
+
+        private Converted(T value, IllegalValueException error) {
+            this.value = value;
+            this.error = error;
+        }
+
+        private static <A, T> Converted<T> of(Converter<A, T> converter, A record) {
+            try {
+                return new Converted<>(converter.convert(record), null);
+            } catch (IllegalValueException e) {
+                return new Converted<>(null, e);
+            }
+        }
+
+        /**
+         * Returns the converted model object.
+         *
+         * @throws IllegalValueException if the record is invalid.
+         */
+        private T get() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return value;
+        }
+    }
 }
@@ -0,0 +1,684 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.storage.JsonAddressBookManifest.JsonShardEntry;
+
+/**
+ * A class to access AddressBook data split into shards on the hard disk.
+ * Every patient is kept in the shard its id falls in, and every doctor in the shard its name hashes to, as doctors have
+ * no ids. A small manifest at the data file path lists the file and checksum of each shard.
+ * Only the shards that changed are written when the address book is saved, in parallel, and they take effect
+ * together when the manifest is replaced.
+ * Each doctor and patient keeps its position in the list across saves, so that the order of the lists survives
+ * being split into shards without every shard being rewritten when a doctor or patient is removed.
+ * A shard that cannot be read is skipped with a warning, so the rest of the address book can still be used.
+ * The address book is not saved over it while it cannot be read, so that the doctors and patients it holds,
+ * and their assignments, are not lost.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_DAMAGED_SHARD = "Shard file %1$s does not match its checksum.";
+    public static final String MESSAGE_UNREADABLE_SHARDS =
+            "Not saving the address book over shard files %1$s, which could not be read.";
+    public static final String MESSAGE_MISSING_POSITIONS = "Shard does not hold the position of every entry.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    private static final String SHARD_FILE_PREFIX = "shard-";
+    private static final long POSITION_GAP = 1 << 16;
+
+    private final Path filePath;
+    private final int shardCount;
+    private final ExecutorService executor;
+
+    // The shards as last read from or written to filePath, or null if they are not known yet.
+    private Shard[] saved;
+    // The manifest entries of the shards at filePath, or null if there is no manifest there yet.
+    private JsonShardEntry[] savedEntries;
+    // Files of the shards at filePath that could not be read, which nothing is saved over.
+    private List<Path> unreadableShardFiles = List.of();
+    // Files of the single-file address book that the shards replace once they are written.
+    private List<Path> migratedFiles = List.of();
+
+    /**
+     * Constructs a {@code ShardedAddressBookStorage} that keeps its manifest at {@code filePath},
+     * and splits the address book into {@code shardCount} shards.
+     */
+    public ShardedAddressBookStorage(Path filePath, int shardCount) {
+        requireNonNull(filePath);
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+        int threadCount = Math.min(shardCount, Runtime.getRuntime().availableProcessors());
+        executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "address-book-shard-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Returns the directory of the shard files listed by the manifest at {@code filePath}.
+     */
+    public static Path getShardDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the files of the shards last read from this storage's own file that could not be read.
+     * The address book is not saved to its own file while there are any.
+     */
+    List<Path> getUnreadableShardFiles() {
+        return unreadableShardFiles;
+    }
+
+    /**
+     * Returns the shard, out of {@code shardCount}, that the patient with id {@code patientId} is kept in.
+     * Patients keep their ids when edited, so an edited patient stays in the same shard.
+     */
+    static int shardOf(int patientId, int shardCount) {
+        return Math.floorMod(patientId, shardCount);
+    }
+
+    /**
+     * Returns the shard, out of {@code shardCount}, that a doctor named {@code name} is kept in.
+     */
+    static int shardOf(Name name, int shardCount) {
+        return Math.floorMod(name.getValue().hashCode(), shardCount);
+    }
+
+    /**
+     * Deletes the shard files listed by the manifest at {@code filePath}, once the manifest has been replaced by
+     * an address book kept in a single file. Files that cannot be deleted are left behind, as they are no longer used.
+     */
+    static void deleteShards(Path filePath) {
+        Path directory = getShardDirectory(filePath);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> shardFiles = Files.newDirectoryStream(directory, SHARD_FILE_PREFIX + "*")) {
+            for (Path shardFile : shardFiles) {
+                Files.deleteIfExists(shardFile);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException ioe) {
+            logger.fine("Failed to delete shards of " + filePath + " " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    /**
+     * Stops the threads that read and write the shards. The storage cannot be used afterwards.
+     */
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * An address book kept in a single file at {@code filePath} is read as well, and split into shards when next saved.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest is not in the correct format,
+     *     or the shards hold the same doctor or patient more than once.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+
+        Optional<JsonAddressBookManifest> manifest = JsonUtil.readJsonFile(filePath, JsonAddressBookManifest.class);
+        if (manifest.isPresent() && !manifest.get().isManifest()) {
+            return readSingleFileAddressBook(filePath, isOwnFile);
+        }
+        if (manifest.isEmpty()) {
+            if (isOwnFile) {
+                saved = null;
+                savedEntries = null;
+                unreadableShardFiles = List.of();
+            }
+            return Optional.empty();
+        }
+
+        List<JsonShardEntry> entries = manifest.get().getShards();
+        List<Future<ShardContents>> reads = new ArrayList<>(entries.size());
+        Path directory = getShardDirectory(filePath);
+        for (JsonShardEntry entry : entries) {
+            reads.add(executor.submit(() -> readShard(directory, entry)));
+        }
+        List<ShardContents> contents = new ArrayList<>(entries.size());
+        List<Path> unreadableShardFiles = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            ShardContents shard = await(reads.get(i));
+            if (shard == null) {
+                unreadableShardFiles.add(directory.resolve(String.valueOf(entries.get(i).getFile())));
+            }
+            contents.add(shard);
+        }
+
+        AddressBook addressBook;
+        Map<Name, Long> patientPositions = new HashMap<>();
+        Map<Name, Long> doctorPositions = new HashMap<>();
+        try {
+            addressBook = merge(contents, manifest.get().getNextPatientId(), patientPositions, doctorPositions);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (isOwnFile) {
+            remember(addressBook, manifest.get(), patientPositions, doctorPositions);
+            this.unreadableShardFiles = List.copyOf(unreadableShardFiles);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the address book kept in a single file at {@code filePath}, together with its journal.
+     * If {@code isOwnFile}, every shard is written by the next save, after which the single file is no longer used.
+     */
+    private Optional<ReadOnlyAddressBook> readSingleFileAddressBook(Path filePath, boolean isOwnFile)
+            throws DataConversionException, IOException {
+        // The file is read as another storage's file, so that it is left as it is until the shards replace it.
+        Optional<ReadOnlyAddressBook> addressBook =
+                new JournaledAddressBookStorage(getShardDirectory(filePath)).readAddressBook(filePath);
+        if (isOwnFile) {
+            logger.info("Data file " + filePath + " holds the whole address book and will be split into "
+                    + shardCount + " shards when next saved");
+            saved = null;
+            savedEntries = null;
+            unreadableShardFiles = List.of();
+            migratedFiles = List.of(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                    JournaledAddressBookStorage.getCompactingJournalFilePath(filePath));
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the shard listed by {@code entry}.
+     *
+     * @return the contents of the shard, or null if it could not be read.
+     */
+    private static ShardContents readShard(Path directory, JsonShardEntry entry) {
+        Path shardFile = directory.resolve(String.valueOf(entry.getFile()));
+        try {
+            byte[] bytes = Files.readAllBytes(shardFile);
+            if (checksumOf(bytes) != entry.getChecksum()) {
+                throw new IllegalValueException(String.format(MESSAGE_DAMAGED_SHARD, shardFile));
+            }
+            JsonAddressBookShard shard = JsonUtil.fromJsonString(
+                    new String(bytes, StandardCharsets.UTF_8), JsonAddressBookShard.class);
+            return ShardContents.of(shard);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Skipping shard " + shardFile + ", which cannot be read: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Merges the contents of the shards into one address book, ordering the doctors and patients by their positions
+     * and assigning the doctors the patients with the ids they store. The positions read are put into the given maps.
+     * Shards that could not be read are skipped, as are assignments to patients kept in them.
+     *
+     * @throws IllegalValueException if a doctor, patient or patient id is kept more than once.
+     */
+    private static AddressBook merge(List<ShardContents> contents, int nextPatientId,
+                                     Map<Name, Long> patientPositions, Map<Name, Long> doctorPositions)
+            throws IllegalValueException {
+        List<Positioned<Patient>> patients = new ArrayList<>();
+        List<Positioned<Doctor>> doctors = new ArrayList<>();
+        for (ShardContents shard : contents) {
+            if (shard != null) {
+                for (int i = 0; i < shard.patients.size(); i++) {
+                    patients.add(new Positioned<>(shard.patientPositions.get(i), shard.patients.get(i),
+                            shard.patientIds.get(i), null));
+                }
+                for (int i = 0; i < shard.doctors.size(); i++) {
+                    doctors.add(new Positioned<>(shard.doctorPositions.get(i), shard.doctors.get(i),
+                            null, shard.patientIdsOfDoctors.get(i)));
+                }
+            }
+        }
+        patients.sort(Comparator.comparingLong(positioned -> positioned.position));
+        doctors.sort(Comparator.comparingLong(positioned -> positioned.position));
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setNextPatientId(nextPatientId);
+        List<Patient> orderedPatients = new ArrayList<>(patients.size());
+        List<Integer> patientIds = new ArrayList<>(patients.size());
+        for (Positioned<Patient> positioned : patients) {
+            Patient patient = positioned.value;
+            orderedPatients.add(patient);
+            patientIds.add(positioned.id);
+            patientPositions.put(patient.getName(), positioned.position);
+        }
+        JsonSerializableAddressBook.addPatients(addressBook, orderedPatients, patientIds);
+        Map<Integer, Patient> patientsById = new HashMap<>();
+        for (Patient patient : orderedPatients) {
+            patientsById.put(addressBook.getPatientId(patient), patient);
+        }
+        for (Positioned<Doctor> positioned : doctors) {
+            Doctor doctor = positioned.value;
+            if (addressBook.hasDoctor(doctor)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_DOCTOR);
+            }
+            addressBook.addDoctor(doctor);
+            for (Integer id : positioned.patientIds) {
+                Patient patient = patientsById.get(id);
+                if (patient == null) {
+                    logger.warning("Doctor " + doctor.getName() + " is assigned to unknown patient id " + id);
+                } else {
+                    addressBook.assignPatient(doctor, patient);
+                }
+            }
+            doctorPositions.put(doctor.getName(), positioned.position);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Remembers the shards of {@code addressBook} as read from {@code manifest}, with the positions read.
+     */
+    private void remember(ReadOnlyAddressBook addressBook, JsonAddressBookManifest manifest,
+                          Map<Name, Long> patientPositions, Map<Name, Long> doctorPositions) {
+        List<JsonShardEntry> entries = manifest.getShards();
+        if (entries.size() != shardCount) {
+            logger.info("Data file " + filePath + " has " + entries.size() + " shards and will be split into "
+                    + shardCount + " shards when next saved");
+            saved = null;
+        } else {
+            saved = partition(addressBook.snapshot(), shardCount,
+                    patientPositions, doctorPositions);
+        }
+        savedEntries = entries.toArray(new JsonShardEntry[0]);
+        migratedFiles = List.of();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the shards that changed since the address book was last read from or written to this storage's own file
+     * are written; every shard is written to any other file.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws IOException if saving to this storage's own file, and a shard last read from it could not be read.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile && !unreadableShardFiles.isEmpty()) {
+            throw new IOException(String.format(MESSAGE_UNREADABLE_SHARDS, unreadableShardFiles));
+        }
+
+        Shard[] previous = isOwnFile ? saved : null;
+        JsonShardEntry[] previousEntries = isOwnFile ? savedEntries : null;
+        if (previousEntries != null && previousEntries.length != shardCount) {
+            previous = null;
+        }
+        Map<Name, Long> patientPositions = new HashMap<>();
+        Map<Name, Long> doctorPositions = new HashMap<>();
+        if (previous != null) {
+            for (Shard shard : previous) {
+                if (shard != null) {
+                    shard.putPositions(patientPositions, doctorPositions);
+                }
+            }
+        }
+        Shard[] shards = partition(addressBook.snapshot(), shardCount,
+                patientPositions, doctorPositions);
+
+        Path directory = getShardDirectory(filePath);
+        Files.createDirectories(directory);
+        Map<Integer, Future<JsonShardEntry>> writes = new HashMap<>();
+        for (int i = 0; i < shardCount; i++) {
+            if (previous == null || previous[i] == null || !previous[i].isSameAs(shards[i])) {
+                Shard shard = shards[i];
+                String prefix = SHARD_FILE_PREFIX + i + "-";
+                writes.put(i, executor.submit(() -> writeShard(directory, prefix, shard)));
+            }
+        }
+        if (writes.isEmpty()) {
+            return;
+        }
+
+        JsonShardEntry[] entries = new JsonShardEntry[shardCount];
+        IOException failure = null;
+        for (Map.Entry<Integer, Future<JsonShardEntry>> write : writes.entrySet()) {
+            try {
+                entries[write.getKey()] = await(write.getValue());
+            } catch (IOException ioe) {
+                failure = ioe;
+            }
+        }
+        for (int i = 0; i < shardCount; i++) {
+            if (!writes.containsKey(i)) {
+                entries[i] = previousEntries[i];
+            }
+        }
+
+        try {
+            if (failure != null) {
+                throw failure;
+            }
+            JsonUtil.saveJsonFile(new JsonAddressBookManifest(List.of(entries), addressBook.getNextPatientId()),
+                    filePath);
+        } catch (IOException ioe) {
+            for (Integer i : writes.keySet()) {
+                deleteShardFile(directory, entries[i]);
+            }
+            throw ioe;
+        }
+
+        // The manifest no longer refers to the files of the shards that were replaced.
+        if (isOwnFile) {
+            if (previousEntries != null) {
+                for (int i = 0; i < previousEntries.length; i++) {
+                    if (i >= shardCount || writes.containsKey(i)) {
+                        deleteShardFile(directory, previousEntries[i]);
+                    }
+                }
+            }
+            if (!migratedFiles.isEmpty()) {
+                BinaryAddressBookSnapshot.delete(BinaryAddressBookSnapshot.getFilePath(filePath));
+            }
+            for (Path migratedFile : migratedFiles) {
+                Files.deleteIfExists(migratedFile);
+            }
+            saved = shards;
+            savedEntries = entries;
+            migratedFiles = List.of();
+        }
+    }
+
+    /**
+     * Writes {@code shard} to a new file in {@code directory}.
+     * The file is forced to disk, as the manifest that refers to it may be written right after.
+     *
+     * @return the manifest entry of the written file.
+     */
+    private static JsonShardEntry writeShard(Path directory, String prefix, Shard shard) throws IOException {
+        byte[] bytes = JsonUtil.toJsonString(new JsonAddressBookShard(shard.patients, shard.patientIds,
+                shard.patientPositions, shard.doctors, shard.patientIdsOfDoctors, shard.doctorPositions))
+                .getBytes(StandardCharsets.UTF_8);
+        Path shardFile = Files.createTempFile(directory, prefix, ".json");
+        try (FileChannel channel = FileChannel.open(shardFile, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(shardFile);
+            throw ioe;
+        }
+        return new JsonShardEntry(shardFile.getFileName().toString(), checksumOf(bytes));
+    }
+
+    private static void deleteShardFile(Path directory, JsonShardEntry entry) {
+        if (entry == null || entry.getFile() == null) {
+            return;
+        }
+        Path shardFile = directory.resolve(entry.getFile());
+        try {
+            Files.deleteIfExists(shardFile);
+        } catch (IOException ioe) {
+            logger.warning("Failed to delete shard file " + shardFile + " " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    /**
+     * Waits for {@code task}, rethrowing what it failed with as an {@code IOException}.
+     */
+    private static <T> T await(Future<T> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a shard", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Splits the doctors and patients of {@code addressBook} into {@code shardCount} shards, keeping their order.
+     * Their positions in the lists are taken from the given positions they had before, where these are still in order.
+     */
+    private static Shard[] partition(ReadOnlyAddressBook addressBook, int shardCount,
+                                     Map<Name, Long> patientPositions, Map<Name, Long> doctorPositions) {
+        Shard[] shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+        List<Patient> patients = addressBook.getPatientList();
+        long[] positions = positionsOf(patients, patientPositions);
+        for (int i = 0; i < patients.size(); i++) {
+            int id = addressBook.getPatientId(patients.get(i));
+            Shard shard = shards[shardOf(id, shardCount)];
+            shard.patients.add(patients.get(i));
+            shard.patientIds.add(id);
+            shard.patientPositions.add(positions[i]);
+        }
+        List<Doctor> doctors = addressBook.getDoctorList();
+        positions = positionsOf(doctors, doctorPositions);
+        for (int i = 0; i < doctors.size(); i++) {
+            Shard shard = shards[shardOf(doctors.get(i).getName(), shardCount)];
+            shard.doctors.add(doctors.get(i));
+            shard.patientIdsOfDoctors.add(JsonJournalRecord.patientIdsOf(addressBook, doctors.get(i)));
+            shard.doctorPositions.add(positions[i]);
+        }
+        return shards;
+    }
+
+    /**
+     * Returns increasing positions for {@code persons}, in list order.
+     * The previous positions of as many persons as possible are kept, and the others are spaced out between them,
+     * so that adding, editing or removing a person only changes the positions of the persons added or edited.
+     * Every position is reassigned if there is no room left between two positions.
+     */
+    static long[] positionsOf(List<? extends Person> persons, Map<Name, Long> previousPositions) {
+        int size = persons.size();
+        long[] positions = new long[size];
+        boolean[] isKept = new boolean[size];
+        long last = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            Long previous = previousPositions.get(persons.get(i).getName());
+            if (previous != null && previous > last) {
+                positions[i] = previous;
+                isKept[i] = true;
+                last = previous;
+            }
+        }
+
+        for (int from = 0; from < size; from++) {
+            if (isKept[from]) {
+                continue;
+            }
+            int to = from;
+            while (to < size && !isKept[to]) {
+                to++;
+            }
+            int count = to - from;
+            long lower;
+            long step;
+            if (to == size) {
+                lower = from == 0 ? 0 : positions[from - 1];
+                step = POSITION_GAP;
+            } else {
+                long upper = positions[to];
+                lower = from == 0 ? upper - POSITION_GAP * (count + 1) : positions[from - 1];
+                step = (upper - lower) / (count + 1);
+            }
+            if (step <= 0) {
+                for (int i = 0; i < size; i++) {
+                    positions[i] = POSITION_GAP * (i + 1);
+                }
+                return positions;
+            }
+            for (int i = from; i < to; i++) {
+                positions[i] = lower + step * (i - from + 1);
+            }
+            from = to;
+        }
+        return positions;
+    }
+
+    /**
+     * The doctors and patients kept in one shard.
+     */
+    private static class Shard {
+        private final List<Patient> patients = new ArrayList<>();
+        private final List<Integer> patientIds = new ArrayList<>();
+        private final List<Long> patientPositions = new ArrayList<>();
+        private final List<Doctor> doctors = new ArrayList<>();
+        private final List<List<Integer>> patientIdsOfDoctors = new ArrayList<>();
+        private final List<Long> doctorPositions = new ArrayList<>();
+
+        /**
+         * Returns true if {@code other} would be written the same as this shard.
+         * Doctors and patients are compared by identity, as an edited one is always replaced with a new one.
+         */
+        boolean isSameAs(Shard other) {
+            if (!patientPositions.equals(other.patientPositions) || !doctorPositions.equals(other.doctorPositions)
+                    || !patientIds.equals(other.patientIds)) {
+                return false;
+            }
+            for (int i = 0; i < patients.size(); i++) {
+                if (patients.get(i) != other.patients.get(i)) {
+                    return false;
+                }
+            }
+            for (int i = 0; i < doctors.size(); i++) {
+                if (doctors.get(i) != other.doctors.get(i)
+                        || !patientIdsOfDoctors.get(i).equals(other.patientIdsOfDoctors.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Puts the positions of the doctors and patients in this shard into the given maps.
+         */
+        void putPositions(Map<Name, Long> patientPositions, Map<Name, Long> doctorPositions) {
+            for (int i = 0; i < patients.size(); i++) {
+                patientPositions.put(patients.get(i).getName(), this.patientPositions.get(i));
+            }
+            for (int i = 0; i < doctors.size(); i++) {
+                doctorPositions.put(doctors.get(i).getName(), this.doctorPositions.get(i));
+            }
+        }
+    }
+
+    /**
+     * The doctors and patients read from one shard, with the ids of the patients assigned to each doctor.
+     */
+    private static class ShardContents {
+        private final List<Patient> patients = new ArrayList<>();
+        private final List<Integer> patientIds = new ArrayList<>();
+        private final List<Long> patientPositions = new ArrayList<>();
+        private final List<Doctor> doctors = new ArrayList<>();
+        private final List<Long> doctorPositions = new ArrayList<>();
+        private final List<List<Integer>> patientIdsOfDoctors = new ArrayList<>();
+
+        static ShardContents of(JsonAddressBookShard shard) throws IllegalValueException {
+            if (shard.getPatientPositions().size() != shard.getPatients().size()
+                    || shard.getDoctorPositions().size() != shard.getDoctors().size()
+                    || shard.getPatientPositions().contains(null) || shard.getDoctorPositions().contains(null)) {
+                throw new IllegalValueException(MESSAGE_MISSING_POSITIONS);
+            }
+            ShardContents contents = new ShardContents();
+            contents.patientPositions.addAll(shard.getPatientPositions());
+            contents.doctorPositions.addAll(shard.getDoctorPositions());
+            for (JsonAdaptedPatient patient : shard.getPatients()) {
+                contents.patients.add(patient.toModelType());
+                contents.patientIds.add(patient.getId());
+            }
+            for (JsonAdaptedDoctor doctor : shard.getDoctors()) {
+                contents.doctors.add(doctor.toModelType());
+                contents.patientIdsOfDoctors.add(doctor.getPatientIds());
+            }
+            return contents;
+        }
+    }
+
+    /**
+     * A doctor or patient at a position in its list, with the id of a patient, which is null if the shard stored none,
+     * or the ids of the patients assigned to a doctor.
+     */
+    private static class Positioned<T> {
+        private final long position;
+        private final T value;
+        private final Integer id;
+        private final List<Integer> patientIds;
+
+        Positioned(long position, T value, Integer id, List<Integer> patientIds) {
+            this.position = position;
+            this.value = value;
+            this.id = id;
+            this.patientIds = patientIds;
+        }
+    }
+}
@@ -1,6 +1,13 @@
 package seedu.address.ui;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
 import seedu.address.model.tag.Tag;
@@ -22,13 +29,27 @@ abstract class ContactCard extends UiPart<Region> {
     }
 
     /**
-     * Adds a tag to the flow pane containing all tags.
+     * Shows {@code tagsToShow} in the flow pane containing all tags, sorted by name.
+     * The tag labels already in the flow pane are reused, as cards are rebound to another contact
+     * whenever the list is scrolled.
      *
-     * @param tag a tag.
+     * @param tagsToShow the tags of the contact.
      */
-    protected void addTagToFlowPane(Tag tag) {
-        TagLabel tagLabel = new TagLabel(tag);
-        tags.getChildren().add(tagLabel);
+    protected void setTags(Set<Tag> tagsToShow) {
+        List<Tag> sortedTags = tagsToShow.stream()
+                .sorted(Comparator.comparing(Tag::getTagName))
+                .collect(Collectors.toList());
+        ObservableList<Node> tagLabels = tags.getChildren();
+        if (tagLabels.size() > sortedTags.size()) {
+            tagLabels.remove(sortedTags.size(), tagLabels.size());
+        }
+        for (int i = 0; i < sortedTags.size(); i++) {
+            if (i < tagLabels.size()) {
+                ((TagLabel) tagLabels.get(i)).setTag(sortedTags.get(i));
+            } else {
+                tagLabels.add(new TagLabel(sortedTags.get(i)));
+            }
+        }
     }
 
 }
@@ -1,11 +1,8 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
-
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import seedu.address.model.person.doctor.Doctor;
-import seedu.address.model.tag.Tag;
 
 /**
  * An UI component that displays the name, phone number, email and tags of a {@code Doctor}.
@@ -22,7 +19,7 @@ public class DoctorCard extends ContactCard {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Doctor doctor;
+    private Doctor doctor;
 
     @FXML
     private Label name;
@@ -33,19 +30,36 @@ public class DoctorCard extends ContactCard {
     @FXML
     private Label email;
 
+    /**
+     * Creates a {@code DoctorCard} that does not display a doctor yet.
+     * @see #setDoctor(Doctor, int)
+     */
+    public DoctorCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code DoctorCard} with the given {@code Doctor} and index to display.
      */
     public DoctorCard(Doctor doctor, int displayedIndex) {
-        super(FXML);
+        this();
+        setDoctor(doctor, displayedIndex);
+    }
+
+    /**
+     * Displays the given {@code Doctor} and index in this card in place of the current ones.
+     */
+    public void setDoctor(Doctor doctor, int displayedIndex) {
         this.doctor = doctor;
         id.setText(displayedIndex + ". ");
         name.setText(doctor.getName().getValue());
         phone.setText(doctor.getPhone().getValue());
         email.setText(doctor.getEmail().getValue());
-        doctor.getTags().stream()
-                .sorted(Comparator.comparing(Tag::getTagName))
-                .forEach(this::addTagToFlowPane);
+        setTags(doctor.getTags());
+    }
+
+    public Doctor getDoctor() {
+        return doctor;
     }
 
     @Override
@@ -50,6 +50,7 @@ public class DoctorListPanel extends UiPart<Region> {
     class DoctorListViewCell extends ListCell<Doctor> {
 
         private Doctor doctor;
+        private DoctorCard card;
 
         public DoctorListViewCell(ContactDisplay grandparent) {
             super();
@@ -71,7 +72,12 @@ public class DoctorListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new DoctorCard(doctor, getIndex() + 1).getRoot());
+                // Cells are reused as the list scrolls, so the card is rebound instead of loaded again
+                if (card == null) {
+                    card = new DoctorCard();
+                }
+                card.setDoctor(doctor, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,11 +1,8 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
-
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import seedu.address.model.person.patient.Patient;
-import seedu.address.model.tag.Tag;
 
 /**
  * An UI component that displays the name, phone number, email and tags of a {@code Patient}.
@@ -22,7 +19,7 @@ public class PatientCard extends ContactCard {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Patient patient;
+    private Patient patient;
 
     @FXML
     private Label name;
@@ -33,19 +30,36 @@ public class PatientCard extends ContactCard {
     @FXML
     private Label email;
 
+    /**
+     * Creates a {@code PatientCard} that does not display a patient yet.
+     * @see #setPatient(Patient, int)
+     */
+    public PatientCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PatientCard} with the given {@code Patient} and index to display.
      */
     public PatientCard(Patient patient, int displayedIndex) {
-        super(FXML);
+        this();
+        setPatient(patient, displayedIndex);
+    }
+
+    /**
+     * Displays the given {@code Patient} and index in this card in place of the current ones.
+     */
+    public void setPatient(Patient patient, int displayedIndex) {
         this.patient = patient;
         id.setText(displayedIndex + ". ");
         name.setText(patient.getName().getValue());
         phone.setText(patient.getPhone().getValue());
         email.setText(patient.getEmail().getValue());
-        patient.getTags().stream()
-                .sorted(Comparator.comparing(Tag::getTagName))
-                .forEach(this::addTagToFlowPane);
+        setTags(patient.getTags());
+    }
+
+    public Patient getPatient() {
+        return patient;
     }
 
     @Override
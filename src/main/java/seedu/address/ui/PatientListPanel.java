@@ -49,6 +49,7 @@ public class PatientListPanel extends UiPart<Region> {
     class PatientListViewCell extends ListCell<Patient> {
 
         private Patient patient;
+        private PatientCard card;
 
         public PatientListViewCell(ContactDisplay grandparent) {
             super();
@@ -70,7 +71,12 @@ public class PatientListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PatientCard(patient, getIndex() + 1).getRoot());
+                // Cells are reused as the list scrolls, so the card is rebound instead of loaded again
+                if (card == null) {
+                    card = new PatientCard();
+                }
+                card.setPatient(patient, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -13,10 +13,17 @@ public class TagLabel extends Label {
      * Creates a {@code TagLabel}.
      */
     public TagLabel(Tag tag) {
-        this.setText(tag.getTagName());
+        setTag(tag);
         double tagMaxWidth = 150.0;
         this.setMaxWidth(tagMaxWidth);
         boolean tagWrapText = true;
         this.setWrapText(tagWrapText);
     }
+
+    /**
+     * Shows {@code tag} in this label in place of the current tag.
+     */
+    public void setTag(Tag tag) {
+        this.setText(tag.getTagName());
+    }
 }
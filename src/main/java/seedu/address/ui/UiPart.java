@@ -2,8 +2,12 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
@@ -17,6 +21,12 @@ public abstract class UiPart<T> {
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    /**
+     * Contents of the FXML files loaded so far, keyed by their URL. UI parts such as list cards are created
+     * many times from the same file, so each file is only read from its resource once.
+     */
+    private static final Map<String, byte[]> fxmlFileContents = new ConcurrentHashMap<>();
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -69,12 +79,27 @@ public abstract class UiPart<T> {
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
         try {
-            fxmlLoader.load();
+            fxmlLoader.load(new ByteArrayInputStream(getFxmlFileContents(location)));
         } catch (IOException e) {
             throw new AssertionError(e);
         }
     }
 
+    /**
+     * Returns the contents of the FXML document at {@code location}, reading it only if it has not been read before.
+     */
+    private static byte[] getFxmlFileContents(URL location) throws IOException {
+        String key = location.toExternalForm();
+        byte[] contents = fxmlFileContents.get(key);
+        if (contents == null) {
+            try (InputStream inputStream = location.openStream()) {
+                contents = inputStream.readAllBytes();
+            }
+            fxmlFileContents.put(key, contents);
+        }
+        return contents;
+    }
+
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
@@ -9,6 +10,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +84,24 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void findDuplicateKeys() {
+        // null reference
+        assertThrows(NullPointerException.class, () -> CollectionUtil.findDuplicateKeys(null, Function.identity()));
+
+        // no duplicates
+        assertTrue(CollectionUtil.findDuplicateKeys(Collections.emptyList(), Function.identity()).isEmpty());
+        assertTrue(CollectionUtil.findDuplicateKeys(Arrays.asList("a", "b", "c"), Function.identity()).isEmpty());
+
+        // duplicates are reported once each, in order of their first repeat
+        assertEquals(Arrays.asList("b", "a"), List.copyOf(CollectionUtil.findDuplicateKeys(
+                Arrays.asList("a", "b", "b", "a", "b"), Function.identity())));
+
+        // duplicates are determined by the extracted key
+        assertEquals(Arrays.asList(3), List.copyOf(CollectionUtil.findDuplicateKeys(
+                Arrays.asList("abc", "de", "fgh"), String::length)));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
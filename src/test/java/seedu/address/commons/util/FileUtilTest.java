@@ -1,13 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,17 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void moveReplacingExisting_existingTarget_replaced() throws Exception {
+        Path target = testFolder.resolve("target.json");
+        FileUtil.writeToFile(target, "old");
+        Path source = FileUtil.createTempFileBeside(target);
+        FileUtil.writeToFile(source, "new");
+
+        FileUtil.moveReplacingExisting(source, target);
+
+        assertEquals("new", FileUtil.readFromFile(target));
+        assertFalse(Files.exists(source));
+    }
+
 }
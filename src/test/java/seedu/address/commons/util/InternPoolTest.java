@@ -0,0 +1,47 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class InternPoolTest {
+
+    private final InternPool<Tag> pool = new InternPool<>(Tag::new, 2);
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> pool.intern(null));
+    }
+
+    @Test
+    public void intern_sameValue_returnsSameInstance() {
+        Tag tag = pool.intern("friends");
+        assertEquals(new Tag("friends"), tag);
+        assertSame(tag, pool.intern("friends"));
+        assertTrue(pool.contains("friends"));
+    }
+
+    @Test
+    public void intern_invalidValue_throwsAndNotPooled() {
+        assertThrows(IllegalArgumentException.class, () -> pool.intern("not a tag"));
+        assertFalse(pool.contains("not a tag"));
+    }
+
+    @Test
+    public void intern_poolFull_returnsNewInstances() {
+        pool.intern("friends");
+        pool.intern("colleagues");
+
+        Tag tag = pool.intern("family");
+        assertEquals(new Tag("family"), tag);
+        assertNotSame(tag, pool.intern("family"));
+        assertFalse(pool.contains("family"));
+    }
+}
@@ -7,6 +7,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,6 +67,29 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
+
+        // Saves happen in the background, so the failure is reported once the save has completed
+        assertDoesNotThrow(() -> logic.execute(ListDoctorCommand.COMMAND_WORD));
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), logic::flushPendingSaves);
+    }
+
+    @Test
+    public void execute_storageThrowsIoExceptionWithListener_failureReportedToListener() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        List<String> messages = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureListener(messages::add);
+
+        // The command that made the change succeeds, and the failure is reported by itself
+        assertCommandSuccess(ListDoctorCommand.COMMAND_WORD, ListDoctorCommand.getMessageSuccess(), model);
+        logic.flushPendingSaves();
+        assertEquals(List.of(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION), messages);
+
+        // Later commands are not affected by the failure
+        assertCommandSuccess(ListDoctorCommand.COMMAND_WORD, ListDoctorCommand.getMessageSuccess(), model);
     }
 
     @Test
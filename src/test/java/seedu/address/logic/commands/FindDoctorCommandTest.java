@@ -13,6 +13,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_YOE;
 import static seedu.address.testutil.TypicalDoctors.ALICE;
 import static seedu.address.testutil.TypicalDoctors.BENSON;
+import static seedu.address.testutil.TypicalDoctors.DANIEL;
 import static seedu.address.testutil.TypicalDoctors.getTypicalAddressBook;
 
 import java.util.HashSet;
@@ -108,6 +109,20 @@ public class FindDoctorCommandTest {
         assertEquals(List.of(BENSON), model.getFilteredDoctorList());
     }
 
+    @Test
+    public void execute_partialKeywordsInDifferentCase_multiplePersonsFound() {
+        DoctorFilter meierFilter = new DoctorFilter("MEIER", "", "EXAMPLE.com", "", "", new HashSet<>());
+        DoctorFilter meierFriendFilter = new DoctorFilter("MEIER", "", "EXAMPLE.com", "", "", Set.of("FRIENDS"));
+
+        FindDoctorCommand command = new FindDoctorCommand(new DoctorContainsKeywordsPredicate(meierFilter));
+        command.execute(model);
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredDoctorList());
+
+        command = new FindDoctorCommand(new DoctorContainsKeywordsPredicate(meierFriendFilter));
+        command.execute(model);
+        assertEquals(List.of(BENSON), model.getFilteredDoctorList());
+    }
+
     @Test
     public void execute_getCommandUsageSuccessful() {
         String messageUsage = FindDoctorCommand.COMMAND_WORD + " (short form: "
@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.UndoCommandTest.assertAssignmentsConsistent;
+import static seedu.address.logic.commands.UndoCommandTest.executeAndCommit;
+import static seedu.address.logic.commands.UndoCommandTest.getSampleModel;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_nothingUndone_failure() {
+        Model model = getSampleModel();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.getMessageFailure());
+
+        executeAndCommit(new DeletePatientCommand(INDEX_FIRST_PERSON), model);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.getMessageFailure());
+    }
+
+    @Test
+    public void execute_afterUndo_changesRedoneInOrder() {
+        Model model = getSampleModel();
+        List<Command> commands = List.of(
+                new AssignPatientCommand(INDEX_THIRD_PERSON, INDEX_FIRST_PERSON),
+                new DeleteDoctorCommand(INDEX_FIRST_PERSON),
+                new UnassignPatientCommand(INDEX_SECOND_PERSON, INDEX_FIRST_PERSON),
+                new ClearCommand());
+        for (Command command : commands) {
+            executeAndCommit(command, model);
+        }
+        for (int i = 0; i < commands.size(); i++) {
+            executeAndCommit(new UndoCommand(), model);
+        }
+
+        for (int i = 1; i <= commands.size(); i++) {
+            Model expectedModel = getSampleModel();
+            for (Command command : commands.subList(0, i)) {
+                executeAndCommit(command, expectedModel);
+            }
+            assertCommandSuccess(new RedoCommand(), model, RedoCommand.getMessageSuccess(), expectedModel);
+            assertAssignmentsConsistent((AddressBook) model.getAddressBook());
+        }
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.getMessageFailure());
+    }
+
+    @Test
+    public void execute_newChangesAfterUndo_failure() {
+        Model model = getSampleModel();
+        executeAndCommit(new DeletePatientCommand(INDEX_FIRST_PERSON), model);
+        executeAndCommit(new UndoCommand(), model);
+        executeAndCommit(new DeleteDoctorCommand(INDEX_FIRST_PERSON), model);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.getMessageFailure());
+    }
+}
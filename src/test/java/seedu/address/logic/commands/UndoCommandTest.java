@@ -0,0 +1,141 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.SampleAddressBook.getSampleAddressBook;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.testutil.EditPatientDescriptorBuilder;
+
+public class UndoCommandTest {
+
+    @Test
+    public void execute_noChanges_failure() {
+        Model model = getSampleModel();
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.getMessageFailure());
+
+        // Commands that do not change the address book cannot be undone
+        executeAndCommit(new ListDoctorCommand(), model);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.getMessageFailure());
+    }
+
+    @Test
+    public void execute_afterCommands_changesUndoneInOrder() {
+        Model model = getSampleModel();
+        List<Command> commands = List.of(
+                new DeletePatientCommand(INDEX_FIRST_PERSON),
+                new AssignPatientCommand(INDEX_SECOND_PERSON, INDEX_FIRST_PERSON),
+                new UnassignPatientCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                new EditPatientCommand(INDEX_FIRST_PERSON,
+                        new EditPatientDescriptorBuilder().withName("Daisy Edited").build()),
+                new DeleteDoctorCommand(INDEX_SECOND_PERSON),
+                new ClearCommand());
+        for (Command command : commands) {
+            executeAndCommit(command, model);
+        }
+
+        for (int i = commands.size() - 1; i >= 0; i--) {
+            Model expectedModel = getSampleModel();
+            for (Command command : commands.subList(0, i)) {
+                executeAndCommit(command, expectedModel);
+            }
+            assertCommandSuccess(new UndoCommand(), model, UndoCommand.getMessageSuccess(), expectedModel);
+            assertAssignmentsConsistent((AddressBook) model.getAddressBook());
+        }
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.getMessageFailure());
+    }
+
+    @Test
+    public void execute_afterDeleteAndEdit_patientIdsRestored() {
+        Model model = getSampleModel();
+        List<Patient> patients = List.copyOf(model.getAddressBook().getPatientList());
+        executeAndCommit(new EditPatientCommand(INDEX_FIRST_PERSON,
+                new EditPatientDescriptorBuilder().withName("Carl Edited").build()), model);
+        assertEquals(0, model.getAddressBook().getPatientId(model.getAddressBook().getPatientList().get(0)));
+        executeAndCommit(new DeletePatientCommand(INDEX_FIRST_PERSON), model);
+
+        executeAndCommit(new UndoCommand(), model);
+        executeAndCommit(new UndoCommand(), model);
+        for (int i = 0; i < patients.size(); i++) {
+            assertEquals(i, model.getAddressBook().getPatientId(patients.get(i)));
+        }
+    }
+
+    @Test
+    public void execute_historyDepthReached_oldestChangesDropped() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(1);
+        Model model = new ModelManager(getSampleAddressBook(), userPrefs);
+        executeAndCommit(new DeletePatientCommand(INDEX_FIRST_PERSON), model);
+        executeAndCommit(new DeletePatientCommand(INDEX_FIRST_PERSON), model);
+
+        executeAndCommit(new UndoCommand(), model);
+        assertEquals(2, model.getAddressBook().getPatientList().size());
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.getMessageFailure());
+
+        // No changes can be undone when the history is turned off
+        userPrefs.setUndoHistoryDepth(0);
+        model = new ModelManager(getSampleAddressBook(), userPrefs);
+        executeAndCommit(new DeletePatientCommand(INDEX_FIRST_PERSON), model);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.getMessageFailure());
+    }
+
+    @Test
+    public void execute_getCommandUsage_success() {
+        String messageUsage = UndoCommand.COMMAND_WORD
+                + ": Reverts the changes made by the last command that changed the address book.\n"
+                + "Example: " + UndoCommand.COMMAND_WORD;
+        assertEquals(messageUsage, UndoCommand.getCommandUsage());
+    }
+
+    /**
+     * Executes {@code command} and commits its changes, as {@code LogicManager} does.
+     */
+    static void executeAndCommit(Command command, Model model) {
+        try {
+            command.execute(model);
+        } catch (Exception e) {
+            throw new AssertionError("Execution of command should not fail.", e);
+        }
+        model.commitAddressBook();
+    }
+
+    /**
+     * Asserts that the assignments in {@code addressBook} are between its own doctors and patients,
+     * and are the same when looked up from either side.
+     */
+    static void assertAssignmentsConsistent(AddressBook addressBook) {
+        for (Doctor doctor : addressBook.getDoctorList()) {
+            for (Patient patient : addressBook.getPatientsOf(doctor)) {
+                assertTrue(addressBook.getPatientList().contains(patient));
+                assertTrue(addressBook.getDoctorsOf(patient).contains(doctor));
+            }
+        }
+        for (Patient patient : addressBook.getPatientList()) {
+            for (Doctor doctor : addressBook.getDoctorsOf(patient)) {
+                assertTrue(addressBook.getDoctorList().contains(doctor));
+                assertTrue(addressBook.getPatientsOf(doctor).contains(patient));
+            }
+        }
+    }
+
+    /**
+     * Returns a model of the sample address book.
+     */
+    static Model getSampleModel() {
+        return new ModelManager(getSampleAddressBook(), new UserPrefs());
+    }
+}
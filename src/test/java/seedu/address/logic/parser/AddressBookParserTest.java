@@ -13,6 +13,8 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListDoctorCommand;
 import seedu.address.logic.commands.ListPatientCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 public class AddressBookParserTest {
@@ -25,6 +27,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -56,6 +64,34 @@ public class AddressBookParserTest {
                 exec);
     }
 
+    @Test
+    public void parseCommand_tabAfterCommandWord() throws Exception {
+        assertTrue(parser.parseCommand(ListDoctorCommand.COMMAND_WORD + "\t3") instanceof ListDoctorCommand);
+    }
+
+    @Test
+    public void parseCommand_lineBreakInArguments_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.getCommandUsage()),
+                () -> parser.parseCommand(ClearCommand.COMMAND_WORD + " 3\n4"));
+    }
+
+    @Test
+    public void register_newCommandWord_parsedWithParser() throws Exception {
+        parser.register(arguments -> new ExitCommand(), "quit", "q");
+        assertTrue(parser.parseCommand("quit") instanceof ExitCommand);
+        assertTrue(parser.parseCommand("q now") instanceof ExitCommand);
+
+        // only registered with this parser
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> new AddressBookParser().parseCommand("q"));
+    }
+
+    @Test
+    public void register_registeredCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                parser.register(arguments -> new ExitCommand(), HelpCommand.COMMAND_WORD));
+        assertThrows(IllegalArgumentException.class, () -> parser.register(arguments -> new ExitCommand(), "q q"));
+    }
+
     @Test
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
@@ -3,7 +3,19 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DIAGNOSIS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SPECIALTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -147,4 +159,95 @@ public class ArgumentTokenizerTest {
         assertNotEquals(aaa, new Prefix("aab"));
     }
 
+    @Test
+    public void tokenize_randomArgsStrings_sameAsScanningEachPrefix() {
+        Prefix[] prefixes = {PREFIX_PHONE, PREFIX_PATIENT, PREFIX_DIAGNOSIS, PREFIX_DOCTOR, PREFIX_SPECIALTY,
+            PREFIX_STATUS, PREFIX_TAG};
+        Random random = new Random(0);
+        for (int i = 0; i < 2000; i++) {
+            String argsString = randomString(random, " \tpdtnocs/x", 30);
+            assertSameArguments(tokenizeByScanningEachPrefix(argsString, prefixes),
+                    ArgumentTokenizer.tokenize(argsString, prefixes), prefixes, argsString);
+        }
+    }
+
+    @Test
+    public void tokenize_randomOverlappingPrefixes_sameAsScanningEachPrefix() {
+        Prefix[] candidates = {new Prefix("a"), new Prefix("a/"), new Prefix("ab/"), new Prefix("b/"),
+            new Prefix("a/b/"), new Prefix("")};
+        Random random = new Random(0);
+        for (int i = 0; i < 2000; i++) {
+            // Prefixes may be repeated, or be the start of another prefix
+            Prefix[] prefixes = new Prefix[random.nextInt(4)];
+            for (int j = 0; j < prefixes.length; j++) {
+                prefixes[j] = candidates[random.nextInt(candidates.length)];
+            }
+            String argsString = randomString(random, " ab/", 12);
+
+            ArgumentMultimap expected;
+            try {
+                expected = tokenizeByScanningEachPrefix(argsString, prefixes);
+            } catch (StringIndexOutOfBoundsException e) {
+                assertThrows(StringIndexOutOfBoundsException.class, () ->
+                        ArgumentTokenizer.tokenize(argsString, prefixes), argsString);
+                continue;
+            }
+            assertSameArguments(expected, ArgumentTokenizer.tokenize(argsString, prefixes), candidates, argsString);
+        }
+    }
+
+    private void assertSameArguments(ArgumentMultimap expected, ArgumentMultimap actual, Prefix[] prefixes,
+                                     String argsString) {
+        assertEquals(expected.getPreamble(), actual.getPreamble(), argsString);
+        for (Prefix prefix : prefixes) {
+            assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix), argsString);
+        }
+    }
+
+    /**
+     * Tokenizes {@code argsString} by searching the whole string for each prefix in turn, then sorting the
+     * positions found, as {@code ArgumentTokenizer} did before it scanned for all prefixes at once.
+     */
+    private static ArgumentMultimap tokenizeByScanningEachPrefix(String argsString, Prefix... prefixes) {
+        List<Prefix> foundPrefixes = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (Prefix prefix : prefixes) {
+            int index = argsString.indexOf(" " + prefix, 0);
+            while (index != -1) {
+                foundPrefixes.add(prefix);
+                positions.add(index + 1);
+                index = argsString.indexOf(" " + prefix, index + 1);
+            }
+        }
+
+        // Stable sort by position
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < positions.size(); i++) {
+            order.add(i);
+        }
+        order.sort((i, j) -> positions.get(i) - positions.get(j));
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix currentPrefix = new Prefix("");
+        int currentPosition = 0;
+        for (int i : order) {
+            argMultimap.put(currentPrefix, argsString.substring(currentPosition + currentPrefix.getPrefix().length(),
+                    positions.get(i)).trim());
+            currentPrefix = foundPrefixes.get(i);
+            currentPosition = positions.get(i);
+        }
+        argMultimap.put(currentPrefix, argsString.substring(currentPosition + currentPrefix.getPrefix().length())
+                .trim());
+        return argMultimap;
+    }
+
+    private static String randomString(Random random, String alphabet, int maxLength) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(maxLength + 1);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -21,6 +22,8 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.doctor.Doctor;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.patient.Patient;
+import seedu.address.testutil.DoctorBuilder;
+import seedu.address.testutil.PatientBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -83,6 +86,158 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void setPatient_assignedPatient_editedPatientKeepsAssignment() {
+        Patient patient = new PatientBuilder().withName("Amy").build();
+        Doctor doctor = new DoctorBuilder().withName("Carl").build();
+        addressBook.addDoctor(doctor);
+        addressBook.addPatient(patient);
+        addressBook.assignPatient(doctor, patient);
+
+        Patient editedPatient = new PatientBuilder(patient).withRemark("Edited").build();
+        addressBook.setPatient(patient, editedPatient);
+        assertEquals(List.of(editedPatient), addressBook.getPatientsOf(doctor));
+        assertTrue(addressBook.isAssigned(doctor, editedPatient));
+    }
+
+    @Test
+    public void removeDoctor_assignedDoctor_patientsUnassigned() {
+        Patient patient = new PatientBuilder().withName("Amy").build();
+        Doctor doctor = new DoctorBuilder().withName("Carl").build();
+        addressBook.addDoctor(doctor);
+        addressBook.addPatient(patient);
+        addressBook.assignPatient(doctor, patient);
+
+        addressBook.removeDoctor(doctor);
+        assertEquals(List.of(), addressBook.getDoctorsOf(patient));
+        assertEquals(List.of(patient), addressBook.getUnassignedPatientList());
+    }
+
+    @Test
+    public void unassignPatient_assignedPatient_patientUnassigned() {
+        Patient patient = new PatientBuilder().withName("Amy").build();
+        Doctor doctor = new DoctorBuilder().withName("Carl").build();
+        addressBook.addDoctor(doctor);
+        addressBook.addPatient(patient);
+        assertTrue(addressBook.assignPatient(doctor, patient));
+        assertFalse(addressBook.assignPatient(doctor, patient));
+
+        assertTrue(addressBook.unassignPatient(doctor, patient));
+        assertFalse(addressBook.unassignPatient(doctor, patient));
+        assertFalse(addressBook.isAssigned(doctor, patient));
+        assertEquals(List.of(patient), addressBook.getUnassignedPatientList());
+    }
+
+    @Test
+    public void equals_differentAssignments_returnsFalse() {
+        Patient patient = new PatientBuilder().withName("Amy").build();
+        Doctor doctor = new DoctorBuilder().withName("Carl").build();
+        addressBook.addDoctor(doctor);
+        addressBook.addPatient(patient);
+        AddressBook copy = new AddressBook(addressBook);
+        assertEquals(addressBook, copy);
+
+        addressBook.assignPatient(doctor, patient);
+        assertNotEquals(addressBook, copy);
+        assertEquals(addressBook, new AddressBook(addressBook));
+    }
+
+    @Test
+    public void getPatientId_editedAndRemovedPatients_idsKeptAndNotReused() {
+        Patient amy = new PatientBuilder().withName("Amy").build();
+        Patient bob = new PatientBuilder().withName("Bob").build();
+        addressBook.addPatient(amy);
+        addressBook.addPatient(bob);
+        assertEquals(0, addressBook.getPatientId(amy));
+        assertEquals(1, addressBook.getPatientId(bob));
+
+        // Edited patients keep their ids, whatever their position
+        Patient editedAmy = new PatientBuilder(amy).withRemark("Edited").build();
+        addressBook.setPatient(amy, editedAmy);
+        addressBook.removePatient(bob);
+        assertEquals(0, addressBook.getPatientId(editedAmy));
+        assertEquals(-1, addressBook.getPatientId(bob));
+
+        // The ids of removed patients are not given out again
+        Patient carl = new PatientBuilder().withName("Carl").build();
+        addressBook.addPatient(0, carl);
+        assertEquals(2, addressBook.getPatientId(carl));
+        addressBook.addPatient(bob, 1);
+        assertEquals(1, addressBook.getPatientId(bob));
+
+        AddressBook copy = new AddressBook(addressBook);
+        assertEquals(2, copy.getPatientId(carl));
+        assertEquals(addressBook.getNextPatientId(), copy.getNextPatientId());
+        copy.removePatient(carl);
+        copy.addPatient(carl);
+        assertEquals(3, copy.getPatientId(carl));
+    }
+
+    @Test
+    public void snapshot_addressBookChangedAfterwards_snapshotUnchanged() {
+        Patient amy = new PatientBuilder().withName("Amy").build();
+        Patient bob = new PatientBuilder().withName("Bob").build();
+        Doctor carl = new DoctorBuilder().withName("Carl").build();
+        Doctor dan = new DoctorBuilder().withName("Dan").build();
+        addressBook.addDoctor(carl);
+        addressBook.addDoctor(dan);
+        addressBook.addPatient(amy);
+        addressBook.addPatient(bob);
+        addressBook.assignPatient(carl, amy);
+        addressBook.assignPatient(carl, bob);
+        AddressBook expected = new AddressBook(addressBook);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        assertEquals(addressBook.getVersion(), snapshot.getVersion());
+
+        // Assignments are changed in place, as the arrays of assigned slots have room
+        addressBook.unassignPatient(carl, amy);
+        addressBook.assignPatient(carl, amy);
+        addressBook.assignPatient(dan, bob);
+        addressBook.setPatient(bob, new PatientBuilder(bob).withRemark("Edited").build());
+        addressBook.removeDoctor(dan);
+        addressBook.addPatient(new PatientBuilder().withName("Eve").build());
+
+        assertEquals(List.of(amy, bob), snapshot.getPatientsOf(carl));
+        assertEquals(List.of(carl), snapshot.getDoctorsOf(bob));
+        assertEquals(List.of(), snapshot.getUnassignedPatientList());
+        assertEquals(1, snapshot.getPatientId(bob));
+        assertEquals(2, snapshot.getNextPatientId());
+        assertEquals(expected, new AddressBook(snapshot));
+        assertEquals(amy, addressBook.getPatientsOf(carl).get(1));
+    }
+
+    @Test
+    public void getVersion_changedOnlyByModifications() {
+        Patient patient = new PatientBuilder().withName("Amy").build();
+        Doctor doctor = new DoctorBuilder().withName("Carl").build();
+        long version = addressBook.getVersion();
+
+        addressBook.addDoctor(doctor);
+        assertNotEquals(version, addressBook.getVersion());
+        version = addressBook.getVersion();
+        addressBook.addPatient(patient);
+        assertNotEquals(version, addressBook.getVersion());
+        version = addressBook.getVersion();
+        addressBook.assignPatient(doctor, patient);
+        assertNotEquals(version, addressBook.getVersion());
+
+        // Reading the address book does not change its version
+        version = addressBook.getVersion();
+        addressBook.hasDoctor(doctor);
+        addressBook.getPatientsOf(doctor);
+        addressBook.getUnassignedPatientList();
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.setPatient(patient, new PatientBuilder().withName("Amy").withRemark("Edited").build());
+        assertNotEquals(version, addressBook.getVersion());
+        version = addressBook.getVersion();
+        addressBook.removeDoctor(doctor);
+        assertNotEquals(version, addressBook.getVersion());
+        version = addressBook.getVersion();
+        addressBook.resetData(new AddressBook());
+        assertNotEquals(version, addressBook.getVersion());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -115,6 +270,41 @@ public class AddressBookTest {
         public ObservableList<Patient> getUnassignedPatientList() {
             return unassignedPatients;
         }
+
+        @Override
+        public List<Patient> getPatientsOf(Doctor doctor) {
+            return List.of();
+        }
+
+        @Override
+        public List<Doctor> getDoctorsOf(Patient patient) {
+            return List.of();
+        }
+
+        @Override
+        public int getPatientId(Patient patient) {
+            return patients.indexOf(patient);
+        }
+
+        @Override
+        public int getNextPatientId() {
+            return patients.size();
+        }
+
+        @Override
+        public long getAssignmentVersion(Doctor doctor) {
+            return 0;
+        }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public ReadOnlyAddressBook snapshot() {
+            return this;
+        }
     }
 
 }
@@ -0,0 +1,237 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.testutil.DoctorBuilder;
+import seedu.address.testutil.PatientBuilder;
+
+public class AssignmentIndexTest {
+
+    private final AssignmentIndex index = new AssignmentIndex();
+
+    private final Patient amy = new PatientBuilder().withName("Amy").build();
+    private final Patient ben = new PatientBuilder().withName("Ben").build();
+    private final Doctor carl = new DoctorBuilder().withName("Carl").build();
+    private final Doctor dina = new DoctorBuilder().withName("Dina").build();
+
+    @Test
+    public void assign_nullDoctor_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.assign(null, amy));
+    }
+
+    @Test
+    public void assign_assignedBefore_returnsFalse() {
+        index.addDoctor(carl);
+        index.addPatient(amy);
+        assertTrue(index.assign(carl, amy));
+        assertFalse(index.assign(carl, amy));
+        assertEquals(List.of(amy), index.getPatientsOf(carl));
+        assertEquals(List.of(carl), index.getDoctorsOf(amy));
+    }
+
+    @Test
+    public void unassign_notAssigned_returnsFalse() {
+        index.addDoctor(carl);
+        index.addPatient(amy);
+        index.assign(carl, amy);
+        assertTrue(index.unassign(carl, amy));
+        assertFalse(index.unassign(carl, amy));
+        assertFalse(index.hasDoctors(amy));
+        assertEquals(List.of(amy), index.getUnassignedPatients());
+    }
+
+    @Test
+    public void setDoctors_sameNameAsDoctorInIndex_keepsAssignments() {
+        index.addDoctor(carl);
+        index.addDoctor(dina);
+        index.addPatient(amy);
+        index.addPatient(ben);
+        index.assign(carl, amy);
+        index.assign(dina, ben);
+
+        Doctor editedCarl = new DoctorBuilder(carl).withYoe("30").build();
+        Doctor doctor = new DoctorBuilder().withName("Eve").build();
+        index.setDoctors(List.of(editedCarl, doctor));
+        assertEquals(List.of(amy), index.getPatientsOf(editedCarl));
+        assertEquals(List.of(), index.getPatientsOf(doctor));
+        assertEquals(List.of(), index.getPatientsOf(dina));
+        assertFalse(index.hasDoctors(ben));
+    }
+
+    @Test
+    public void setPatients_sameNameAsPatientInIndex_keepsAssignments() {
+        index.addDoctor(carl);
+        index.addPatient(amy);
+        index.addPatient(ben);
+        index.assign(carl, amy);
+        index.assign(carl, ben);
+
+        Patient editedAmy = new PatientBuilder(amy).withRemark("Edited").build();
+        index.setPatients(List.of(editedAmy));
+        assertEquals(List.of(editedAmy), index.getPatientsOf(carl));
+        assertEquals(List.of(), index.getDoctorsOf(ben));
+    }
+
+    @Test
+    public void replaceDoctor_editedCopy_keepsAssignments() {
+        index.addDoctor(carl);
+        index.addPatient(amy);
+        index.addPatient(ben);
+        index.assign(carl, amy);
+        index.assign(carl, ben);
+
+        Doctor editedCarl = new DoctorBuilder(carl).withName("Carl Junior").build();
+        index.replaceDoctor(carl, editedCarl);
+        assertEquals(List.of(amy, ben), index.getPatientsOf(editedCarl));
+        assertEquals(List.of(editedCarl), index.getDoctorsOf(amy));
+        assertEquals(List.of(), index.getPatientsOf(carl));
+    }
+
+    @Test
+    public void setPatientsOf_differentPatients_onlyThoseAssigned() {
+        index.addDoctor(carl);
+        index.addPatient(amy);
+        index.addPatient(ben);
+        index.assign(carl, amy);
+
+        index.setPatientsOf(carl, Set.of(ben));
+        assertEquals(List.of(ben), index.getPatientsOf(carl));
+        assertFalse(index.hasDoctors(amy));
+    }
+
+    @Test
+    public void removePatient_assigned_unassignedFromDoctors() {
+        index.addDoctor(carl);
+        index.addDoctor(dina);
+        index.addPatient(amy);
+        index.addPatient(ben);
+        index.assign(carl, amy);
+        index.assign(dina, amy);
+        index.assign(dina, ben);
+
+        index.removePatient(amy);
+        assertEquals(List.of(), index.getPatientsOf(carl));
+        assertEquals(List.of(ben), index.getPatientsOf(dina));
+
+        // The id of the removed patient is reused without bringing back its assignments
+        Patient patient = new PatientBuilder().withName("Fay").build();
+        index.addPatient(patient);
+        assertFalse(index.hasDoctors(patient));
+        assertEquals(List.of(ben), index.getPatientsOf(dina));
+    }
+
+    @Test
+    public void removeDoctor_assigned_unassignedFromPatients() {
+        index.addDoctor(carl);
+        index.addPatient(amy);
+        index.assign(carl, amy);
+
+        index.removeDoctor(carl);
+        assertFalse(index.hasDoctors(amy));
+        assertFalse(index.isAssigned(carl, amy));
+    }
+
+    @Test
+    public void getUnassignedPatients_assignmentsChanged_viewUpdated() {
+        List<Patient> unassignedPatients = index.getUnassignedPatients();
+        index.addDoctor(carl);
+        index.addPatient(amy);
+        index.addPatient(ben);
+        assertEquals(List.of(amy, ben), unassignedPatients);
+
+        index.assign(carl, amy);
+        assertEquals(List.of(ben), unassignedPatients);
+
+        Patient editedBen = new PatientBuilder(ben).withRemark("Edited").build();
+        index.replacePatient(ben, editedBen);
+        assertEquals(List.of(editedBen), unassignedPatients);
+
+        index.removeDoctor(carl);
+        assertEquals(List.of(editedBen, amy), unassignedPatients);
+
+        index.removePatient(editedBen);
+        assertEquals(List.of(amy), unassignedPatients);
+
+        // Rebuilt in the order of the patients given
+        Doctor doctor = new DoctorBuilder().withName("Eve").build();
+        Patient patient = new PatientBuilder().withName("Fay").build();
+        index.clear();
+        index.setDoctors(List.of(doctor));
+        index.setPatients(List.of(ben, amy, patient));
+        assertEquals(List.of(ben, amy, patient), unassignedPatients);
+
+        // The last patient in the list takes the place of a patient that leaves it
+        index.assign(doctor, ben);
+        assertEquals(List.of(patient, amy), unassignedPatients);
+    }
+
+    @Test
+    public void snapshot_assignmentsChangedAfterwards_unassignedPatientsUnchanged() {
+        index.addDoctor(carl);
+        index.addPatient(amy);
+        index.addPatient(ben);
+        index.assign(carl, amy);
+        AssignmentIndex.Snapshot snapshot = index.snapshot();
+
+        index.assign(carl, ben);
+        index.removeDoctor(carl);
+        index.removePatient(amy);
+        assertEquals(List.of(ben), snapshot.getUnassignedPatients());
+    }
+
+    @Test
+    public void getUnassignedPatients_randomChanges_samePatientsAsWithoutDoctors() {
+        List<Patient> patients = new ArrayList<>();
+        List<Doctor> doctors = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            patients.add(new PatientBuilder().withName("Patient " + i).build());
+            doctors.add(new DoctorBuilder().withName("Doctor " + i).build());
+        }
+        index.setDoctors(doctors);
+        index.setPatients(patients);
+
+        Random random = new Random(0);
+        for (int i = 0; i < 1000; i++) {
+            Doctor doctor = doctors.get(random.nextInt(doctors.size()));
+            Patient patient = patients.get(random.nextInt(patients.size()));
+            switch (random.nextInt(4)) {
+            case 0:
+                index.assign(doctor, patient);
+                break;
+            case 1:
+                index.removeDoctor(doctor);
+                index.addDoctor(doctor);
+                break;
+            case 2:
+                index.removePatient(patient);
+                index.addPatient(patient);
+                break;
+            default:
+                index.setDoctorsOf(patient, random.nextBoolean() ? Set.of() : Set.of(doctor));
+                break;
+            }
+
+            Set<Patient> expected = new HashSet<>();
+            for (Patient p : patients) {
+                if (!index.hasDoctors(p)) {
+                    expected.add(p);
+                }
+            }
+            assertEquals(expected.size(), index.getUnassignedPatients().size());
+            assertEquals(expected, new HashSet<>(index.getUnassignedPatients()));
+        }
+    }
+}
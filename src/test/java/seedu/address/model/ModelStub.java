@@ -7,7 +7,9 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.doctor.DoctorContainsKeywordsPredicate;
 import seedu.address.model.person.patient.Patient;
+import seedu.address.model.person.patient.PatientContainsKeywordsPredicate;
 
 /**
  * A default model stub that have all the methods failing.
@@ -113,6 +115,46 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public boolean assignPatient(Doctor doctor, Patient patient) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean unassignPatient(Doctor doctor, Patient patient) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isAssigned(Doctor doctor, Patient patient) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         throw new AssertionError("This method should not be called.");
@@ -142,4 +184,14 @@ public class ModelStub implements Model {
     public void updateFilteredPatientList(Predicate<Patient> predicate) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public void findDoctors(DoctorContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void findPatients(PatientContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
 }
@@ -45,4 +45,11 @@ public class NameTest {
         Name validName = new Name(name);
         assertEquals(validName.getValue(), name);
     }
+
+    @Test
+    public void getLowerCaseValue_validName_returnsNameInLowerCase() {
+        Name validName = new Name("Peter Jack");
+        assertEquals("peter jack", validName.getLowerCaseValue());
+        assertEquals("Peter Jack", validName.getValue());
+    }
 }
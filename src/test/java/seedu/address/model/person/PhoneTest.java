@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class PhoneTest {
@@ -45,4 +47,22 @@ public class PhoneTest {
         Phone phone = new Phone(validPhone);
         assertEquals(phone.getValue(), validPhone);
     }
+
+    @Test
+    public void isValidPhone_randomStrings_sameAsRegex() {
+        Random random = new Random(0);
+        for (int i = 0; i < 1000; i++) {
+            String test = randomString(random, "0123456789 a+", 5);
+            assertEquals(test.matches("\\d{3,}"), Phone.isValidPhone(test), test);
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int maxLength) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(maxLength + 1);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
 }
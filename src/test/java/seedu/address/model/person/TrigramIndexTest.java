@@ -0,0 +1,139 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class TrigramIndexTest {
+
+    private static final List<Function<List<String>, String>> FIELDS =
+            List.of(entry -> entry.get(0), entry -> entry.get(1));
+
+    private final TrigramIndex<List<String>> index = new TrigramIndex<>(FIELDS);
+
+    @Test
+    public void constructor_nullField_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TrigramIndex<List<String>>(null));
+    }
+
+    @Test
+    public void findCandidates_queriesTooShort_returnsNull() {
+        index.add(entry("Alex Yeoh", "Cardiology"));
+        assertNull(index.findCandidates(List.of("Al", "")));
+    }
+
+    @Test
+    public void findCandidates_trigramNotIndexed_returnsEmptySet() {
+        index.add(entry("Alex Yeoh", "Cardiology"));
+        assertTrue(index.findCandidates(List.of("Bob", "")).isEmpty());
+    }
+
+    @Test
+    public void findCandidates_differentCase_candidateFound() {
+        List<String> alex = entry("Alex Yeoh", "Cardiology");
+        index.add(alex);
+        index.add(entry("Bernice Yu", "Neurology"));
+        assertEquals(Set.of(alex), Set.copyOf(index.findCandidates(List.of("EX Y", "card"))));
+    }
+
+    @Test
+    public void findCandidates_removedOrReplaced_notFound() {
+        List<String> alex = entry("Alex Yeoh", "Cardiology");
+        List<String> bernice = entry("Bernice Yu", "Cardiology");
+        index.add(alex);
+        index.add(bernice);
+
+        index.remove(alex);
+        assertEquals(Set.of(bernice), Set.copyOf(index.findCandidates(List.of("", "cardio"))));
+
+        index.setAll(List.of(alex));
+        assertEquals(Set.of(alex), Set.copyOf(index.findCandidates(List.of("", "cardio"))));
+    }
+
+    @Test
+    public void add_notSearched_fieldsNotRead() {
+        List<List<String>> readEntries = new ArrayList<>();
+        TrigramIndex<List<String>> countingIndex = new TrigramIndex<>(List.of(entry -> {
+            readEntries.add(entry);
+            return entry.get(0);
+        }));
+        List<String> alex = entry("Alex Yeoh", "Cardiology");
+        List<String> bernice = entry("Bernice Yu", "Cardiology");
+        countingIndex.add(alex);
+        countingIndex.add(bernice);
+        countingIndex.remove(alex);
+        assertTrue(readEntries.isEmpty());
+
+        assertEquals(Set.of(bernice), Set.copyOf(countingIndex.findCandidates(List.of("e yu"))));
+        assertEquals(List.of(bernice), readEntries);
+    }
+
+    @Test
+    public void narrow_randomEntriesAndQueries_sameResultAsFullScan() {
+        Random random = new Random(0);
+        List<List<String>> entries = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            entries.add(entry(randomString(random, 12), randomString(random, 6)));
+        }
+        index.setAll(entries);
+        // Replace some entries, reusing the slots of the removed ones
+        for (int i = 0; i < 50; i++) {
+            List<String> replacement = entry(randomString(random, 12), randomString(random, 6));
+            index.remove(entries.get(i));
+            index.add(replacement);
+            entries.set(i, replacement);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            List<String> queries = List.of(randomString(random, random.nextInt(5)),
+                    randomString(random, random.nextInt(4)));
+            Predicate<List<String>> fullScan = entry ->
+                    StringUtil.containsSubstringIgnoreCase(entry.get(0), queries.get(0))
+                    && StringUtil.containsSubstringIgnoreCase(entry.get(1), queries.get(1));
+            assertEquals(filter(entries, fullScan), filter(entries, index.narrow(queries, fullScan)));
+        }
+    }
+
+    @Test
+    public void narrow_indexChangedAfterwards_candidatesLookedUpAgain() {
+        index.add(entry("Alex Yeoh", "Cardiology"));
+        Predicate<List<String>> fullScan = entry -> StringUtil.containsSubstringIgnoreCase(entry.get(0), "yeo");
+        Predicate<List<String>> narrowed = index.narrow(List.of("yeo", ""), fullScan);
+
+        List<String> alexJunior = entry("Alex Yeoh Junior", "Neurology");
+        assertFalse(narrowed.test(alexJunior));
+        index.add(alexJunior);
+        assertTrue(narrowed.test(alexJunior));
+    }
+
+    private static List<String> entry(String first, String second) {
+        return List.of(first, second);
+    }
+
+    private static String randomString(Random random, int length) {
+        String alphabet = "abAB c";
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    private static List<List<String>> filter(List<List<String>> entries, Predicate<List<String>> predicate) {
+        return entries.stream().filter(predicate).collect(Collectors.toList());
+    }
+}
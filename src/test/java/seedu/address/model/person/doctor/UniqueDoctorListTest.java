@@ -7,10 +7,13 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalDoctors.ALICE;
 import static seedu.address.testutil.TypicalDoctors.BENSON;
+import static seedu.address.testutil.TypicalDoctors.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -100,6 +103,16 @@ public class UniqueDoctorListTest {
         assertEquals(expectedUniqueDoctorList, uniqueDoctorList);
     }
 
+    @Test
+    public void setDoctor_editedDoctorHasDifferentIdentity_updatesIdentityLookup() {
+        uniqueDoctorList.add(ALICE);
+        uniqueDoctorList.setDoctor(ALICE, BENSON);
+        assertFalse(uniqueDoctorList.contains(ALICE));
+        assertTrue(uniqueDoctorList.contains(BENSON));
+        uniqueDoctorList.add(ALICE);
+        assertTrue(uniqueDoctorList.contains(ALICE));
+    }
+
     @Test
     public void setDoctor_editedDoctorHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniqueDoctorList.add(ALICE);
@@ -125,6 +138,37 @@ public class UniqueDoctorListTest {
         assertEquals(expectedUniqueDoctorList, uniqueDoctorList);
     }
 
+    @Test
+    public void remove_existingDoctor_doctorCanBeAddedAgain() {
+        uniqueDoctorList.add(ALICE);
+        uniqueDoctorList.remove(ALICE);
+        assertFalse(uniqueDoctorList.contains(ALICE));
+        uniqueDoctorList.add(ALICE);
+        assertTrue(uniqueDoctorList.contains(ALICE));
+    }
+
+    @Test
+    public void indexOf_listChanged_positionsInList() {
+        uniqueDoctorList.add(ALICE);
+        uniqueDoctorList.add(BENSON);
+        assertEquals(1, uniqueDoctorList.indexOf(BENSON));
+
+        uniqueDoctorList.add(0, CARL);
+        assertEquals(2, uniqueDoctorList.indexOf(BENSON));
+
+        Doctor editedCarl = new DoctorBuilder(CARL).withName("Edited Carl").build();
+        uniqueDoctorList.setDoctor(CARL, editedCarl);
+        assertEquals(0, uniqueDoctorList.indexOf(editedCarl));
+        assertEquals(-1, uniqueDoctorList.indexOf(CARL));
+
+        uniqueDoctorList.remove(ALICE);
+        assertEquals(-1, uniqueDoctorList.indexOf(ALICE));
+        assertEquals(1, uniqueDoctorList.indexOf(BENSON));
+
+        // A doctor with the same name but other fields is not in the list
+        assertEquals(-1, uniqueDoctorList.indexOf(new DoctorBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build()));
+    }
+
     @Test
     public void setDoctors_nullUniqueDoctorList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueDoctorList.setDoctors((UniqueDoctorList) null));
@@ -152,6 +196,8 @@ public class UniqueDoctorListTest {
         UniqueDoctorList expectedUniqueDoctorList = new UniqueDoctorList();
         expectedUniqueDoctorList.add(BENSON);
         assertEquals(expectedUniqueDoctorList, uniqueDoctorList);
+        assertFalse(uniqueDoctorList.contains(ALICE));
+        assertTrue(uniqueDoctorList.contains(BENSON));
     }
 
     @Test
@@ -160,6 +206,34 @@ public class UniqueDoctorListTest {
         assertThrows(DuplicatePersonException.class, () -> uniqueDoctorList.setDoctors(listWithDuplicateDoctors));
     }
 
+    @Test
+    public void setDoctors_listWithDuplicateDoctors_reportsDuplicateNames() {
+        Doctor editedBenson = new DoctorBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build();
+        List<Doctor> listWithDuplicateDoctors = Arrays.asList(ALICE, BENSON, ALICE, editedBenson);
+        assertThrows(DuplicatePersonException.class, new DuplicatePersonException(
+                Arrays.asList(ALICE.getName(), BENSON.getName())).getMessage(), ()
+                -> uniqueDoctorList.setDoctors(listWithDuplicateDoctors));
+    }
+
+    @Test
+    public void getIndexedPredicate_doctorsChangedAfterwards_sameResultAsPredicate() {
+        DoctorContainsKeywordsPredicate predicate = new DoctorContainsKeywordsPredicate(
+                new DoctorFilter("MEIER", "", "", "", "", new HashSet<>()));
+        Predicate<Doctor> indexedPredicate = uniqueDoctorList.getIndexedPredicate(predicate);
+        uniqueDoctorList.setDoctors(List.of(ALICE, BENSON));
+        assertFalse(indexedPredicate.test(ALICE));
+        assertTrue(indexedPredicate.test(BENSON));
+
+        Doctor editedAlice = new DoctorBuilder(ALICE).withName("Alice Meier").build();
+        uniqueDoctorList.setDoctor(ALICE, editedAlice);
+        assertTrue(indexedPredicate.test(editedAlice));
+
+        uniqueDoctorList.remove(BENSON);
+        Doctor editedBenson = new DoctorBuilder(BENSON).withName("Benson Mayer").build();
+        uniqueDoctorList.add(editedBenson);
+        assertFalse(indexedPredicate.test(editedBenson));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
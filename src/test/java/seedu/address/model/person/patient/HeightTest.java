@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class HeightTest {
@@ -72,4 +74,21 @@ public class HeightTest {
         assertEquals(height.getValue(), VALID_HEIGHT);
     }
 
+    @Test
+    public void isValidHeight_randomStrings_sameAsRegex() {
+        Random random = new Random(0);
+        for (int i = 0; i < 1000; i++) {
+            String test = randomString(random, "17. \t\na", 7);
+            assertEquals(test.matches(Height.VALIDATION_REGEX), Height.isValidHeight(test), test);
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int maxLength) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(maxLength + 1);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
 }
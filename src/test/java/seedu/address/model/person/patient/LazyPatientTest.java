@@ -0,0 +1,75 @@
+package seedu.address.model.person.patient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPatients.ZAYDEN;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.testutil.DoctorBuilder;
+import seedu.address.testutil.PatientBuilder;
+
+public class LazyPatientTest {
+
+    private int loadCount;
+
+    private final LazyPatient lazyZayden = new LazyPatient(ZAYDEN.getName(), () -> {
+        loadCount++;
+        return new PatientBuilder(ZAYDEN).build();
+    });
+
+    @Test
+    public void getName_notLoaded() {
+        assertEquals(ZAYDEN.getName(), lazyZayden.getName());
+        assertTrue(lazyZayden.isSamePatient(ZAYDEN));
+        assertFalse(lazyZayden.isLoaded());
+    }
+
+    @Test
+    public void getFields_loadedOnce() {
+        assertEquals(ZAYDEN.getPhone(), lazyZayden.getPhone());
+        assertTrue(lazyZayden.isLoaded());
+        assertEquals(ZAYDEN.getRemark(), lazyZayden.getRemark());
+        assertEquals(ZAYDEN.getTags(), lazyZayden.getTags());
+        assertEquals(1, loadCount);
+    }
+
+    @Test
+    public void hashCode_sameAsLoadedPatient_notLoaded() {
+        assertEquals(ZAYDEN.hashCode(), lazyZayden.hashCode());
+        assertFalse(lazyZayden.isLoaded());
+    }
+
+    @Test
+    public void assignPatient_notLoaded() {
+        AddressBook addressBook = new AddressBook();
+        Doctor doctor = new DoctorBuilder().build();
+        addressBook.addDoctor(doctor);
+        addressBook.addPatient(lazyZayden);
+        addressBook.assignPatient(doctor, lazyZayden);
+        assertTrue(addressBook.isAssigned(doctor, lazyZayden));
+        assertFalse(lazyZayden.isLoaded());
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(lazyZayden.equals(ZAYDEN));
+        assertTrue(ZAYDEN.equals(lazyZayden));
+        assertTrue(new HashSet<>(Set.of(ZAYDEN)).contains(lazyZayden));
+
+        // different name -> returns false without loading
+        LazyPatient lazyYannie = new LazyPatient(new PatientBuilder().withName("Yannie").build().getName(), () -> {
+            throw new AssertionError("Patient should not be loaded");
+        });
+        assertFalse(lazyYannie.equals(lazyZayden));
+
+        // different fields -> returns false
+        assertFalse(lazyZayden.equals(new PatientBuilder(ZAYDEN).withRemark("Different remark").build()));
+    }
+}
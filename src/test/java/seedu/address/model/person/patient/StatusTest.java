@@ -56,4 +56,15 @@ public class StatusTest {
         assertEquals("Intensive Care Unit", status5.getValue());
         assertEquals("Transitional Care", status6.getValue());
     }
+
+    @Test
+    public void equals_differentCase_equalWithSameHashCode() {
+        Status status = new Status("Intensive Care Unit");
+        Status differentCase = new Status("intensive CARE unit");
+
+        assertEquals("intensive care unit", status.getLowerCaseValue());
+        assertTrue(status.equals(differentCase));
+        assertEquals(status.hashCode(), differentCase.hashCode());
+        assertFalse(status.equals(new Status("Inpatient")));
+    }
 }
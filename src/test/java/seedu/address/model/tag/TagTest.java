@@ -1,7 +1,11 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -23,4 +27,36 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void getLowerCaseTagName_validTagName_returnsTagNameInLowerCase() {
+        Tag tag = new Tag("HoD");
+        assertEquals("hod", tag.getLowerCaseTagName());
+        assertEquals("HoD", tag.getTagName());
+    }
+
+    @Test
+    public void of_sameTagName_returnsSameInstance() {
+        Tag tag = Tag.of("friends");
+        assertEquals(new Tag("friends"), tag);
+        assertSame(tag, Tag.of("friends"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
+    @Test
+    public void isValidTagName_randomStrings_sameAsRegex() {
+        Random random = new Random(0);
+        for (int i = 0; i < 1000; i++) {
+            String test = randomString(random, "aZ9 _-\u00e9", 4);
+            assertEquals(test.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(test), test);
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int maxLength) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(maxLength + 1);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
 }
@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalDoctors.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.testutil.DoctorBuilder;
+import seedu.address.testutil.PatientBuilder;
+
+public class AddressBookSaveServiceTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookSaveService(null));
+    }
+
+    @Test
+    public void requestSave_thenFlush_addressBookSaved() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        AddressBookSaveService saveService = new AddressBookSaveService(storage);
+        AddressBook original = getTypicalAddressBook();
+
+        saveService.requestSave(original);
+        saveService.flush();
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void snapshot_addressBookChangedAfterwards_snapshotUnchanged() {
+        Doctor doctor = new DoctorBuilder().build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addDoctor(doctor);
+        AddressBook expected = new AddressBook();
+        expected.addDoctor(new DoctorBuilder().build());
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        Patient patient = new PatientBuilder().build();
+        addressBook.addPatient(patient);
+        addressBook.assignPatient(doctor, patient);
+        addressBook.addDoctor(new DoctorBuilder().withName("Snapshot Doctor").build());
+        assertEquals(expected, new AddressBook(snapshot));
+    }
+
+    @Test
+    public void requestSave_burstOfRequests_coalescedIntoLatestSnapshot() throws Exception {
+        BlockingAddressBookStorageStub storage = new BlockingAddressBookStorageStub(testFolder.resolve("ab.json"));
+        AddressBookSaveService saveService = new AddressBookSaveService(storage);
+        AddressBook addressBook = new AddressBook();
+
+        saveService.requestSave(addressBook);
+        storage.firstSaveStarted.await();
+        for (Doctor doctor : getTypicalAddressBook().getDoctorList()) {
+            addressBook.addDoctor(doctor);
+            saveService.requestSave(addressBook);
+        }
+        storage.firstSaveMayFinish.countDown();
+        saveService.flush();
+
+        assertEquals(2, storage.saveCount);
+        assertEquals(addressBook.getDoctorList(), storage.lastSaved.getDoctorList());
+    }
+
+    @Test
+    public void flush_saveFailed_throwsIoExceptionOnce() throws Exception {
+        IOException exception = new IOException("dummy exception");
+        AddressBookSaveService saveService = new AddressBookSaveService(
+                new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw exception;
+                    }
+                });
+
+        saveService.requestSave(new AddressBook());
+        assertThrows(IOException.class, exception.getMessage(), saveService::flush);
+        saveService.flush();
+    }
+
+    @Test
+    public void requestSave_saveFailedWithListener_failureReportedToListenerOnly() throws Exception {
+        IOException exception = new IOException("dummy exception");
+        AddressBookSaveService saveService = new AddressBookSaveService(
+                new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw exception;
+                    }
+                });
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        saveService.setFailureListener(failures::add);
+
+        saveService.requestSave(new AddressBook());
+        saveService.flush();
+        assertEquals(List.of(exception), failures);
+    }
+
+    @Test
+    public void requestSave_unchangedAddressBook_notSavedAgain() throws Exception {
+        BlockingAddressBookStorageStub storage = new BlockingAddressBookStorageStub(testFolder.resolve("ab.json"));
+        storage.firstSaveMayFinish.countDown();
+        AddressBookSaveService saveService = new AddressBookSaveService(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saveService.requestSave(addressBook);
+        saveService.flush();
+        saveService.requestSave(addressBook);
+        saveService.flush();
+        assertEquals(1, storage.saveCount);
+
+        addressBook.addDoctor(new DoctorBuilder().withName("Unsaved Doctor").build());
+        saveService.requestSave(addressBook);
+        saveService.flush();
+        assertEquals(2, storage.saveCount);
+        assertEquals(addressBook.getDoctorList(), storage.lastSaved.getDoctorList());
+
+        // A different address book is saved, even if it has the same contents
+        saveService.requestSave(new AddressBook(addressBook));
+        saveService.flush();
+        assertEquals(3, storage.saveCount);
+    }
+
+    @Test
+    public void requestSave_unchangedAfterFailedSave_savedAgain() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        AddressBookSaveService saveService = new AddressBookSaveService(
+                new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount.incrementAndGet();
+                        throw new IOException("dummy exception");
+                    }
+                });
+        AddressBook addressBook = new AddressBook();
+
+        saveService.requestSave(addressBook);
+        assertThrows(IOException.class, saveService::flush);
+        saveService.requestSave(addressBook);
+        assertThrows(IOException.class, saveService::flush);
+        assertEquals(2, saveCount.get());
+    }
+
+    /**
+     * A stub that holds up the first save until {@code firstSaveMayFinish} is released.
+     */
+    private static class BlockingAddressBookStorageStub extends JsonAddressBookStorage {
+        private final CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        private final CountDownLatch firstSaveMayFinish = new CountDownLatch(1);
+        private volatile int saveCount;
+        private volatile ReadOnlyAddressBook lastSaved;
+
+        private BlockingAddressBookStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            saveCount++;
+            lastSaved = addressBook;
+            firstSaveStarted.countDown();
+            try {
+                firstSaveMayFinish.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
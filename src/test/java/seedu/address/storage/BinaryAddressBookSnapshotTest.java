@@ -0,0 +1,131 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalDoctors.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.LazyPatient;
+import seedu.address.model.person.patient.Patient;
+
+public class BinaryAddressBookSnapshotTest {
+
+    private static final long CHECKSUM = 42;
+    private static final long JOURNAL_SEQUENCE = 7;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json.bin");
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(BinaryAddressBookSnapshot.read(filePath, CHECKSUM).isPresent());
+    }
+
+    @Test
+    public void read_writtenSnapshot_sameAddressBook() throws Exception {
+        BinaryAddressBookSnapshot.write(getTypicalAddressBook(), CHECKSUM, JOURNAL_SEQUENCE, filePath);
+        BinaryAddressBookSnapshot snapshot = BinaryAddressBookSnapshot.read(filePath, CHECKSUM).get();
+        assertEquals(JOURNAL_SEQUENCE, snapshot.getJournalSequence());
+
+        AddressBook addressBook = snapshot.toModelType();
+        assertEquals(getTypicalAddressBook(), addressBook);
+        for (int i = 0; i < addressBook.getPatientList().size(); i++) {
+            assertEquals(i, addressBook.getPatientId(addressBook.getPatientList().get(i)));
+        }
+
+        // Doctors are assigned to the same patient objects as the patient list
+        for (Doctor doctor : addressBook.getDoctorList()) {
+            for (Patient patient : addressBook.getPatientsOf(doctor)) {
+                assertSame(patient, addressBook.getPatientList().get(addressBook.getPatientList().indexOf(patient)));
+                assertTrue(addressBook.getDoctorsOf(patient).contains(doctor));
+            }
+        }
+    }
+
+    @Test
+    public void toModelType_patientsLoadedWhenUsed() throws Exception {
+        BinaryAddressBookSnapshot.write(getTypicalAddressBook(), CHECKSUM, JOURNAL_SEQUENCE, filePath);
+        AddressBook addressBook = BinaryAddressBookSnapshot.read(filePath, CHECKSUM).get().toModelType();
+        for (Patient patient : addressBook.getPatientList()) {
+            assertFalse(((LazyPatient) patient).isLoaded());
+        }
+
+        Patient patient = addressBook.getPatientList().get(0);
+        assertEquals(getTypicalAddressBook().getPatientList().get(0).getRemark(), patient.getRemark());
+        assertTrue(((LazyPatient) patient).isLoaded());
+        assertFalse(((LazyPatient) addressBook.getPatientList().get(1)).isLoaded());
+    }
+
+    @Test
+    public void write_overSnapshotWithLazyPatientInUse_patientStillLoaded() throws Exception {
+        BinaryAddressBookSnapshot.write(getTypicalAddressBook(), CHECKSUM, JOURNAL_SEQUENCE, filePath);
+        Patient patient = BinaryAddressBookSnapshot.read(filePath, CHECKSUM).get().toModelType()
+                .getPatientList().get(0);
+        assertFalse(((LazyPatient) patient).isLoaded());
+
+        AddressBook changed = getTypicalAddressBook();
+        changed.removePatient(changed.getPatientList().get(0));
+        BinaryAddressBookSnapshot.write(changed, CHECKSUM + 1, JOURNAL_SEQUENCE, filePath);
+        BinaryAddressBookSnapshot.write(changed, CHECKSUM + 2, JOURNAL_SEQUENCE, filePath);
+
+        // The mapped generation was not written over, and older generations are deleted where possible
+        Patient expected = getTypicalAddressBook().getPatientList().get(0);
+        assertEquals(expected, patient);
+        assertEquals(expected.getRemark(), patient.getRemark());
+        assertEquals(List.of(testFolder.resolve("addressbook.json.bin.2")),
+                BinaryAddressBookSnapshot.getGenerationFiles(filePath));
+        assertFalse(BinaryAddressBookSnapshot.read(filePath, CHECKSUM).isPresent());
+        assertEquals(changed, BinaryAddressBookSnapshot.read(filePath, CHECKSUM + 2).get().toModelType());
+    }
+
+    @Test
+    public void read_differentChecksum_emptyResult() throws Exception {
+        BinaryAddressBookSnapshot.write(getTypicalAddressBook(), CHECKSUM, JOURNAL_SEQUENCE, filePath);
+        assertFalse(BinaryAddressBookSnapshot.read(filePath, CHECKSUM + 1).isPresent());
+    }
+
+    @Test
+    public void read_damagedSnapshot_emptyResult() throws Exception {
+        BinaryAddressBookSnapshot.write(getTypicalAddressBook(), CHECKSUM, JOURNAL_SEQUENCE, filePath);
+        Path generationFile = BinaryAddressBookSnapshot.getGenerationFiles(filePath).get(0);
+        byte[] bytes = Files.readAllBytes(generationFile);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(generationFile, bytes);
+        assertFalse(BinaryAddressBookSnapshot.read(filePath, CHECKSUM).isPresent());
+
+        // A truncated snapshot
+        Files.write(generationFile, new byte[] {1, 2, 3});
+        assertFalse(BinaryAddressBookSnapshot.read(filePath, CHECKSUM).isPresent());
+    }
+
+    @Test
+    public void checksumOf_differentContents_differentChecksums() throws Exception {
+        Path jsonFile = testFolder.resolve("addressbook.json");
+        Files.write(jsonFile, "{\"version\":2}".getBytes(StandardCharsets.UTF_8));
+        long checksum = BinaryAddressBookSnapshot.checksumOf(jsonFile);
+        assertEquals(checksum, BinaryAddressBookSnapshot.checksumOf(jsonFile));
+
+        Files.write(jsonFile, "{\"version\":3}".getBytes(StandardCharsets.UTF_8));
+        assertNotEquals(checksum, BinaryAddressBookSnapshot.checksumOf(jsonFile));
+    }
+}
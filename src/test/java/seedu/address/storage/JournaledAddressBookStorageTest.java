@@ -0,0 +1,259 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.SampleAddressBook.getSampleAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final long NEVER_COMPACT = Long.MAX_VALUE;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_changesAppendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NEVER_COMPACT);
+        storage.readAddressBook();
+        AddressBook addressBook = getSampleAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(filePath));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+
+        // Renaming a patient only changes the patient, as doctors refer to their patients by id
+        Patient carl = addressBook.getPatientList().get(0);
+        Patient editedCarl = new PatientBuilder(carl).withName("Carl Edited").build();
+        addressBook.setPatient(carl, editedCarl);
+        storage.saveAddressBook(addressBook);
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(addressBook, readAddressBook());
+
+        // Changing the assignments of a doctor changes only that doctor
+        addressBook.unassignPatient(addressBook.getDoctorList().get(1), editedCarl);
+        storage.saveAddressBook(addressBook);
+        List<String> records = Files.readAllLines(journalFilePath);
+        assertEquals(4, records.size());
+        assertTrue(records.get(3).contains("\"list\":\"doctors\""));
+        assertEquals(addressBook, readAddressBook());
+
+        // Deleting a doctor, then saving without changes, which appends nothing
+        addressBook.removeDoctor(addressBook.getDoctorList().get(0));
+        storage.saveAddressBook(addressBook);
+        long journalSize = Files.size(journalFilePath);
+        storage.saveAddressBook(addressBook);
+        assertEquals(journalSize, Files.size(journalFilePath));
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        storage.readAddressBook();
+        AddressBook addressBook = getSampleAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        storage.awaitCompaction();
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(addressBook, readAddressBook());
+
+        // Records written after the snapshot are replayed on top of it
+        addressBook.addPatient(new PatientBuilder().withName("Frank").build());
+        storage.saveAddressBook(addressBook);
+        storage.awaitCompaction();
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_patientsRemovedAndAdded_patientIdsKept() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NEVER_COMPACT);
+        storage.readAddressBook();
+        AddressBook addressBook = getSampleAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePatient(addressBook.getPatientList().get(0));
+        addressBook.addPatient(0, new PatientBuilder().withName("Frank").build());
+        storage.saveAddressBook(addressBook);
+
+        // Read from the journal, which is below the threshold and so is not compacted
+        assertSamePatientIds(addressBook, readAddressBook());
+        assertTrue(Files.exists(journalFilePath));
+
+        // Read again from the snapshot it is compacted into once past the threshold
+        JournaledAddressBookStorage compactingStorage = new JournaledAddressBookStorage(filePath, 1);
+        compactingStorage.readAddressBook();
+        compactingStorage.awaitCompaction();
+        assertFalse(Files.exists(journalFilePath));
+        ReadOnlyAddressBook read = readAddressBook();
+        assertSamePatientIds(addressBook, read);
+        assertEquals(3, read.getPatientId(read.getPatientList().get(0)));
+        assertEquals(4, read.getNextPatientId());
+    }
+
+    @Test
+    public void readAddressBook_patientWithoutId_throwsDataConversionException() throws Exception {
+        new JournaledAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        Files.write(journalFilePath, List.of(
+                "{\"sequence\":2,\"list\":\"patients\",\"from\":0,\"removed\":0,\"patients\":["
+                        + JsonUtil.toCompactJsonString(new JsonAdaptedPatient(new PatientBuilder().withName("Carl")
+                        .build())) + "]}"));
+        assertThrows(DataConversionException.class, this::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordIgnored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NEVER_COMPACT);
+        storage.readAddressBook();
+        AddressBook addressBook = getSampleAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        Files.write(journalFilePath, "{\"sequence\":3,\"list\":\"pat".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_missingRecord_throwsDataConversionException() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NEVER_COMPACT);
+        storage.readAddressBook();
+        storage.saveAddressBook(getSampleAddressBook());
+
+        List<String> records = Files.readAllLines(journalFilePath);
+        Files.write(journalFilePath, records.subList(1, records.size()));
+        assertThrows(DataConversionException.class, this::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_withoutRead_writesSnapshot() throws Exception {
+        AddressBook addressBook = getSampleAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NEVER_COMPACT);
+        storage.readAddressBook();
+        AddressBook addressBook = getSampleAddressBook();
+
+        Path otherFilePath = testFolder.resolve("other.json");
+        storage.saveAddressBook(addressBook, otherFilePath);
+        assertEquals(addressBook, new JsonAddressBookStorage(otherFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_snapshotWritten_readFromBinarySnapshot() throws Exception {
+        AddressBook addressBook = getSampleAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(addressBook);
+        Path binaryFilePath = BinaryAddressBookSnapshot.getFilePath(filePath);
+        assertEquals(1, BinaryAddressBookSnapshot.getGenerationFiles(binaryFilePath).size());
+        assertEquals(addressBook, BinaryAddressBookSnapshot.read(binaryFilePath,
+                BinaryAddressBookSnapshot.checksumOf(filePath)).get().toModelType());
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_snapshotChangedSinceBinarySnapshot_readFromJson() throws Exception {
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getSampleAddressBook());
+
+        // The json snapshot is replaced, as when a file is restored from a backup
+        AddressBook addressBook = getSampleAddressBook();
+        addressBook.removePatient(addressBook.getPatientList().get(2));
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertEquals(addressBook, readAddressBook());
+
+        // A binary snapshot of the json snapshot is written for the next read
+        assertEquals(addressBook, BinaryAddressBookSnapshot.read(BinaryAddressBookSnapshot.getFilePath(filePath),
+                BinaryAddressBookSnapshot.checksumOf(filePath)).get().toModelType());
+    }
+
+    @Test
+    public void readAddressBook_shardedFile_replacedBySingleFileWhenSaved() throws Exception {
+        AddressBook addressBook = getSampleAddressBook();
+        new ShardedAddressBookStorage(filePath, 2).saveAddressBook(addressBook);
+        Path shardDirectory = ShardedAddressBookStorage.getShardDirectory(filePath);
+
+        // The manifest is not taken for an empty address book when the shard count is set back to 0
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NEVER_COMPACT);
+        ReadOnlyAddressBook read = storage.readAddressBook().get();
+        assertSamePatientIds(addressBook, read);
+        assertTrue(Files.exists(shardDirectory));
+
+        storage.saveAddressBook(read);
+        assertFalse(Files.exists(shardDirectory));
+        assertFalse(JsonUtil.readJsonFile(filePath, JsonAddressBookManifest.class).get().isManifest());
+        assertSamePatientIds(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_unreadableShard_throwsIoException() throws Exception {
+        new ShardedAddressBookStorage(filePath, 2).saveAddressBook(getSampleAddressBook());
+        List<JsonAddressBookManifest.JsonShardEntry> shards =
+                JsonUtil.readJsonFile(filePath, JsonAddressBookManifest.class).get().getShards();
+        Path shardFile = ShardedAddressBookStorage.getShardDirectory(filePath).resolve(shards.get(0).getFile());
+        Files.delete(shardFile);
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NEVER_COMPACT);
+        ReadOnlyAddressBook read = storage.readAddressBook().get();
+        assertThrows(IOException.class, () -> storage.saveAddressBook(read));
+        assertTrue(JsonUtil.readJsonFile(filePath, JsonAddressBookManifest.class).get().isManifest());
+    }
+
+    /**
+     * Asserts that {@code actual} equals {@code expected}, with the same patient ids.
+     */
+    private static void assertSamePatientIds(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected, actual);
+        for (Patient patient : expected.getPatientList()) {
+            assertEquals(expected.getPatientId(patient), actual.getPatientId(patient));
+        }
+        assertEquals(expected.getNextPatientId(), actual.getNextPatientId());
+    }
+
+    /**
+     * Reads the address book with a new storage, waiting for any snapshot it writes while reading.
+     */
+    private ReadOnlyAddressBook readAddressBook() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, NEVER_COMPACT);
+        ReadOnlyAddressBook addressBook = storage.readAddressBook().get();
+        storage.awaitCompaction();
+        return addressBook;
+    }
+}
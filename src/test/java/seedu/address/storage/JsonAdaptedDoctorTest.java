@@ -1,10 +1,13 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.storage.JsonAdaptedDoctor.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalDoctors.ALICE;
+import static seedu.address.testutil.TypicalPatients.ZAYDEN;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,21 +33,27 @@ public class JsonAdaptedDoctorTest {
             .collect(Collectors.toList());
     private static final String VALID_SPECIALTY = ALICE.getSpecialty().getValue();
     private static final String VALID_YOE = ALICE.getYoe().getValue();
-    private static final List<JsonAdaptedPatient> VALID_PATIENTS = ALICE.getPatients().stream()
-            .map(JsonAdaptedPatient::new)
-            .collect(Collectors.toList());
+    private static final List<Integer> VALID_PATIENT_IDS = new ArrayList<>();
 
     @Test
     public void toModelType_validDoctorDetails_returnsDoctor() throws Exception {
-        JsonAdaptedDoctor doctor = new JsonAdaptedDoctor(ALICE);
+        JsonAdaptedDoctor doctor = new JsonAdaptedDoctor(ALICE, VALID_PATIENT_IDS);
         assertEquals(ALICE, doctor.toModelType());
     }
 
+    @Test
+    public void toLegacyPatientModelTypes_legacyEmbeddedPatients_returnsPatients() throws Exception {
+        JsonAdaptedDoctor doctor = new JsonAdaptedDoctor(
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_SPECIALTY,
+                VALID_YOE, VALID_TAGS, VALID_PATIENT_IDS, List.of(new JsonAdaptedPatient(ZAYDEN, 0)));
+        assertTrue(doctor.toLegacyPatientModelTypes().contains(ZAYDEN));
+    }
+
     @Test
     public void toModelType_invalidSpecialty_throwsIllegalValueException() {
         JsonAdaptedDoctor doctor = new JsonAdaptedDoctor(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_SPECIALTY,
-                VALID_YOE, VALID_TAGS, VALID_PATIENTS);
+                VALID_YOE, VALID_TAGS, VALID_PATIENT_IDS, null);
         String expectedMessage = Specialty.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, doctor::toModelType);
     }
@@ -53,7 +62,7 @@ public class JsonAdaptedDoctorTest {
     public void toModelType_emptySpecialty_throwsIllegalValueException() {
         JsonAdaptedDoctor doctor = new JsonAdaptedDoctor(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, EMPTY_SPECIALTY,
-                VALID_YOE, VALID_TAGS, VALID_PATIENTS);
+                VALID_YOE, VALID_TAGS, VALID_PATIENT_IDS, null);
         String expectedMessage = Specialty.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, doctor::toModelType);
     }
@@ -62,7 +71,7 @@ public class JsonAdaptedDoctorTest {
     public void toModelType_nullSpecialty_throwsIllegalValueException() {
         JsonAdaptedDoctor doctor = new JsonAdaptedDoctor(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, null,
-                VALID_YOE, VALID_TAGS, VALID_PATIENTS);
+                VALID_YOE, VALID_TAGS, VALID_PATIENT_IDS, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Specialty.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, doctor::toModelType);
     }
@@ -71,7 +80,7 @@ public class JsonAdaptedDoctorTest {
     public void toModelType_invalidYoeAsString_throwsIllegalValueException() {
         JsonAdaptedDoctor doctor = new JsonAdaptedDoctor(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_SPECIALTY,
-                INVALID_YOE_STRING, VALID_TAGS, VALID_PATIENTS);
+                INVALID_YOE_STRING, VALID_TAGS, VALID_PATIENT_IDS, null);
         String expectedMessage = Yoe.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, doctor::toModelType);
     }
@@ -80,7 +89,7 @@ public class JsonAdaptedDoctorTest {
     public void toModelType_invalidYoeAsNegative_throwsIllegalValueException() {
         JsonAdaptedDoctor doctor = new JsonAdaptedDoctor(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_SPECIALTY,
-                INVALID_YOE_NEGATIVE, VALID_TAGS, VALID_PATIENTS);
+                INVALID_YOE_NEGATIVE, VALID_TAGS, VALID_PATIENT_IDS, null);
         String expectedMessage = Yoe.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, doctor::toModelType);
     }
@@ -89,7 +98,7 @@ public class JsonAdaptedDoctorTest {
     public void toModelType_invalidYoeAsDecimal_throwsIllegalValueException() {
         JsonAdaptedDoctor doctor = new JsonAdaptedDoctor(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_SPECIALTY,
-                INVALID_YOE_DECIMAL, VALID_TAGS, VALID_PATIENTS);
+                INVALID_YOE_DECIMAL, VALID_TAGS, VALID_PATIENT_IDS, null);
         String expectedMessage = Yoe.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, doctor::toModelType);
     }
@@ -98,7 +107,7 @@ public class JsonAdaptedDoctorTest {
     public void toModelType_invalidYoeTooHigh_throwsIllegalValueException() {
         JsonAdaptedDoctor doctor = new JsonAdaptedDoctor(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_SPECIALTY,
-                INVALID_YOE_TOO_HIGH, VALID_TAGS, VALID_PATIENTS);
+                INVALID_YOE_TOO_HIGH, VALID_TAGS, VALID_PATIENT_IDS, null);
         String expectedMessage = Yoe.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, doctor::toModelType);
     }
@@ -107,7 +116,7 @@ public class JsonAdaptedDoctorTest {
     public void toModelType_nullYoe_throwsIllegalValueException() {
         JsonAdaptedDoctor doctor = new JsonAdaptedDoctor(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_SPECIALTY,
-                null, VALID_TAGS, VALID_PATIENTS);
+                null, VALID_TAGS, VALID_PATIENT_IDS, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 Yoe.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, doctor::toModelType);
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static seedu.address.storage.JsonAdaptedPatient.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.ZAYDEN;
@@ -40,18 +41,27 @@ public class JsonAdaptedPatientTest {
     private static final String VALID_DIAGNOSIS = ZAYDEN.getDiagnosis().getValue();
     private static final String VALID_STATUS = ZAYDEN.getStatus().getValue();
     private static final String VALID_REMARK = ZAYDEN.getRemark().getValue();
+    private static final int VALID_ID = 0;
 
     @Test
     public void toModelType_validPatientDetails_returnsPatient() throws Exception {
-        JsonAdaptedPatient patient = new JsonAdaptedPatient(ZAYDEN);
+        JsonAdaptedPatient patient = new JsonAdaptedPatient(ZAYDEN, VALID_ID);
         assertEquals(ZAYDEN, patient.toModelType());
     }
 
+    @Test
+    public void getId_patientWithoutId_returnsNull() {
+        JsonAdaptedPatient patient = new JsonAdaptedPatient(
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_HEIGHT, VALID_WEIGHT,
+                VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS, null);
+        assertNull(patient.getId());
+    }
+
     @Test
     public void toModelType_invalidHeightString_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_HEIGHT_STRING, VALID_WEIGHT,
-                VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS);
+                VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS, VALID_ID);
         String expectedMessage = Height.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
     }
@@ -60,7 +70,7 @@ public class JsonAdaptedPatientTest {
     public void toModelType_invalidHeightNegative_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_HEIGHT_NEGATIVE, VALID_WEIGHT,
-                VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS);
+                VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS, VALID_ID);
         String expectedMessage = Height.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
     }
@@ -69,7 +79,7 @@ public class JsonAdaptedPatientTest {
     public void toModelType_invalidHeightTooManyDecimalPoint_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_HEIGHT_TOO_MANY_DECIMAL_POINT,
-                VALID_WEIGHT, VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS);
+                VALID_WEIGHT, VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS, VALID_ID);
         String expectedMessage = Height.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
     }
@@ -78,7 +88,7 @@ public class JsonAdaptedPatientTest {
     public void toModelType_invalidHeightTooLittleDecimalPoint_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_HEIGHT_TOO_LITTLE_DECIMAL_POINT,
-                VALID_WEIGHT, VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS);
+                VALID_WEIGHT, VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS, VALID_ID);
         String expectedMessage = Height.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
     }
@@ -87,7 +97,7 @@ public class JsonAdaptedPatientTest {
     public void toModelType_nullHeight_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, null, VALID_WEIGHT,
-                VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS);
+                VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS, VALID_ID);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 Height.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
@@ -97,7 +107,7 @@ public class JsonAdaptedPatientTest {
     public void toModelType_invalidWeightString_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_HEIGHT, INVALID_WEIGHT_STRING,
-                VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS);
+                VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS, VALID_ID);
         String expectedMessage = Weight.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
     }
@@ -106,7 +116,7 @@ public class JsonAdaptedPatientTest {
     public void toModelType_invalidWeightNegative_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_HEIGHT, INVALID_WEIGHT_NEGATIVE,
-                VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS);
+                VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS, VALID_ID);
         String expectedMessage = Weight.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
     }
@@ -116,7 +126,7 @@ public class JsonAdaptedPatientTest {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_HEIGHT,
                 INVALID_WEIGHT_TOO_MANY_DECIMAL_POINT, VALID_DIAGNOSIS, VALID_STATUS,
-                VALID_REMARK, VALID_TAGS);
+                VALID_REMARK, VALID_TAGS, VALID_ID);
         String expectedMessage = Weight.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
     }
@@ -125,7 +135,7 @@ public class JsonAdaptedPatientTest {
     public void toModelType_nullWeight_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_HEIGHT, null,
-                VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS);
+                VALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS, VALID_ID);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 Weight.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
@@ -135,7 +145,7 @@ public class JsonAdaptedPatientTest {
     public void toModelType_invalidDiagnosis_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_HEIGHT, VALID_WEIGHT,
-                INVALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS);
+                INVALID_DIAGNOSIS, VALID_STATUS, VALID_REMARK, VALID_TAGS, VALID_ID);
         String expectedMessage = Diagnosis.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
     }
@@ -144,7 +154,7 @@ public class JsonAdaptedPatientTest {
     public void toModelType_nullDiagnosis_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_HEIGHT, VALID_WEIGHT,
-                null, VALID_STATUS, VALID_REMARK, VALID_TAGS);
+                null, VALID_STATUS, VALID_REMARK, VALID_TAGS, VALID_ID);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 Diagnosis.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
@@ -154,7 +164,7 @@ public class JsonAdaptedPatientTest {
     public void toModelType_invalidStatus_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_HEIGHT, VALID_WEIGHT,
-                VALID_DIAGNOSIS, INVALID_STATUS, VALID_REMARK, VALID_TAGS);
+                VALID_DIAGNOSIS, INVALID_STATUS, VALID_REMARK, VALID_TAGS, VALID_ID);
         String expectedMessage = Status.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
     }
@@ -163,7 +173,7 @@ public class JsonAdaptedPatientTest {
     public void toModelType_nullStatus_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_HEIGHT, VALID_WEIGHT,
-                VALID_DIAGNOSIS, null, VALID_REMARK, VALID_TAGS);
+                VALID_DIAGNOSIS, null, VALID_REMARK, VALID_TAGS, VALID_ID);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 Status.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
@@ -173,7 +183,7 @@ public class JsonAdaptedPatientTest {
     public void toModelType_invalidRemark_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_HEIGHT, VALID_WEIGHT,
-                VALID_DIAGNOSIS, VALID_STATUS, INVALID_REMARK, VALID_TAGS);
+                VALID_DIAGNOSIS, VALID_STATUS, INVALID_REMARK, VALID_TAGS, VALID_ID);
         String expectedMessage = Remark.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
     }
@@ -182,7 +192,7 @@ public class JsonAdaptedPatientTest {
     public void toModelType_nullRemark_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(
                 VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_HEIGHT, VALID_WEIGHT,
-                VALID_DIAGNOSIS, VALID_STATUS, null, VALID_TAGS);
+                VALID_DIAGNOSIS, VALID_STATUS, null, VALID_TAGS, VALID_ID);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 Remark.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -122,6 +123,21 @@ public class JsonAddressBookStorageTest {
         assertEquals(original, new AddressBook(readBack));
     }
 
+    @Test
+    public void saveAddressBook_legacyAddressBookRead_savedInCurrentLayout() throws Exception {
+        Path legacyFile = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalDoctorsAddressBook.json");
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        ReadOnlyAddressBook legacy = jsonAddressBookStorage.readAddressBook(legacyFile).get();
+        jsonAddressBookStorage.saveAddressBook(legacy);
+
+        JsonSerializableAddressBook saved = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get();
+        assertFalse(saved.isLegacyLayout());
+        assertEquals(getTypicalAddressBook(), saved.toModelType());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(
@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalDoctors.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private final JsonAddressBookWriter writer = new JsonAddressBookWriter();
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+    }
+
+    private JsonSerializableAddressBook read() throws Exception {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get();
+    }
+
+    @Test
+    public void write_typicalAddressBook_readBackEqual() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        writer.write(addressBook, 5L, filePath);
+
+        JsonSerializableAddressBook written = read();
+        assertEquals(addressBook, written.toModelType());
+        assertEquals(5, written.getJournalSequence());
+        assertEquals(addressBook.getPatientList().size(), writer.getSerializedPatientCount());
+        assertEquals(addressBook.getDoctorList().size(), writer.getSerializedDoctorCount());
+    }
+
+    @Test
+    public void write_emptyAddressBook_readBackEqual() throws Exception {
+        writer.write(new AddressBook(), null, filePath);
+
+        JsonSerializableAddressBook written = read();
+        assertEquals(new AddressBook(), written.toModelType());
+        assertEquals(0, written.getJournalSequence());
+    }
+
+    @Test
+    public void write_onePatientEdited_onlyEditedPatientSerialized() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        writer.write(addressBook, null, filePath);
+        writer.write(addressBook, null, filePath);
+        assertEquals(0, writer.getSerializedPatientCount());
+
+        Patient patient = addressBook.getPatientList().get(1);
+        addressBook.setPatient(patient, new PatientBuilder(patient).withRemark("Edited remark").build());
+        // Removing a patient keeps the ids of the others
+        addressBook.removePatient(addressBook.getPatientList().get(0));
+        writer.write(addressBook, null, filePath);
+        assertEquals(1, writer.getSerializedPatientCount());
+        assertEquals(addressBook, read().toModelType());
+    }
+
+    @Test
+    public void write_oneDoctorAssigned_onlyAssignedDoctorSerialized() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        writer.write(addressBook.snapshot(), null, filePath);
+        writer.write(addressBook.snapshot(), null, filePath);
+        assertEquals(0, writer.getSerializedDoctorCount());
+
+        Doctor doctor = addressBook.getDoctorList().get(0);
+        Patient patient = new PatientBuilder().withName("Newly Assigned").build();
+        addressBook.addPatient(patient);
+        addressBook.assignPatient(doctor, patient);
+        writer.write(addressBook.snapshot(), null, filePath);
+        assertEquals(1, writer.getSerializedDoctorCount());
+        assertEquals(addressBook, read().toModelType());
+    }
+}
@@ -1,22 +1,38 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalDoctors.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Height;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.model.person.patient.Weight;
+import seedu.address.testutil.PatientBuilder;
 
 public class JsonSerializableAddressBookTest {
 
     private static final Path TEST_DATA_FOLDER = Paths.get("src",
             "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_ADDRESS_BOOK_FILE =
+            TEST_DATA_FOLDER.resolve("typicalAddressBook.json");
+    private static final Path UNKNOWN_PATIENT_ID_FILE =
+            TEST_DATA_FOLDER.resolve("unknownPatientIdAddressBook.json");
+    private static final Path DUPLICATE_PATIENT_ID_FILE =
+            TEST_DATA_FOLDER.resolve("duplicatePatientIdAddressBook.json");
     private static final Path TYPICAL_DOCTORS_FILE =
             TEST_DATA_FOLDER.resolve("typicalDoctorsAddressBook.json");
     private static final Path INVALID_DOCTOR_FILE =
@@ -32,6 +48,10 @@ public class JsonSerializableAddressBookTest {
             TEST_DATA_FOLDER.resolve("duplicateAssignedPatientAddressBook.json");
     private static final Path PATIENT_ASSIGNED_AND_UNASSIGNED_FILE =
             TEST_DATA_FOLDER.resolve("patientAssignedAndUnassignedAddressBook.json");
+    private static final Path PATIENT_ASSIGNED_TO_MULTIPLE_DOCTORS_FILE =
+            TEST_DATA_FOLDER.resolve("patientAssignedToMultipleDoctorsAddressBook.json");
+
+    private static final int MANY_PATIENTS = 1000;
 
     @Test
     public void toModelType_typicalDoctorsFile_success() throws Exception {
@@ -91,4 +111,117 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_patientAssignedToMultipleDoctors_linksSinglePatient() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(
+                PATIENT_ASSIGNED_TO_MULTIPLE_DOCTORS_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        assertEquals(2, addressBookFromFile.getPatientList().size());
+
+        Patient patient = addressBookFromFile.getPatientList().get(0);
+        Doctor alice = addressBookFromFile.getDoctorList().get(0);
+        Doctor daniel = addressBookFromFile.getDoctorList().get(2);
+        assertSame(patient, addressBookFromFile.getPatientsOf(alice).get(0));
+        assertSame(patient, addressBookFromFile.getPatientsOf(daniel).get(0));
+        assertEquals(List.of(alice, daniel), addressBookFromFile.getDoctorsOf(patient));
+    }
+
+    @Test
+    public void toModelType_typicalAddressBookFile_success() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_ADDRESS_BOOK_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertFalse(dataFromFile.isLegacyLayout());
+        assertEquals(getTypicalAddressBook(), dataFromFile.toModelType());
+    }
+
+    @Test
+    public void toModelType_legacyFile_isLegacyLayout() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_DOCTORS_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertTrue(dataFromFile.isLegacyLayout());
+    }
+
+    @Test
+    public void toModelType_unknownPatientId_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(UNKNOWN_PATIENT_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicatePatientIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PATIENT_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_savedTypicalAddressBook_linksSinglePatient() throws Exception {
+        AddressBook addressBook = new JsonSerializableAddressBook(getTypicalAddressBook()).toModelType();
+        assertEquals(getTypicalAddressBook(), addressBook);
+
+        Patient patient = addressBook.getPatientList().get(0);
+        Doctor daniel = addressBook.getDoctorList().get(2);
+        assertSame(patient, addressBook.getPatientsOf(daniel).get(0));
+        assertEquals(List.of(daniel), addressBook.getDoctorsOf(patient));
+    }
+
+    @Test
+    public void toModelType_manyInvalidPatients_reportsFirstInFileOrder() {
+        List<JsonAdaptedPatient> patients = getManyPatients();
+        patients.set(600, getPatientWithHeightAndWeight(600, "five", PatientBuilder.DEFAULT_WEIGHT));
+        patients.set(800, getPatientWithHeightAndWeight(800, PatientBuilder.DEFAULT_HEIGHT, "sixty"));
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(
+                JsonSerializableAddressBook.CURRENT_VERSION, List.of(), patients, List.of(), null, null);
+        IllegalValueException exception = assertThrows(IllegalValueException.class, data::toModelType);
+        assertEquals(Height.MESSAGE_CONSTRAINTS, exception.getMessage());
+
+        patients.set(600, getPatientWithHeightAndWeight(600, PatientBuilder.DEFAULT_HEIGHT,
+                PatientBuilder.DEFAULT_WEIGHT));
+        data = new JsonSerializableAddressBook(
+                JsonSerializableAddressBook.CURRENT_VERSION, List.of(), patients, List.of(), null, null);
+        exception = assertThrows(IllegalValueException.class, data::toModelType);
+        assertEquals(Weight.MESSAGE_CONSTRAINTS, exception.getMessage());
+    }
+
+    @Test
+    public void toModelType_duplicateBeforeInvalidPatient_reportsDuplicate() {
+        List<JsonAdaptedPatient> patients = getManyPatients();
+        patients.set(300, getPatientWithHeightAndWeight(0, PatientBuilder.DEFAULT_HEIGHT,
+                PatientBuilder.DEFAULT_WEIGHT));
+        patients.set(600, getPatientWithHeightAndWeight(600, "five", PatientBuilder.DEFAULT_WEIGHT));
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(
+                JsonSerializableAddressBook.CURRENT_VERSION, List.of(), patients, List.of(), null, null);
+        IllegalValueException exception = assertThrows(IllegalValueException.class, data::toModelType);
+        assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PATIENT, exception.getMessage());
+    }
+
+    @Test
+    public void toModelType_manyPatients_keepsFileOrder() throws Exception {
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(
+                JsonSerializableAddressBook.CURRENT_VERSION, List.of(), getManyPatients(), List.of(), null, null);
+        List<Patient> loadedPatients = data.toModelType().getPatientList();
+        assertEquals(MANY_PATIENTS, loadedPatients.size());
+        for (int i = 0; i < MANY_PATIENTS; i++) {
+            assertEquals("Patient " + i, loadedPatients.get(i).getName().getValue());
+        }
+    }
+
+    /**
+     * Returns enough valid patients, numbered by their position, for them to be converted in parallel.
+     */
+    private static List<JsonAdaptedPatient> getManyPatients() {
+        List<JsonAdaptedPatient> patients = new ArrayList<>();
+        for (int i = 0; i < MANY_PATIENTS; i++) {
+            patients.add(new JsonAdaptedPatient(new PatientBuilder().withName("Patient " + i).build(), i));
+        }
+        return patients;
+    }
+
+    private static JsonAdaptedPatient getPatientWithHeightAndWeight(int id, String height, String weight) {
+        return new JsonAdaptedPatient("Patient " + id, PatientBuilder.DEFAULT_PHONE, PatientBuilder.DEFAULT_EMAIL,
+                height, weight, PatientBuilder.DEFAULT_DIAGNOSIS, PatientBuilder.DEFAULT_STATUS,
+                PatientBuilder.DEFAULT_REMARK, List.of(), id);
+    }
 }
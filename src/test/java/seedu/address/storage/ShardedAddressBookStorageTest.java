@@ -0,0 +1,216 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.SampleAddressBook.getSampleAddressBook;
+import static seedu.address.testutil.TypicalDoctors.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+import seedu.address.storage.JsonAddressBookManifest.JsonShardEntry;
+import seedu.address.testutil.PatientBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+    }
+
+    @Test
+    public void constructor_nonPositiveShardCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedAddressBookStorage(filePath, 0));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_savedAddressBook_sameAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(original);
+        assertEquals(SHARD_COUNT, readShardFiles().size());
+
+        ReadOnlyAddressBook read = new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get();
+        assertEquals(original, read);
+        for (Patient patient : original.getPatientList()) {
+            assertEquals(original.getPatientId(patient), read.getPatientId(patient));
+        }
+
+        // Doctors are assigned to the patients in the patient list, which are often kept in other shards
+        for (Doctor doctor : read.getDoctorList()) {
+            for (Patient patient : read.getPatientsOf(doctor)) {
+                assertTrue(read.getPatientList().contains(patient));
+                assertTrue(read.getDoctorsOf(patient).contains(doctor));
+            }
+        }
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_onlyChangedShardsWritten() throws Exception {
+        AddressBook addressBook = getSampleAddressBook();
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(addressBook);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        addressBook = new AddressBook(storage.readAddressBook().get());
+
+        // Saving without changes writes nothing
+        List<String> files = readShardFiles();
+        storage.saveAddressBook(addressBook);
+        assertEquals(files, readShardFiles());
+
+        // Editing a patient rewrites its own shard only
+        Patient patient = addressBook.getPatientList().get(2);
+        addressBook.setPatient(patient, new PatientBuilder(patient).withRemark("Edited").build());
+        storage.saveAddressBook(addressBook);
+        assertChangedShards(files, readShardFiles(), shardOf(addressBook, patient));
+        assertEquals(addressBook, readAddressBook());
+
+        // Removing an unassigned patient keeps the positions of the others, so only its own shard is rewritten
+        files = readShardFiles();
+        patient = addressBook.getPatientList().get(2);
+        int shard = shardOf(addressBook, patient);
+        addressBook.removePatient(patient);
+        storage.saveAddressBook(addressBook);
+        assertChangedShards(files, readShardFiles(), shard);
+        assertEquals(addressBook, readAddressBook());
+
+        // The files of replaced shards are deleted
+        assertEquals(SHARD_COUNT, Files.list(ShardedAddressBookStorage.getShardDirectory(filePath)).count());
+    }
+
+    @Test
+    public void readAddressBook_damagedShard_shardSkippedAndNotSavedOver() throws Exception {
+        AddressBook addressBook = getSampleAddressBook();
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(addressBook);
+        Path damagedFile = ShardedAddressBookStorage.getShardDirectory(filePath).resolve(readShardFiles().get(0));
+        byte[] bytes = Files.readAllBytes(damagedFile);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(damagedFile, bytes);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        ReadOnlyAddressBook read = storage.readAddressBook().get();
+        AddressBook expected = new AddressBook();
+        for (Patient patient : addressBook.getPatientList()) {
+            if (shardOf(addressBook, patient) != 0) {
+                expected.addPatient(new PatientBuilder(patient).build());
+            }
+        }
+        assertEquals(expected.getPatientList(), read.getPatientList());
+
+        // Nothing is saved over the damaged shard, so the patients in it are not lost
+        List<String> files = readShardFiles();
+        assertThrows(IOException.class, () -> storage.saveAddressBook(read));
+        assertEquals(files, readShardFiles());
+        assertTrue(Files.exists(damagedFile));
+
+        // The address book can still be saved to another file
+        Path otherFilePath = testFolder.resolve("other.json");
+        storage.saveAddressBook(read, otherFilePath);
+        assertEquals(expected.getPatientList(),
+                new ShardedAddressBookStorage(otherFilePath, SHARD_COUNT).readAddressBook().get().getPatientList());
+    }
+
+    @Test
+    public void readAddressBook_singleFile_splitIntoShardsWhenSaved() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARD_COUNT);
+        ReadOnlyAddressBook read = storage.readAddressBook().get();
+        assertEquals(addressBook, read);
+
+        storage.saveAddressBook(read);
+        assertEquals(SHARD_COUNT, readShardFiles().size());
+        assertTrue(BinaryAddressBookSnapshot.getGenerationFiles(BinaryAddressBookSnapshot.getFilePath(filePath))
+                .isEmpty());
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_differentShardCount_allShardsRewritten() throws Exception {
+        AddressBook addressBook = getSampleAddressBook();
+        new ShardedAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(addressBook);
+        Path shardDirectory = ShardedAddressBookStorage.getShardDirectory(filePath);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, 2);
+        storage.saveAddressBook(storage.readAddressBook().get());
+        assertEquals(2, readShardFiles().size());
+        assertEquals(2, Files.list(shardDirectory).count());
+        assertEquals(addressBook, readAddressBook());
+    }
+
+    @Test
+    public void positionsOf_previousPositions_keptWhereInOrder() {
+        List<Patient> patients = new ArrayList<>();
+        for (String name : List.of("A", "B", "C", "D")) {
+            patients.add(new PatientBuilder().withName(name).build());
+        }
+        Map<Name, Long> previous = new HashMap<>();
+        assertArrayEquals(new long[] {65536, 131072, 196608, 262144},
+                ShardedAddressBookStorage.positionsOf(patients, previous));
+
+        // New entries are spaced out between their neighbours, and an entry out of order is moved
+        previous.put(patients.get(0).getName(), 100L);
+        previous.put(patients.get(1).getName(), 50L);
+        previous.put(patients.get(3).getName(), 400L);
+        assertArrayEquals(new long[] {100, 200, 300, 400}, ShardedAddressBookStorage.positionsOf(patients, previous));
+
+        // Every position is reassigned when there is no room between two positions
+        previous.put(patients.get(3).getName(), 101L);
+        assertArrayEquals(new long[] {65536, 131072, 196608, 262144},
+                ShardedAddressBookStorage.positionsOf(patients, previous));
+    }
+
+    private void assertChangedShards(List<String> before, List<String> after, int... changedShards) {
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            int shard = i;
+            boolean isChanged = Arrays.stream(changedShards).anyMatch(changed -> changed == shard);
+            assertEquals(isChanged, !before.get(i).equals(after.get(i)), "shard " + i);
+        }
+    }
+
+    private List<String> readShardFiles() throws Exception {
+        List<String> files = new ArrayList<>();
+        for (JsonShardEntry entry : JsonUtil.readJsonFile(filePath, JsonAddressBookManifest.class).get().getShards()) {
+            files.add(entry.getFile());
+        }
+        return files;
+    }
+
+    private ReadOnlyAddressBook readAddressBook() throws Exception {
+        return new ShardedAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get();
+    }
+
+    private static int shardOf(ReadOnlyAddressBook addressBook, Patient patient) {
+        return ShardedAddressBookStorage.shardOf(addressBook.getPatientId(patient), SHARD_COUNT);
+    }
+}
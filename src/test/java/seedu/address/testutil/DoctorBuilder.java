@@ -10,7 +10,6 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.person.doctor.Doctor;
 import seedu.address.model.person.doctor.Specialty;
 import seedu.address.model.person.doctor.Yoe;
-import seedu.address.model.person.patient.Patient;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.util.LoaderUtil;
 
@@ -31,7 +30,6 @@ public class DoctorBuilder {
     private Specialty specialty;
     private Yoe yoe;
     private Set<Tag> tags;
-    private Set<Patient> patients;
 
     /**
      * Creates a {@code DoctorBuilder} with the default details.
@@ -43,7 +41,6 @@ public class DoctorBuilder {
         specialty = new Specialty(DEFAULT_SPECIALTY);
         yoe = new Yoe(DEFAULT_YOE);
         tags = new HashSet<>();
-        patients = new HashSet<>();
     }
 
     /**
@@ -56,7 +53,6 @@ public class DoctorBuilder {
         specialty = doctorToCopy.getSpecialty();
         yoe = doctorToCopy.getYoe();
         tags = new HashSet<>(doctorToCopy.getTags());
-        patients = new HashSet<>(doctorToCopy.getPatients());
     }
 
     /**
@@ -107,17 +103,8 @@ public class DoctorBuilder {
         return this;
     }
 
-    /**
-     * Adds the list of {@code Patient} to the patient list
-     * of the {@code Doctor} that we are building.
-     */
-    public DoctorBuilder withPatients(Patient ... patients) {
-        this.patients = LoaderUtil.getPatientSet(patients);
-        return this;
-    }
-
     public Doctor build() {
-        return new Doctor(name, phone, email, specialty, yoe, tags, patients);
+        return new Doctor(name, phone, email, specialty, yoe, tags);
     }
 
 }
@@ -39,7 +39,6 @@ public class EditDoctorDescriptorBuilder {
         descriptor.setSpecialty(doctor.getSpecialty());
         descriptor.setYoe(doctor.getYoe());
         descriptor.setTags(doctor.getTags());
-        descriptor.setPatients(doctor.getPatients());
     }
 
     /**
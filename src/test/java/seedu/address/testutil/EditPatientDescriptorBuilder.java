@@ -45,7 +45,6 @@ public class EditPatientDescriptorBuilder {
         descriptor.setStatus(patient.getStatus());
         descriptor.setRemark(patient.getRemark());
         descriptor.setTags(patient.getTags());
-        descriptor.setDoctors(patient.getDoctors());
     }
 
     /**
@@ -6,7 +6,6 @@ import java.util.Set;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
-import seedu.address.model.person.doctor.Doctor;
 import seedu.address.model.person.patient.Diagnosis;
 import seedu.address.model.person.patient.Height;
 import seedu.address.model.person.patient.Patient;
@@ -40,7 +39,6 @@ public class PatientBuilder {
     private Status status;
     private Remark remark;
     private Set<Tag> tags;
-    private Set<Doctor> doctors;
 
     /**
      * Creates a {@code PatientBuilder} with the default details.
@@ -55,7 +53,6 @@ public class PatientBuilder {
         status = new Status(DEFAULT_STATUS);
         remark = new Remark(DEFAULT_REMARK);
         tags = new HashSet<>();
-        doctors = new HashSet<>();
     }
 
     /**
@@ -71,7 +68,6 @@ public class PatientBuilder {
         status = patientToCopy.getStatus();
         remark = patientToCopy.getRemark();
         tags = new HashSet<>(patientToCopy.getTags());
-        doctors = new HashSet<>(patientToCopy.getDoctors());
     }
 
     /**
@@ -153,7 +149,7 @@ public class PatientBuilder {
      */
     public Patient build() {
         return new Patient(name, phone, email, height,
-                weight, diagnosis, status, remark, tags, doctors);
+                weight, diagnosis, status, remark, tags);
     }
 
 }
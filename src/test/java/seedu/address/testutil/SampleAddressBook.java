@@ -0,0 +1,35 @@
+package seedu.address.testutil;
+
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.doctor.Doctor;
+import seedu.address.model.person.patient.Patient;
+
+/**
+ * A utility class containing a small address book, with doctors Alice and Bob and patients Carl, Daisy and Ellen,
+ * to be used in tests. Alice is assigned Carl, Bob is assigned Carl and Daisy, and Ellen is unassigned.
+ */
+public class SampleAddressBook {
+
+    private SampleAddressBook() {} // prevents instantiation
+
+    /**
+     * Returns a new {@code AddressBook} with the sample doctors and patients.
+     */
+    public static AddressBook getSampleAddressBook() {
+        Doctor alice = new DoctorBuilder().withName("Alice").build();
+        Doctor bob = new DoctorBuilder().withName("Bob").build();
+        Patient carl = new PatientBuilder().withName("Carl").build();
+        Patient daisy = new PatientBuilder().withName("Daisy").build();
+        Patient ellen = new PatientBuilder().withName("Ellen").build();
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setDoctors(List.of(alice, bob));
+        addressBook.setPatients(List.of(carl, daisy, ellen));
+        addressBook.assignPatient(alice, carl);
+        addressBook.assignPatient(bob, carl);
+        addressBook.assignPatient(bob, daisy);
+        return addressBook;
+    }
+}
@@ -45,7 +45,7 @@ public class TypicalDoctors {
 
     public static final Doctor DANIEL = new DoctorBuilder().withName("Daniel Meier").withPhone("87652533")
             .withEmail("danielm@example.com").withSpecialty("Neurosurgery").withYoe("25")
-            .withTags("HoD").withPatients(ZAYDEN).build();
+            .withTags("HoD").build();
 
     // Manually added
     public static final Doctor ELLA = new DoctorBuilder().withName("Ella Belle").withPhone("87345633")
@@ -75,11 +75,10 @@ public class TypicalDoctors {
         AddressBook ab = new AddressBook();
         for (Doctor doctor : getTypicalDoctors()) {
             ab.addDoctor(doctor);
-            for (Patient patient : doctor.getPatients()) {
-                patient.assignDoctor(doctor);
-                ab.addPatient(patient);
-            }
         }
+        Patient assignedPatient = new PatientBuilder(ZAYDEN).build();
+        ab.addPatient(assignedPatient);
+        ab.assignPatient(DANIEL, assignedPatient);
         Patient unassignedPatient = getUnassignedPatient();
         ab.addPatient(unassignedPatient);
         return ab;